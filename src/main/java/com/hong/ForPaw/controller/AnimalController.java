@@ -4,6 +4,9 @@ import com.hong.ForPaw.controller.DTO.AnimalRequest;
 import com.hong.ForPaw.controller.DTO.AnimalResponse;
 import com.hong.ForPaw.core.security.CustomUserDetails;
 import com.hong.ForPaw.core.utils.ApiUtils;
+import com.hong.ForPaw.domain.Animal.AnimalFilter;
+import com.hong.ForPaw.domain.Animal.AnimalState;
+import com.hong.ForPaw.domain.Animal.Species;
 import com.hong.ForPaw.service.AnimalService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -20,15 +23,69 @@ public class AnimalController {
 
     private final AnimalService animalService;
 
+    private static final String DISTANCE_SORT = "distance";
+
     @GetMapping("/animals/import")
     public ResponseEntity<?> loadAnimals() {
         animalService.loadAnimalData();
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, null));
     }
 
+    @GetMapping("/animals/import/runs")
+    public ResponseEntity<?> findImportRunList(@RequestParam(value = "size", defaultValue = "10") Integer size, @AuthenticationPrincipal CustomUserDetails userDetails){
+        AnimalResponse.FindImportRunListDTO responseDTO = animalService.findImportRunList(size, userDetails.getUser().getRole());
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    // page가 있으면 기존 오프셋 방식, 없으면 cursor(첫 페이지는 생략)로 이어서 조회
+    // sort=distance면 사용자의 지역에서 가까운 보호소 순 (커서 방식만 지원)
     @GetMapping("/animals")
-    public ResponseEntity<?> findAnimalList(@RequestParam("page") Integer page, @RequestParam("size") Integer size, @RequestParam("sort") String sort, @AuthenticationPrincipal CustomUserDetails userDetails){
-        AnimalResponse.FindAnimalListDTO responseDTO = animalService.findAnimalList(page, size, sort, userDetails.getUser().getId());
+    public ResponseEntity<?> findAnimalList(@RequestParam(value = "page", required = false) Integer page, @RequestParam(value = "cursor", required = false) String cursor, @RequestParam("size") Integer size, @RequestParam("sort") String sort, @AuthenticationPrincipal CustomUserDetails userDetails){
+        if (DISTANCE_SORT.equals(sort)) {
+            AnimalResponse.FindAnimalListDTO responseDTO = animalService.findAnimalListByDistance(cursor, size, userDetails.getUser().getId());
+            return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+        }
+
+        AnimalResponse.FindAnimalListDTO responseDTO = page != null
+                ? animalService.findAnimalList(page, size, sort, userDetails.getUser().getId())
+                : animalService.findAnimalListByCursor(cursor, size, sort, userDetails.getUser().getId());
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    // 주어지지 않은 조건은 무시, 성별(M/F/Q)과 중성화 여부(Y/N/U)는 공공데이터 코드 그대로 사용
+    @GetMapping("/animals/filter")
+    public ResponseEntity<?> findAnimalListByFilter(@RequestParam(value = "species", required = false) Species species,
+                                                    @RequestParam(value = "breedId", required = false) Long breedId,
+                                                    @RequestParam(value = "minBirthYear", required = false) Integer minBirthYear,
+                                                    @RequestParam(value = "maxBirthYear", required = false) Integer maxBirthYear,
+                                                    @RequestParam(value = "uprCd", required = false) Integer uprCd,
+                                                    @RequestParam(value = "orgCd", required = false) Integer orgCd,
+                                                    @RequestParam(value = "gender", required = false) String gender,
+                                                    @RequestParam(value = "neuter", required = false) String neuter,
+                                                    @RequestParam(value = "state", required = false) AnimalState state,
+                                                    @RequestParam(value = "cursor", required = false) String cursor,
+                                                    @RequestParam("size") Integer size,
+                                                    @AuthenticationPrincipal CustomUserDetails userDetails){
+        AnimalFilter filter = new AnimalFilter(species, breedId, minBirthYear, maxBirthYear, uprCd, orgCd, gender, neuter, state);
+        AnimalResponse.FindAnimalListDTO responseDTO = animalService.findAnimalListByFilter(filter, cursor, size, userDetails.getUser().getId());
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    @GetMapping("/animals/recommend")
+    public ResponseEntity<?> findRecommendAnimalList(@RequestParam(value = "size", defaultValue = "10") Integer size, @AuthenticationPrincipal CustomUserDetails userDetails){
+        AnimalResponse.FindAnimalListDTO responseDTO = animalService.findRecommendAnimalList(size, userDetails.getUser().getId());
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    @GetMapping("/animals/facets")
+    public ResponseEntity<?> findAnimalFacetList(@RequestParam(value = "uprCd", required = false) Integer uprCd){
+        AnimalResponse.FindAnimalFacetListDTO responseDTO = animalService.findAnimalFacetList(uprCd);
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    @GetMapping("/animals/breeds")
+    public ResponseEntity<?> findBreedList(@RequestParam("species") Species species){
+        AnimalResponse.FindBreedListDTO responseDTO = animalService.findBreedList(species);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
@@ -0,0 +1,41 @@
+package com.hong.ForPaw.controller;
+
+import com.hong.ForPaw.controller.DTO.CounterResponse;
+import com.hong.ForPaw.core.security.CustomUserDetails;
+import com.hong.ForPaw.core.utils.ApiUtils;
+import com.hong.ForPaw.service.CounterLayoutService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class CounterController {
+
+    private final CounterLayoutService counterLayoutService;
+
+    @PostMapping("/counters/migrate")
+    public ResponseEntity<?> migrateCounters(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        CounterResponse.MigrateDTO responseDTO = counterLayoutService.startMigrate(userDetails.getUser().getRole());
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    @GetMapping("/counters/migrate")
+    public ResponseEntity<?> findMigrateStatus(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        CounterResponse.MigrateDTO responseDTO = counterLayoutService.findMigrateStatus(userDetails.getUser().getRole());
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+
+    @PostMapping("/counters/benchmark")
+    public ResponseEntity<?> benchmarkCounters(@RequestParam(value = "num", defaultValue = "1000") Integer num, @AuthenticationPrincipal CustomUserDetails userDetails) {
+        CounterResponse.BenchmarkDTO responseDTO = counterLayoutService.benchmark(num, userDetails.getUser().getRole());
+        return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
+    }
+}
@@ -1,16 +1,33 @@
 package com.hong.ForPaw.controller.DTO;
 
+import com.hong.ForPaw.domain.Animal.AnimalState;
+import com.hong.ForPaw.domain.Animal.Species;
 import com.hong.ForPaw.domain.Apply.Status;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 public class AnimalResponse {
 
-    public record FindAnimalListDTO(List<AnimalDTO> animals) {}
+    public record FindAnimalListDTO(List<AnimalDTO> animals, String nextCursor) {}
 
     public record FindLikeAnimalListDTO(List<AnimalDTO> animals) {}
 
+    public record FindBreedListDTO(List<BreedDTO> breeds) {}
+
+    public record BreedDTO(Long id, String name) {}
+
+    public record FindAnimalFacetListDTO(List<RegionFacetDTO> regions) {}
+
+    public record RegionFacetDTO(Integer uprCd,
+                                 String regionName,
+                                 Long total,
+                                 Map<Species, Long> species,
+                                 Map<String, Long> gender,
+                                 Map<AnimalState, Long> state) {}
+
     public record AnimalDTO(Long id,
                             String name,
                             String age,
@@ -52,4 +69,34 @@ public class AnimalResponse {
                            String tel,
                            String residence,
                            Status status){ }
-}
+
+    public record FindImportRunListDTO(List<ImportRunDTO> runs) {}
+
+    public record ImportRunDTO(String feed,
+                               String runId,
+                               LocalDateTime startedAt,
+                               LocalDateTime finishedAt,
+                               Long durationMs,
+                               Integer shelterNum,
+                               Integer failedShelterNum,
+                               Long fetchNum,
+                               Long bytes,
+                               Long itemNum,
+                               Long insertedNum,
+                               Long updatedNum,
+                               Long removedNum,
+                               Long parseErrorNum,
+                               Long dbWriteMs,
+                               List<ShelterImportDTO> shelters) {}
+
+    public record ShelterImportDTO(Long careRegNo,
+                                   Long fetchNum,
+                                   Long fetchMs,
+                                   Long bytes,
+                                   Long itemNum,
+                                   Long insertedNum,
+                                   Long updatedNum,
+                                   Long removedNum,
+                                   Long dbWriteMs,
+                                   String error) {}
+}
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.hong.ForPaw.controller.DTO;
+
+import java.util.List;
+
+// sigungu_centroid.json => 시군구 코드별 중심 좌표
+public record CentroidsDTO(List<CentroidDTO> centroids) {
+
+    public record CentroidDTO(Integer orgCd, Double lat, Double lng) { }
+}
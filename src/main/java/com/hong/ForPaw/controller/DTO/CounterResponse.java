@@ -0,0 +1,25 @@
+package com.hong.ForPaw.controller.DTO;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class CounterResponse {
+
+    public record MigrateDTO(String state,
+                             Long migratedNum,
+                             LocalDateTime startedAt,
+                             LocalDateTime finishedAt,
+                             String error) {}
+
+    public record BenchmarkDTO(Integer counterNum, List<LayoutResultDTO> results) {}
+
+    public record LayoutResultDTO(String layout,
+                                  String idPattern,
+                                  Long memoryBytes,
+                                  Double bytesPerCounter,
+                                  Double loadMillis,
+                                  Double incrementP50Micros,
+                                  Double incrementP99Micros,
+                                  Double pageReadP50Micros,
+                                  Double pageReadP99Micros) {}
+}
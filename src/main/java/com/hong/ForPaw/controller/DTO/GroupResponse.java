@@ -19,9 +19,9 @@ public class GroupResponse {
                                       List<LocalGroupDTO> localGroups,
                                       List<MyGroupDTO> myGroups) {}
 
-    public record FindLocalGroupListDTO(List<LocalGroupDTO> localGroups) {}
+    public record FindLocalGroupListDTO(List<LocalGroupDTO> localGroups, String nextCursor) {}
 
-    public record FindNewGroupListDTO(List<NewGroupDTO> newGroups) {}
+    public record FindNewGroupListDTO(List<NewGroupDTO> newGroups, String nextCursor) {}
 
     public record FindMyGroupListDTO(List<MyGroupDTO> myGroups) {}
 
@@ -69,9 +69,9 @@ public class GroupResponse {
                                          List<MeetingDTO> meetings,
                                          List<MemberDTO> members) {}
 
-    public record FindNoticeListDTO(List<NoticeDTO> notices) {}
+    public record FindNoticeListDTO(List<NoticeDTO> notices, String nextCursor) {}
 
-    public record FindMeetingListDTO(List<MeetingDTO> meetings) {}
+    public record FindMeetingListDTO(List<MeetingDTO> meetings, String nextCursor) {}
 
     public record NoticeDTO(Long id,
                             String name,
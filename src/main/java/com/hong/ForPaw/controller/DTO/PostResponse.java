@@ -11,11 +11,11 @@ public class PostResponse {
 
     public record FindAllPostDTO(List<PostDTO> adoptions, List<PostDTO> protections, List<QnaDTO> questions) {}
 
-    public record FindAdoptionPostListDTO(List<PostDTO> adoptions) {}
+    public record FindAdoptionPostListDTO(List<PostDTO> adoptions, String nextCursor) {}
 
-    public record FindProtectionPostListDTO(List<PostDTO> protections) {}
+    public record FindProtectionPostListDTO(List<PostDTO> protections, String nextCursor) {}
 
-    public record FindQnaPostListDTO(List<QnaDTO> questions) {}
+    public record FindQnaPostListDTO(List<QnaDTO> questions, String nextCursor) {}
 
     public record PostDTO(Long id,
                           String name,
@@ -7,11 +7,11 @@ public class SearchResponse {
 
     public record SearchAllDTO(List<ShelterDTO> shelters, List<PostDTO> posts, List<GroupDTO> groups) {}
 
-    public record SearchShelterListDTO(List<ShelterDTO> shelters) {}
+    public record SearchShelterListDTO(List<ShelterDTO> shelters, String nextCursor) {}
 
-    public record SearchPostListDTO(List<PostDTO> posts) {}
+    public record SearchPostListDTO(List<PostDTO> posts, String nextCursor) {}
 
-    public record SearchGroupListDTO(List<GroupDTO> groups) {}
+    public record SearchGroupListDTO(List<GroupDTO> groups, String nextCursor) {}
 
     public record ShelterDTO(Long id, String name) {}
 
@@ -8,7 +8,8 @@ public class ShelterResponse {
 
     public record FindShelterByIdDTO(String careAddr,
                                      String careTel,
-                                     List<AnimalDTO> animals) {}
+                                     List<AnimalDTO> animals,
+                                     String nextCursor) {}
 
     public record AnimalDTO(Long id,
                             String name,
@@ -22,5 +23,6 @@ public class ShelterResponse {
                             String profileURL
     ){};
 
-    public record ShelterDTO(Long id, String name) {}
+    // distance는 거리순 조회일 때만 채워짐 (km)
+    public record ShelterDTO(Long id, String name, Double distance) {}
 }
@@ -45,14 +45,18 @@ public class GroupController {
     }
 
     @GetMapping("/groups/local")
-    public ResponseEntity<?> findLocalGroupList(@RequestParam("region") String region, @RequestParam("page") Integer page, @RequestParam("size") Integer size, @AuthenticationPrincipal CustomUserDetails userDetails){
-        GroupResponse.FindLocalGroupListDTO responseDTO = groupService.findLocalGroupList(userDetails.getUser().getId(), region, page, size);
+    public ResponseEntity<?> findLocalGroupList(@RequestParam("region") String region, @RequestParam(value = "page", required = false) Integer page, @RequestParam(value = "cursor", required = false) String cursor, @RequestParam("size") Integer size, @AuthenticationPrincipal CustomUserDetails userDetails){
+        GroupResponse.FindLocalGroupListDTO responseDTO = page != null
+                ? groupService.findLocalGroupList(userDetails.getUser().getId(), region, page, size)
+                : groupService.findLocalGroupListByCursor(userDetails.getUser().getId(), region, cursor, size);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
     @GetMapping("/groups/new")
-    public ResponseEntity<?> findNewGroupList(@RequestParam("page") Integer page, @RequestParam("size") Integer size, @AuthenticationPrincipal CustomUserDetails userDetails){
-        GroupResponse.FindNewGroupListDTO responseDTO = groupService.findNewGroupList(userDetails.getUser().getId(), page, size);
+    public ResponseEntity<?> findNewGroupList(@RequestParam(value = "page", required = false) Integer page, @RequestParam(value = "cursor", required = false) String cursor, @RequestParam("size") Integer size, @AuthenticationPrincipal CustomUserDetails userDetails){
+        GroupResponse.FindNewGroupListDTO responseDTO = page != null
+                ? groupService.findNewGroupList(userDetails.getUser().getId(), page, size)
+                : groupService.findNewGroupListByCursor(userDetails.getUser().getId(), cursor, size);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
@@ -69,14 +73,18 @@ public class GroupController {
     }
 
     @GetMapping("/groups/{groupId}/notices")
-    public ResponseEntity<?> findNoticeList(@PathVariable Long groupId, @AuthenticationPrincipal CustomUserDetails userDetails, @RequestParam("page") Integer page, @RequestParam("size") Integer size){
-        GroupResponse.FindNoticeListDTO responseDTO = groupService.findNoticeList(userDetails.getUser().getId(), groupId, page, size);
+    public ResponseEntity<?> findNoticeList(@PathVariable Long groupId, @AuthenticationPrincipal CustomUserDetails userDetails, @RequestParam(value = "page", required = false) Integer page, @RequestParam(value = "cursor", required = false) String cursor, @RequestParam("size") Integer size){
+        GroupResponse.FindNoticeListDTO responseDTO = page != null
+                ? groupService.findNoticeList(userDetails.getUser().getId(), groupId, page, size)
+                : groupService.findNoticeListByCursor(userDetails.getUser().getId(), groupId, cursor, size);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
     @GetMapping("/groups/{groupId}/meetings")
-    public ResponseEntity<?> findMeetingList(@PathVariable Long groupId, @RequestParam("page") Integer page, @RequestParam("size") Integer size, @AuthenticationPrincipal CustomUserDetails userDetails){
-        GroupResponse.FindMeetingListDTO responseDTO = groupService.findMeetingList(userDetails.getUser().getId(), groupId, page, size);
+    public ResponseEntity<?> findMeetingList(@PathVariable Long groupId, @RequestParam(value = "page", required = false) Integer page, @RequestParam(value = "cursor", required = false) String cursor, @RequestParam("size") Integer size, @AuthenticationPrincipal CustomUserDetails userDetails){
+        GroupResponse.FindMeetingListDTO responseDTO = page != null
+                ? groupService.findMeetingList(userDetails.getUser().getId(), groupId, page, size)
+                : groupService.findMeetingListByCursor(userDetails.getUser().getId(), groupId, cursor, size);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
@@ -39,20 +39,26 @@ public class PostController {
     }
 
     @GetMapping("/posts/adoption")
-    public ResponseEntity<?> findAdoptionPostList(@RequestParam("page") Integer page, @RequestParam("size") Integer size, @RequestParam("sort") String sort){
-        PostResponse.FindAdoptionPostListDTO responseDTO = postService.findAdoptionPostList(page, size, sort);
+    public ResponseEntity<?> findAdoptionPostList(@RequestParam(value = "page", required = false) Integer page, @RequestParam(value = "cursor", required = false) String cursor, @RequestParam("size") Integer size, @RequestParam(value = "sort", defaultValue = "id") String sort){
+        PostResponse.FindAdoptionPostListDTO responseDTO = page != null
+                ? postService.findAdoptionPostList(page, size, sort)
+                : postService.findAdoptionPostListByCursor(cursor, size);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
     @GetMapping("/posts/protection")
-    public ResponseEntity<?> findProtectionPostList(@RequestParam("page") Integer page, @RequestParam("size") Integer size, @RequestParam("sort") String sort){
-        PostResponse.FindProtectionPostListDTO responseDTO = postService.findProtectionPostList(page, size, sort);
+    public ResponseEntity<?> findProtectionPostList(@RequestParam(value = "page", required = false) Integer page, @RequestParam(value = "cursor", required = false) String cursor, @RequestParam("size") Integer size, @RequestParam(value = "sort", defaultValue = "id") String sort){
+        PostResponse.FindProtectionPostListDTO responseDTO = page != null
+                ? postService.findProtectionPostList(page, size, sort)
+                : postService.findProtectionPostListByCursor(cursor, size);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
     @GetMapping("/posts/question")
-    public ResponseEntity<?> findQuestionPostList(@RequestParam("page") Integer page, @RequestParam("size") Integer size, @RequestParam("sort") String sort){
-        PostResponse.FindQnaPostListDTO responseDTO = postService.findQuestionPostList(page, size, sort);
+    public ResponseEntity<?> findQuestionPostList(@RequestParam(value = "page", required = false) Integer page, @RequestParam(value = "cursor", required = false) String cursor, @RequestParam("size") Integer size, @RequestParam(value = "sort", defaultValue = "id") String sort){
+        PostResponse.FindQnaPostListDTO responseDTO = page != null
+                ? postService.findQuestionPostList(page, size, sort)
+                : postService.findQuestionPostListByCursor(cursor, size);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
@@ -11,8 +11,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.io.IOException;
-
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api")
@@ -21,7 +19,7 @@ public class RegionCodeController {
     private final RegionCodeService regionCodeService;
 
     @GetMapping("/regionCodes/import")
-    public ResponseEntity<?> loadRegionCode(@AuthenticationPrincipal CustomUserDetails userDetails) throws IOException {
+    public ResponseEntity<?> loadRegionCode(@AuthenticationPrincipal CustomUserDetails userDetails) {
         regionCodeService.loadRegionCodeData(userDetails.getUser().getRole());
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, null));
     }
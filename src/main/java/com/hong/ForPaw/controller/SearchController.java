@@ -25,20 +25,26 @@ public class SearchController {
     }
 
     @GetMapping("/search/shelters")
-    public ResponseEntity<?> searchShelterList(@RequestParam String keyword, @RequestParam Integer page, @RequestParam Integer size){
-        SearchResponse.SearchShelterListDTO responseDTO = searchService.searchShelterList(keyword, page, size);
+    public ResponseEntity<?> searchShelterList(@RequestParam String keyword, @RequestParam(required = false) Integer page, @RequestParam(required = false) String cursor, @RequestParam Integer size){
+        SearchResponse.SearchShelterListDTO responseDTO = page != null
+                ? searchService.searchShelterList(keyword, page, size)
+                : searchService.searchShelterListByCursor(keyword, cursor, size);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
     @GetMapping("/search/posts")
-    public ResponseEntity<?> searchPostList(@RequestParam String keyword, @RequestParam Integer page, @RequestParam Integer size){
-        SearchResponse.SearchPostListDTO responseDTO = searchService.searchPostList(keyword, page, size);
+    public ResponseEntity<?> searchPostList(@RequestParam String keyword, @RequestParam(required = false) Integer page, @RequestParam(required = false) String cursor, @RequestParam Integer size){
+        SearchResponse.SearchPostListDTO responseDTO = page != null
+                ? searchService.searchPostList(keyword, page, size)
+                : searchService.searchPostListByCursor(keyword, cursor, size);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
     @GetMapping("/search/groups")
-    public ResponseEntity<?> searchGroupList(@RequestParam String keyword, @RequestParam Integer page, @RequestParam Integer size){
-        SearchResponse.SearchGroupListDTO responseDTO = searchService.searchGroupList(keyword, page, size);
+    public ResponseEntity<?> searchGroupList(@RequestParam String keyword, @RequestParam(required = false) Integer page, @RequestParam(required = false) String cursor, @RequestParam Integer size){
+        SearchResponse.SearchGroupListDTO responseDTO = page != null
+                ? searchService.searchGroupList(keyword, page, size)
+                : searchService.searchGroupListByCursor(keyword, cursor, size);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 }
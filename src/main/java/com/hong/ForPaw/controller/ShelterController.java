@@ -19,21 +19,28 @@ public class ShelterController {
 
     private final ShelterService shelterService;
 
+    private static final String DISTANCE_SORT = "distance";
+
     @GetMapping("/shelters/import")
     public ResponseEntity<?> loadShelter(@AuthenticationPrincipal CustomUserDetails userDetails) {
         shelterService.loadShelterData();
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, null));
     }
 
+    // sort=distance면 사용자의 지역에서 가까운 순
     @GetMapping("/shelters")
-    public ResponseEntity<?> findShelterList(Pageable pageable){
-        ShelterResponse.FindShelterListDTO responseDTO = shelterService.findShelterList(pageable);
+    public ResponseEntity<?> findShelterList(Pageable pageable, @AuthenticationPrincipal CustomUserDetails userDetails){
+        ShelterResponse.FindShelterListDTO responseDTO = pageable.getSort().getOrderFor(DISTANCE_SORT) != null
+                ? shelterService.findShelterListByDistance(userDetails.getUser().getId(), pageable.getPageNumber(), pageable.getPageSize())
+                : shelterService.findShelterList(pageable);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.CREATED, responseDTO));
     }
 
     @GetMapping("/shelters/{shelterId}")
-    public ResponseEntity<?> findShelterById(@PathVariable Long shelterId, @RequestParam("page") Integer page, @RequestParam("size") Integer size, @RequestParam("sort") String sort, @AuthenticationPrincipal CustomUserDetails userDetails){
-        ShelterResponse.FindShelterByIdDTO responseDTO = shelterService.findShelterById(shelterId, userDetails.getUser().getId(), page, size, sort);
+    public ResponseEntity<?> findShelterById(@PathVariable Long shelterId, @RequestParam(value = "page", required = false) Integer page, @RequestParam(value = "cursor", required = false) String cursor, @RequestParam("size") Integer size, @RequestParam("sort") String sort, @AuthenticationPrincipal CustomUserDetails userDetails){
+        ShelterResponse.FindShelterByIdDTO responseDTO = page != null
+                ? shelterService.findShelterById(shelterId, userDetails.getUser().getId(), page, size, sort)
+                : shelterService.findShelterByIdByCursor(shelterId, userDetails.getUser().getId(), cursor, size, sort);
         return ResponseEntity.ok().body(ApiUtils.success(HttpStatus.OK, responseDTO));
     }
 
@@ -1,20 +1,31 @@
 package com.hong.ForPaw.core.config;
 
 import com.hong.ForPaw.service.BrokerService;
+import com.hong.ForPaw.service.RegionCodeService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.ApplicationListener;
 import org.springframework.stereotype.Component;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class AppStartupListener implements ApplicationListener<ApplicationReadyEvent> {
 
     private final BrokerService brokerService;
+    private final RegionCodeService regionCodeService;
 
     @Override
     public void onApplicationEvent(ApplicationReadyEvent event) {
         brokerService.initChatListener();
         brokerService.initAlarmListener();
+
+        // 지역 코드가 비어있는 사용자/그룹 채우기 => 실패해도 서버는 뜨고, 조회는 이름 비교로 동작
+        try {
+            regionCodeService.backfillRegionCodes();
+        } catch (RuntimeException e) {
+            log.warn("지역 코드 채우기 실패: {}", e.toString());
+        }
     }
 }
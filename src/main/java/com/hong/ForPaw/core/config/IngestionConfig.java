@@ -0,0 +1,19 @@
+package com.hong.ForPaw.core.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class IngestionConfig {
+
+    // 수집 중 DB 작업 전용 스레드 => 블로킹 JDBC 호출이 이벤트 루프 스레드에서 실행되지 않도록 분리
+    // 스레드 수는 커넥션 풀 크기보다 작게 두어, 수집 중에도 API 요청이 사용할 커넥션을 남겨둔다
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(@Value("${ingestion.jdbc-threads:4}") int jdbcThreads,
+                                   @Value("${ingestion.jdbc-queue-size:1000}") int jdbcQueueSize) {
+        return Schedulers.newBoundedElastic(jdbcThreads, jdbcQueueSize, "ingestion-jdbc");
+    }
+}
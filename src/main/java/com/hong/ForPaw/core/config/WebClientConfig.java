@@ -5,8 +5,11 @@ import io.netty.channel.ChannelOption;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.handler.timeout.WriteTimeoutHandler;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.core.io.buffer.DataBufferFactory;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
 import org.springframework.http.client.reactive.ClientHttpConnector;
@@ -15,6 +18,8 @@ import org.springframework.http.client.reactive.ReactorResourceFactory;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
 
 import java.time.Duration;
 import java.util.function.Function;
@@ -30,6 +35,7 @@ public class WebClientConfig {
     }
 
     @Bean
+    @Primary
     public WebClient webClient() {
         // 1MB
         int bufferSize = 1 * 1024 * 1024;
@@ -52,4 +58,34 @@ public class WebClientConfig {
                 .clientConnector(connector)
                 .build();
     }
+
+    // 공공데이터 수집 전용 이벤트 루프와 커넥션 풀 => 대량 수집 중에도 OAuth 등 다른 WebClient 요청이 영향을 받지 않도록 분리
+    @Bean(destroyMethod = "dispose")
+    public LoopResources openAPILoopResources() {
+        return LoopResources.create("openapi", 2, true);
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider openAPIConnectionProvider(@Value("${openAPI.max-in-flight:8}") int maxInFlight) {
+        return ConnectionProvider.builder("openapi")
+                .maxConnections(maxInFlight)
+                .pendingAcquireTimeout(Duration.ofSeconds(60))
+                .build();
+    }
+
+    @Bean
+    public WebClient openAPIWebClient(@Qualifier("openAPILoopResources") LoopResources loopResources,
+                                      @Qualifier("openAPIConnectionProvider") ConnectionProvider connectionProvider) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .runOn(loopResources)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, 100000)
+                .doOnConnected(connection ->
+                        connection.addHandlerLast(new ReadTimeoutHandler(60))
+                                .addHandlerLast(new WriteTimeoutHandler(60)))
+                .responseTimeout(Duration.ofSeconds(60));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
 }
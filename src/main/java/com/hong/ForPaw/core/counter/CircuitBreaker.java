@@ -0,0 +1,71 @@
+package com.hong.ForPaw.core.counter;
+
+// 연속 실패가 failureThreshold번 쌓이면 열림(OPEN) => openMillis 동안은 호출하지 않고 바로 실패 처리
+// 그 뒤 한 번만 시험 호출(HALF_OPEN)을 허용해서, 성공하면 닫고(CLOSED) 실패하면 다시 연다
+// 시험 호출이 성공/실패를 판단할 수 없이 끝나면(Redis와 무관한 예외, 인터럽트) release로 돌려놓아 다음 호출이 다시 시험하게 함
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final int failureThreshold;
+    private final long openNanos;
+
+    // 닫혀 있고 실패가 쌓이지 않았을 때는 락 없이 통과 (대부분의 호출), 값을 바꾸는 것은 락 안에서만
+    private volatile State state = State.CLOSED;
+    private volatile int failures;
+    private long openedAt;
+    private Thread prober;
+
+    public CircuitBreaker(int failureThreshold, long openMillis) {
+        this.failureThreshold = failureThreshold;
+        this.openNanos = openMillis * 1_000_000L;
+    }
+
+    public boolean tryAcquire() {
+        if (state == State.CLOSED) return true;
+
+        synchronized (this) {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                state = State.HALF_OPEN;
+                prober = null;
+            }
+
+            if (state == State.HALF_OPEN && prober == null) {
+                prober = Thread.currentThread();
+                return true;
+            }
+
+            return state == State.CLOSED;
+        }
+    }
+
+    public void recordSuccess() {
+        if (state == State.CLOSED && failures == 0) return;
+
+        synchronized (this) {
+            failures = 0;
+            prober = null;
+            state = State.CLOSED;
+        }
+    }
+
+    public synchronized void recordFailure() {
+        if (state == State.HALF_OPEN || ++failures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+            failures = 0;
+            prober = null;
+        }
+    }
+
+    // 이 스레드가 시험 호출 중이었다면 결과 없이 되돌림 (상태는 그대로)
+    public synchronized void release() {
+        if (prober == Thread.currentThread()) {
+            prober = null;
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,33 @@
+package com.hong.ForPaw.core.counter;
+
+import com.hong.ForPaw.domain.CounterType;
+
+// 카운터를 Redis에 저장하는 방식
+// STRING: 카운터 하나가 키 하나 (postLikeNum:123) => 키마다 붙는 오버헤드(dictEntry, redisObject, 키 문자열)가 값보다 훨씬 큼
+// HASH: id를 bucketSize개씩 묶어서 작은 Hash 하나에 저장 (cnt:postLikeNum:0 의 필드 123)
+//       필드 수가 hash-max-listpack-entries(기본 128) 이하면 Redis가 listpack으로 압축해서 저장 => 카운터당 수 바이트
+public enum CounterLayout {
+
+    STRING {
+        @Override
+        public Location locate(CounterType type, Long id, int bucketSize) {
+            return new Location(type.name() + ":" + id, null);
+        }
+    },
+    HASH {
+        @Override
+        public Location locate(CounterType type, Long id, int bucketSize) {
+            return new Location("cnt:" + type.name() + ":" + Math.floorDiv(id, bucketSize), String.valueOf(Math.floorMod(id, bucketSize)));
+        }
+    };
+
+    public abstract Location locate(CounterType type, Long id, int bucketSize);
+
+    // field가 null이면 문자열 키, 아니면 Hash의 필드
+    public record Location(String key, String field) {
+
+        public Location withPrefix(String prefix) {
+            return new Location(prefix + key, field);
+        }
+    }
+}
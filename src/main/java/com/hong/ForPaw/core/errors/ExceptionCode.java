@@ -36,6 +36,7 @@ public enum ExceptionCode {
     ANIMAL_ALREADY_APPLY(HttpStatus.BAD_REQUEST, "이미 지원하였습니다."),
     APPLY_NOT_FOUND(HttpStatus.BAD_REQUEST, "지원서가 존재하지 않습니다."),
     SHELTER_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 보호소를 찾을 수 없습니다."),
+    REGION_NOT_FOUND(HttpStatus.NOT_FOUND, "지역 정보를 찾을 수 없습니다."),
 
     // 그룹 관련 에러
     GROUP_NAME_EXIST(HttpStatus.BAD_REQUEST, "이미 존재하는 이름입니다."),
@@ -67,6 +68,11 @@ public enum ExceptionCode {
     // 잘못된 접근
     BAD_APPROACH(HttpStatus.BAD_REQUEST, "잘못된 접근입니다."),
     EXCEED_REQUEST_NUM(HttpStatus.BAD_REQUEST, "가능한 요청 횟수를 초과하였습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서입니다."),
+    COUNTER_LAYOUT_NOT_HASH(HttpStatus.BAD_REQUEST, "카운터 저장 방식이 hash일 때만 옮길 수 있습니다."),
+    COUNTER_MIGRATE_RUNNING(HttpStatus.BAD_REQUEST, "카운터 저장 방식 변경이 이미 진행 중입니다."),
+    COUNTER_MIGRATE_CLUSTER_UNSUPPORTED(HttpStatus.BAD_REQUEST, "Redis Cluster에서는 카운터 저장 방식을 옮길 수 없습니다."),
+    COUNTER_BENCHMARK_NUM_INVALID(HttpStatus.BAD_REQUEST, "벤치마크 카운터 수는 1 이상 10000 이하여야 합니다."),
 
     // 검색
     SEARCH_NOT_FOUND(HttpStatus.NOT_FOUND, "검색 결과값이 존재하지 않습니다");
@@ -0,0 +1,100 @@
+package com.hong.ForPaw.core.geo;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// 위경도를 cellDegree 크기의 격자로 나눠서 항목을 보관하는 읽기 전용 공간 색인
+// 가까운 항목 조회는 기준점의 칸에서 시작해 한 겹씩 넓혀가며, 더 바깥 칸이 현재 후보보다 가까울 수 없으면 멈춘다
+public class SpatialGrid<T> {
+
+    // 위도 1도는 약 111km, 경도 1도는 한반도(위도 33~39도)에서 최소 약 86km => 칸 한 겹의 최소 폭을 보수적으로 잡음
+    private static final double MIN_KM_PER_DEGREE = 85.0;
+
+    private final double cellDegree;
+    private final Function<T, GeoPoint> locator;
+    private final Map<Long, List<T>> cells = new HashMap<>();
+    private final int minRow, maxRow, minCol, maxCol;
+    private final int size;
+
+    public SpatialGrid(List<T> items, Function<T, GeoPoint> locator, double cellDegree) {
+        this.cellDegree = cellDegree;
+        this.locator = locator;
+
+        int minRow = Integer.MAX_VALUE, maxRow = Integer.MIN_VALUE, minCol = Integer.MAX_VALUE, maxCol = Integer.MIN_VALUE;
+        for (T item : items) {
+            GeoPoint point = locator.apply(item);
+            int row = row(point), col = col(point);
+            cells.computeIfAbsent(cellKey(row, col), key -> new ArrayList<>()).add(item);
+
+            minRow = Math.min(minRow, row);
+            maxRow = Math.max(maxRow, row);
+            minCol = Math.min(minCol, col);
+            maxCol = Math.max(maxCol, col);
+        }
+
+        this.minRow = minRow;
+        this.maxRow = maxRow;
+        this.minCol = minCol;
+        this.maxCol = maxCol;
+        this.size = items.size();
+    }
+
+    // origin에서 가까운 순으로 최대 limit개
+    public List<T> nearest(GeoPoint origin, int limit) {
+        List<T> found = new ArrayList<>();
+        if (size == 0 || limit <= 0) return found;
+
+        Comparator<T> byDistance = Comparator.comparingDouble(item -> origin.distanceKm(locator.apply(item)));
+        int originRow = row(origin), originCol = col(origin);
+
+        // 기준점이 격자 밖에 있어도 항목이 있는 모든 칸에 닿을 때까지 넓힘
+        int ringLimit = Math.max(Math.max(Math.abs(originRow - minRow), Math.abs(originRow - maxRow)),
+                Math.max(Math.abs(originCol - minCol), Math.abs(originCol - maxCol)));
+        for (int ring = 0; ring <= ringLimit && found.size() < size; ring++) {
+            collectRing(originRow, originCol, ring, found);
+
+            if (found.size() >= limit) {
+                found.sort(byDistance);
+
+                // 다음 겹의 칸은 적어도 ring * 칸 크기만큼 떨어져 있음 => limit번째 후보보다 멀면 더 볼 필요 없음
+                double nextRingMinKm = ring * cellDegree * MIN_KM_PER_DEGREE;
+                if (origin.distanceKm(locator.apply(found.get(limit - 1))) <= nextRingMinKm) break;
+            }
+        }
+
+        found.sort(byDistance);
+        return found.size() > limit ? new ArrayList<>(found.subList(0, limit)) : found;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 기준 칸에서 ring만큼 떨어진 테두리 칸들의 항목
+    private void collectRing(int originRow, int originCol, int ring, List<T> found) {
+        for (int row = originRow - ring; row <= originRow + ring; row++) {
+            boolean edgeRow = row == originRow - ring || row == originRow + ring;
+            for (int col = originCol - ring; col <= originCol + ring; col += edgeRow ? 1 : 2 * ring) {
+                List<T> cell = cells.get(cellKey(row, col));
+                if (cell != null) found.addAll(cell);
+                if (ring == 0) break;
+            }
+        }
+    }
+
+    private int row(GeoPoint point) {
+        return (int) Math.floor(point.lat() / cellDegree);
+    }
+
+    private int col(GeoPoint point) {
+        return (int) Math.floor(point.lng() / cellDegree);
+    }
+
+    private long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,79 @@
+package com.hong.ForPaw.core.openapi;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+// 공공데이터 API 원본 응답 보관소 => {dir}/{feed}/{runId}/ 아래에 실행별로 segment, index 파일을 남김
+// replay-run을 지정하면 API 대신 보관된 응답으로 수집을 실행 (latest = 같은 label의 가장 최근 실행)
+@Slf4j
+@Component
+public class FeedArchive {
+
+    private static final DateTimeFormatter RUN_ID_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final String LATEST = "latest";
+
+    private final Path archiveDir;
+    private final boolean enabled;
+    private final String replayRun;
+
+    public FeedArchive(@Value("${openAPI.archive.dir:feed-archive}") String archiveDir,
+                       @Value("${openAPI.archive.enabled:true}") boolean enabled,
+                       @Value("${openAPI.archive.replay-run:}") String replayRun) {
+        this.archiveDir = Paths.get(archiveDir);
+        this.enabled = enabled;
+        this.replayRun = replayRun;
+    }
+
+    // label은 runId 뒤에 붙음 (partition 단위로 나눠 실행하는 경우 구분용)
+    public FeedRun startRun(String feed, String label) {
+        Path feedDir = archiveDir.resolve(feed);
+
+        if (!replayRun.isBlank()) {
+            String runId = LATEST.equals(replayRun) ? findLatestRunId(feedDir, label) : replayRun;
+            log.info("보관된 응답으로 수집 실행 (feed={}, runId={})", feed, runId);
+
+            try {
+                return FeedRun.replay(runId, new SegmentReader(feedDir.resolve(runId)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        String runId = LocalDateTime.now().format(RUN_ID_FORMATTER) + "-" + label;
+        if (!enabled) {
+            return FeedRun.live(runId);
+        }
+
+        try {
+            return FeedRun.recording(runId, new SegmentWriter(feedDir.resolve(runId)));
+        } catch (IOException e) {
+            // 보관에 실패해도 수집은 진행
+            log.warn("아카이브 생성 실패 (feed={}, runId={}): {}", feed, runId, e.toString());
+            return FeedRun.live(runId);
+        }
+    }
+
+    // runId는 시간 순으로 정렬되는 형식
+    private String findLatestRunId(Path feedDir, String label) {
+        try (Stream<Path> runDirs = Files.list(feedDir)) {
+            return runDirs.filter(Files::isDirectory)
+                    .map(path -> path.getFileName().toString())
+                    .filter(runId -> runId.endsWith("-" + label))
+                    .max(Comparator.naturalOrder())
+                    .orElseThrow(() -> new IllegalStateException("보관된 실행이 없습니다: " + feedDir));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.hong.ForPaw.core.openapi;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.buffer.DataBuffer;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+// 수집 실행 하나 => 응답을 아카이브에 기록하거나(record), 아카이브에 기록된 응답을 대신 돌려줌(replay)
+@Slf4j
+public class FeedRun {
+
+    @Getter
+    private final String runId;
+    private final SegmentWriter writer;
+    private final SegmentReader reader;
+
+    private FeedRun(String runId, SegmentWriter writer, SegmentReader reader) {
+        this.runId = runId;
+        this.writer = writer;
+        this.reader = reader;
+    }
+
+    static FeedRun live(String runId) {
+        return new FeedRun(runId, null, null);
+    }
+
+    static FeedRun recording(String runId, SegmentWriter writer) {
+        return new FeedRun(runId, writer, null);
+    }
+
+    static FeedRun replay(String runId, SegmentReader reader) {
+        return new FeedRun(runId, null, reader);
+    }
+
+    public boolean isReplay() {
+        return reader != null;
+    }
+
+    // 응답을 그대로 흘려보내면서 압축해 두었다가, 응답을 끝까지 받은 경우에만 기록 (중간에 실패한 응답은 버림)
+    public Flux<DataBuffer> record(String key, Flux<DataBuffer> body) {
+        if (writer == null) return body;
+
+        return Flux.defer(() -> {
+            Recording recording = new Recording();
+
+            return body.doOnNext(recording::write)
+                    .doOnComplete(() -> recording.commit(key))
+                    .doFinally(signalType -> recording.end());
+        });
+    }
+
+    public Flux<DataBuffer> replay(String key) {
+        return reader.read(key);
+    }
+
+    public void close() {
+        if (writer == null) return;
+
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("아카이브 닫기 실패 (runId={}): {}", runId, e.toString());
+        }
+    }
+
+    private class Recording {
+
+        private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        private final CRC32 checksum = new CRC32();
+        private final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        private final byte[] chunk = new byte[8 * 1024];
+
+        // 파서가 읽을 수 있도록 readPosition은 그대로 둠
+        void write(DataBuffer dataBuffer) {
+            int readPosition = dataBuffer.readPosition();
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            dataBuffer.readPosition(readPosition);
+
+            checksum.update(bytes);
+            deflater.setInput(bytes);
+            while (!deflater.needsInput()) {
+                drain();
+            }
+        }
+
+        void commit(String key) {
+            deflater.finish();
+            while (!deflater.finished()) {
+                drain();
+            }
+
+            try {
+                writer.append(key, compressed.toByteArray(), compressed.size(), checksum.getValue());
+            } catch (IOException e) {
+                // 기록 실패는 수집에 영향을 주지 않음
+                log.warn("아카이브 기록 실패 (runId={}, key={}): {}", runId, key, e.toString());
+            }
+        }
+
+        void end() {
+            deflater.end();
+        }
+
+        private void drain() {
+            int length = deflater.deflate(chunk);
+            compressed.write(chunk, 0, length);
+        }
+    }
+}
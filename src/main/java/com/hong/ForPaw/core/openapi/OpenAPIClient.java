@@ -0,0 +1,89 @@
+package com.hong.ForPaw.core.openapi;
+
+import io.netty.handler.timeout.TimeoutException;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.function.Function;
+
+// 공공데이터 API 호출 => 서비스 키의 호출 한도를 넘지 않도록 토큰 버킷으로 속도를 제한하고, 일시적인 실패는 재시도
+// 버킷은 Redis에 두고 모든 서버가 함께 사용 => rate-per-second는 서버 한 대가 아니라 전체 서버의 호출 속도
+@Slf4j
+@Component
+public class OpenAPIClient {
+
+    private static final String RATE_LIMIT_KEY = "openAPI:rateLimit";
+
+    private final WebClient webClient;
+    private final RedisTokenBucket tokenBucket;
+    private final Retry retrySpec;
+
+    // 동시에 진행할 수 있는 최대 요청 수
+    @Getter
+    private final int maxInFlight;
+
+    public OpenAPIClient(@Qualifier("openAPIWebClient") WebClient webClient,
+                         StringRedisTemplate redisTemplate,
+                         @Value("${openAPI.max-in-flight:8}") int maxInFlight,
+                         @Value("${openAPI.rate-per-second:20}") double ratePerSecond,
+                         @Value("${openAPI.burst:20}") double burst,
+                         // Redis 장애 시 서버별로 적용하는 속도 => 전체 한도를 서버 수로 나눈 값으로 설정
+                         @Value("${openAPI.fallback-rate-per-second:5}") double fallbackRatePerSecond,
+                         @Value("${openAPI.max-retries:3}") int maxRetries,
+                         @Value("${openAPI.retry-backoff-ms:500}") long retryBackoffMs) {
+        this.webClient = webClient;
+        this.maxInFlight = maxInFlight;
+        this.tokenBucket = new RedisTokenBucket(redisTemplate, RATE_LIMIT_KEY, ratePerSecond, burst,
+                new TokenBucket(fallbackRatePerSecond, Math.min(burst, Math.max(1, fallbackRatePerSecond))));
+        this.retrySpec = Retry.backoff(maxRetries, Duration.ofMillis(retryBackoffMs))
+                .maxBackoff(Duration.ofSeconds(30))
+                .jitter(0.5)
+                .filter(this::isRetryable)
+                .doBeforeRetry(signal -> log.warn("공공데이터 API 재시도 ({}회): {}", signal.totalRetries() + 1, signal.failure().toString()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    // 토큰을 얻은 뒤 요청을 보내고, 응답 본문을 handler로 처리 (응답은 run의 아카이브에 key로 기록)
+    // 재시도 시 handler까지 다시 실행되므로, handler는 같은 응답을 여러 번 처리해도 문제가 없어야 함
+    public <T> Mono<T> fetch(FeedRun run, String key, URI uri, Function<Flux<DataBuffer>, Mono<T>> handler) {
+        // 재실행 모드에서는 API를 호출하지 않고 보관된 응답을 그대로 사용
+        if (run.isReplay()) {
+            return Mono.defer(() -> handler.apply(run.replay(key)));
+        }
+
+        return Mono.defer(() -> tokenBucket.acquire()
+                        .then(handler.apply(run.record(key, webClient.get()
+                                .uri(uri)
+                                .retrieve()
+                                .bodyToFlux(DataBuffer.class)))))
+                .retryWhen(retrySpec);
+    }
+
+    private boolean isRetryable(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            return responseException.getStatusCode().is5xxServerError()
+                    || responseException.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value();
+        }
+
+        // 연결 실패, 타임아웃, 응답 도중 연결이 끊긴 경우
+        return e instanceof WebClientRequestException
+                || e instanceof TimeoutException
+                || e instanceof java.util.concurrent.TimeoutException
+                || e instanceof IOException;
+    }
+}
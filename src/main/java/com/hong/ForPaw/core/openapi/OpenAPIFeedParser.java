@@ -0,0 +1,162 @@
+package com.hong.ForPaw.core.openapi;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+// 공공데이터 API 응답(response.body.items.item[])을 DataBuffer 단위로 읽으면서 item을 하나씩 만들어 낸다.
+// 응답 전체를 String으로 모으지 않기 때문에, 응답 크기와 관계 없이 item 하나 크기의 메모리만 사용
+@Component
+@RequiredArgsConstructor
+public class OpenAPIFeedParser {
+
+    private static final String ROOT = "$";
+    private static final List<String> BODY_PATH = List.of(ROOT, "response", "body");
+    private static final List<String> ITEMS_PATH = List.of(ROOT, "response", "body", "items");
+    private static final List<String> ITEM_ARRAY_PATH = List.of(ROOT, "response", "body", "items", "item");
+
+    private final ObjectMapper mapper;
+
+    public <T> Flux<T> parseItems(Flux<DataBuffer> body, Class<T> itemType, IntConsumer totalCountConsumer) {
+        return Flux.defer(() -> {
+            FeedState<T> state = new FeedState<>(createParser(), itemType, totalCountConsumer);
+
+            return body.concatMapIterable(state::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(state.endOfInput())))
+                    .doFinally(signalType -> state.close());
+        });
+    }
+
+    private JsonParser createParser() {
+        try {
+            return mapper.getFactory().createNonBlockingByteArrayParser();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private class FeedState<T> {
+
+        private final JsonParser parser;
+        private final ByteArrayFeeder feeder;
+        private final Class<T> itemType;
+        private final IntConsumer totalCountConsumer;
+
+        // 현재 열려있는 컨테이너들의 필드 이름 (최상위는 $, 배열 원소는 빈 문자열)
+        private final List<String> path = new ArrayList<>();
+        private String fieldName;
+
+        // 읽고 있는 item의 토큰
+        private TokenBuffer itemTokens;
+        private int itemDepth;
+
+        FeedState(JsonParser parser, Class<T> itemType, IntConsumer totalCountConsumer) {
+            this.parser = parser;
+            this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+            this.itemType = itemType;
+            this.totalCountConsumer = totalCountConsumer;
+        }
+
+        List<T> feed(DataBuffer dataBuffer) {
+            try {
+                byte[] bytes = new byte[dataBuffer.readableByteCount()];
+                dataBuffer.read(bytes);
+                feeder.feedInput(bytes, 0, bytes.length);
+                return readAvailableItems();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                DataBufferUtils.release(dataBuffer);
+            }
+        }
+
+        List<T> endOfInput() {
+            try {
+                feeder.endOfInput();
+                return readAvailableItems();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void close() {
+            try {
+                parser.close();
+            } catch (IOException ignored) {
+            }
+        }
+
+        private List<T> readAvailableItems() throws IOException {
+            List<T> items = new ArrayList<>();
+            JsonToken token;
+
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (itemTokens != null) {
+                    captureItemToken(token, items);
+                    continue;
+                }
+
+                if (token == JsonToken.FIELD_NAME) {
+                    fieldName = parser.currentName();
+                } else if (token.isStructStart()) {
+                    openContainer(token);
+                } else if (token.isStructEnd()) {
+                    path.remove(path.size() - 1);
+                } else if (path.equals(BODY_PATH) && "totalCount".equals(fieldName)) {
+                    totalCountConsumer.accept(parser.getValueAsInt());
+                }
+            }
+
+            return items;
+        }
+
+        private void openContainer(JsonToken token) throws IOException {
+            JsonStreamContext parent = parser.getParsingContext().getParent();
+            boolean inArray = parent != null && parent.inArray();
+
+            // item 배열의 원소이거나, item이 하나뿐이라 배열 없이 객체로 온 경우
+            boolean isItem = token == JsonToken.START_OBJECT
+                    && ((inArray && path.equals(ITEM_ARRAY_PATH)) || (!inArray && path.equals(ITEMS_PATH) && "item".equals(fieldName)));
+
+            if (isItem) {
+                itemTokens = new TokenBuffer(mapper, false);
+                itemTokens.copyCurrentEvent(parser);
+                itemDepth = 1;
+                return;
+            }
+
+            if (parent == null || parent.inRoot()) {
+                path.add(ROOT);
+            } else {
+                path.add(inArray ? "" : fieldName);
+            }
+        }
+
+        private void captureItemToken(JsonToken token, List<T> items) throws IOException {
+            itemTokens.copyCurrentEvent(parser);
+
+            if (token.isStructStart()) {
+                itemDepth++;
+            } else if (token.isStructEnd() && --itemDepth == 0) {
+                try (JsonParser itemParser = itemTokens.asParser(mapper)) {
+                    items.add(mapper.readValue(itemParser, itemType));
+                }
+                itemTokens = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.hong.ForPaw.core.openapi;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+
+// 여러 서버가 함께 쓰는 토큰 버킷 => 서비스 키의 호출 한도는 키 단위이므로, 서버 수와 관계없이 전체 호출 속도가 permitsPerSecond를 넘지 않게 한다
+// 동작은 TokenBucket과 같고(부족하면 다음 토큰 시점을 예약), 상태는 Redis 해시 하나에 두고 Lua 스크립트로 원자적으로 갱신
+// 시간은 Redis 서버 시간(TIME)을 사용 => 서버 간 시계 차이의 영향을 받지 않음
+// Redis를 사용할 수 없으면 서버별 버킷(fallback)으로 대신 제한 => 그 동안은 서버 수만큼 한도를 넘을 수 있으므로 fallback 속도는 서버 한 대 몫으로 설정
+public class RedisTokenBucket {
+
+    // 반환값은 기다려야 하는 시간(ms), 시간은 ms 단위로 저장 (Lua의 tostring은 유효 숫자가 14자리라 μs는 잘림)
+    // 키는 버킷이 다시 가득 찰 때까지 유지 (여유 1초) => 없는 키는 가득 찬 버킷으로 취급하므로,
+    // 미리 예약해둔 토큰(tokens < 0)이 남아있는 동안 키가 만료되면 그만큼 한도를 넘게 됨
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local time = redis.call('time') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local rate = tonumber(ARGV[1]) " +
+            "local capacity = tonumber(ARGV[2]) " +
+            "local state = redis.call('hmget', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(state[1]) or capacity " +
+            "local ts = tonumber(state[2]) or now " +
+            "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000) - 1 " +
+            "redis.call('hset', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+            "redis.call('pexpire', KEYS[1], math.ceil((capacity - tokens) * 1000 / rate) + 1000) " +
+            "if tokens >= 0 then return 0 end " +
+            "return math.ceil(-tokens * 1000 / rate)", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String key;
+    private final double permitsPerSecond;
+    private final double capacity;
+    private final TokenBucket fallback;
+
+    public RedisTokenBucket(StringRedisTemplate redisTemplate, String key, double permitsPerSecond, double capacity, TokenBucket fallback) {
+        if (permitsPerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive and capacity at least 1");
+        }
+
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.permitsPerSecond = permitsPerSecond;
+        this.capacity = capacity;
+        this.fallback = fallback;
+    }
+
+    public Mono<Void> acquire() {
+        return Mono.fromCallable(this::reserve)
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(waitMillis -> waitMillis == 0 ? Mono.<Void>empty() : Mono.delay(Duration.ofMillis(waitMillis)).then())
+                .onErrorResume(e -> fallback.acquire());
+    }
+
+    private long reserve() {
+        Long waitMillis = redisTemplate.execute(RESERVE_SCRIPT, List.of(key),
+                Double.toString(permitsPerSecond), Double.toString(capacity));
+        return waitMillis == null ? 0 : Math.max(0, waitMillis);
+    }
+}
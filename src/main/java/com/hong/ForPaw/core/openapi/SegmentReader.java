@@ -0,0 +1,118 @@
+package com.hong.ForPaw.core.openapi;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+// SegmentWriter가 기록한 실행을 읽음 => segment 파일은 메모리 매핑해서, 복사 없이 매핑된 영역에서 바로 압축을 풂
+// 풀어낸 내용은 index의 CRC32와 비교해서 다르면 오류 (마지막 조각을 보낸 뒤 확인하므로 앞 조각은 이미 전달되었을 수 있음)
+class SegmentReader {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+
+    private final Path runDir;
+    private final Map<String, Entry> index;
+    private final Map<Integer, MappedByteBuffer> segments = new ConcurrentHashMap<>();
+
+    SegmentReader(Path runDir) throws IOException {
+        this.runDir = runDir;
+        this.index = readIndex(runDir.resolve(SegmentWriter.INDEX_FILE));
+    }
+
+    Flux<DataBuffer> read(String key) {
+        Entry entry = index.get(key);
+        if (entry == null) {
+            return Flux.error(new NoSuchFileException(runDir + " (" + key + ")", null, "아카이브에 없는 응답"));
+        }
+
+        return Flux.generate(() -> {
+            Inflation inflation = new Inflation();
+            inflation.inflater.setInput(segment(entry.segmentNo()).slice((int) entry.offset(), entry.length()));
+            return inflation;
+        }, (inflation, sink) -> {
+            try {
+                Inflater inflater = inflation.inflater;
+                byte[] chunk = new byte[CHUNK_SIZE];
+                int length = 0;
+
+                while (length == 0 && !inflater.finished()) {
+                    if (inflater.needsInput() || inflater.needsDictionary()) {
+                        throw new DataFormatException("레코드가 잘렸습니다");
+                    }
+                    length = inflater.inflate(chunk);
+                }
+
+                if (length > 0) {
+                    inflation.checksum.update(chunk, 0, length);
+                    sink.next(DefaultDataBufferFactory.sharedInstance.wrap(ByteBuffer.wrap(chunk, 0, length)));
+                } else if (inflation.checksum.getValue() != entry.checksum()) {
+                    // 압축은 정상적으로 풀렸지만 기록할 때의 원본과 다름 => 재실행 결과를 믿을 수 없으므로 실패로 처리
+                    throw new DataFormatException("CRC32가 일치하지 않습니다 (기록: " + Long.toHexString(entry.checksum())
+                            + ", 읽음: " + Long.toHexString(inflation.checksum.getValue()) + ")");
+                } else {
+                    sink.complete();
+                }
+            } catch (DataFormatException e) {
+                sink.error(new IOException("손상된 아카이브 레코드 (" + key + ")", e));
+            }
+            return inflation;
+        }, inflation -> inflation.inflater.end());
+    }
+
+    // 매핑은 채널을 닫은 뒤에도 유지되고, 더 이상 참조되지 않으면 GC 시 해제됨
+    private MappedByteBuffer segment(int segmentNo) {
+        return segments.computeIfAbsent(segmentNo, no -> {
+            try (FileChannel channel = FileChannel.open(SegmentWriter.segmentPath(runDir, no), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    // 같은 key가 여러 번 기록된 경우 마지막 레코드를 사용
+    private static Map<String, Entry> readIndex(Path indexPath) throws IOException {
+        Map<String, Entry> index = new HashMap<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(indexPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] fields = line.split("\t");
+                // 마지막 줄이 기록 도중 잘린 경우 => 완전한 레코드만 사용
+                if (fields.length < 5) continue;
+
+                index.put(fields[0], new Entry(Integer.parseInt(fields[1]), Long.parseLong(fields[2]), Integer.parseInt(fields[3]),
+                        Long.parseLong(fields[4], 16)));
+            }
+        }
+
+        return index;
+    }
+
+    private record Entry(int segmentNo, long offset, int length, long checksum) {}
+
+    // 압축을 풀면서 원본의 CRC32를 함께 계산
+    private static class Inflation {
+
+        private final Inflater inflater = new Inflater();
+        private final CRC32 checksum = new CRC32();
+    }
+}
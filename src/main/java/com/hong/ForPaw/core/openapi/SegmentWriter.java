@@ -0,0 +1,73 @@
+package com.hong.ForPaw.core.openapi;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+// 한 실행의 압축된 응답들을 segment 파일 끝에 이어 붙이고, 위치는 index 파일에 기록 (기존 내용은 수정하지 않음)
+// index 한 줄: key, segment 번호, offset, 압축된 길이, 원본 CRC32
+class SegmentWriter implements Closeable {
+
+    static final String INDEX_FILE = "index";
+    static final long MAX_SEGMENT_BYTES = 64L * 1024 * 1024;
+
+    private final Path runDir;
+    private final BufferedWriter indexWriter;
+    private FileChannel segment;
+    private int segmentNo = -1;
+
+    SegmentWriter(Path runDir) throws IOException {
+        Files.createDirectories(runDir);
+        this.runDir = runDir;
+        this.indexWriter = Files.newBufferedWriter(runDir.resolve(INDEX_FILE), StandardCharsets.UTF_8, CREATE, APPEND);
+        nextSegment();
+    }
+
+    static Path segmentPath(Path runDir, int segmentNo) {
+        return runDir.resolve(String.format("segment-%05d", segmentNo));
+    }
+
+    // 데이터를 먼저 쓰고 index를 기록 => 중간에 멈춰도 index에는 완전한 레코드만 남음
+    synchronized void append(String key, byte[] compressed, int length, long checksum) throws IOException {
+        if (segment.size() > 0 && segment.size() + length > MAX_SEGMENT_BYTES) {
+            nextSegment();
+        }
+
+        long offset = segment.size();
+        ByteBuffer buffer = ByteBuffer.wrap(compressed, 0, length);
+        while (buffer.hasRemaining()) {
+            segment.write(buffer);
+        }
+
+        indexWriter.write(key + "\t" + segmentNo + "\t" + offset + "\t" + length + "\t" + Long.toHexString(checksum));
+        indexWriter.newLine();
+        indexWriter.flush();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            segment.close();
+        } finally {
+            indexWriter.close();
+        }
+    }
+
+    private void nextSegment() throws IOException {
+        if (segment != null) {
+            segment.close();
+        }
+
+        segmentNo++;
+        segment = FileChannel.open(segmentPath(runDir, segmentNo), CREATE, WRITE, APPEND);
+    }
+}
@@ -0,0 +1,50 @@
+package com.hong.ForPaw.core.openapi;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+// 초당 permitsPerSecond개의 토큰이 채워지고, 최대 capacity개까지 쌓이는 토큰 버킷
+// 토큰이 부족하면 다음 토큰이 채워질 시점을 미리 예약하고, 그 시간만큼만 기다린다 (스레드를 막지 않음)
+public class TokenBucket {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final double capacity;
+    private final double permitsPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public TokenBucket(double permitsPerSecond, double capacity) {
+        if (permitsPerSecond <= 0 || capacity < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive and capacity at least 1");
+        }
+
+        this.capacity = capacity;
+        this.permitsPerNano = permitsPerSecond / NANOS_PER_SECOND;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    public Mono<Void> acquire() {
+        return Mono.defer(() -> {
+            long waitNanos = reserve();
+            return waitNanos == 0 ? Mono.empty() : Mono.delay(Duration.ofNanos(waitNanos)).then();
+        });
+    }
+
+    // 토큰 하나를 가져가고, 사용 가능해질 때까지 기다려야 하는 시간을 반환
+    synchronized long reserve() {
+        refill();
+        tokens -= 1;
+
+        return tokens >= 0 ? 0 : (long) Math.ceil(-tokens / permitsPerNano);
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+    }
+}
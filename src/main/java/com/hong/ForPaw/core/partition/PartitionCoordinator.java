@@ -0,0 +1,133 @@
+package com.hong.ForPaw.core.partition;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+// 여러 서버가 함께 실행될 때 수집 작업을 partition 단위로 나눠서 실행
+// 주기(tick)마다 partition별 lease를 잡은 서버만 해당 partition을 처리하고, 끝나면 완료 표시를 남겨 같은 주기에 다시 실행되지 않게 한다.
+// 처리 중에는 lease를 계속 연장하므로, 서버가 죽으면 lease가 만료되고 다음 sweep에서 다른 서버가 이어받는다.
+// lease를 잃은 서버는 처리 중이던 작업을 중단 => 한 partition을 두 서버가 동시에 처리하지 않음
+@Slf4j
+@Component
+public class PartitionCoordinator {
+
+    private final PartitionLeaseStore leaseStore;
+    @Getter
+    private final String nodeId;
+    private final Duration leaseTtl;
+    // 한 서버가 동시에 처리하는 최대 partition 수 => 작업이 한 서버에 몰리지 않도록 제한
+    private final int maxActivePartitions;
+
+    // 처리 중인 lease key => lease 연장 작업과 partition 작업
+    private final Map<String, Disposable.Composite> activeLeases = new ConcurrentHashMap<>();
+
+    public PartitionCoordinator(PartitionLeaseStore leaseStore,
+                                @Value("${ingestion.partition.node-id:}") String nodeId,
+                                @Value("${ingestion.partition.lease-ttl-ms:120000}") long leaseTtlMs,
+                                @Value("${ingestion.partition.max-active:2}") int maxActivePartitions) {
+        this.leaseStore = leaseStore;
+        this.nodeId = nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId;
+        this.leaseTtl = Duration.ofMillis(leaseTtlMs);
+        this.maxActivePartitions = maxActivePartitions;
+    }
+
+    // 이번 tick에서 아직 완료되지 않은 partition을 가져와서 worker로 처리하고, 가져간 partition 목록을 반환
+    public List<Integer> sweep(String job, String tickId, Duration tickLength, Collection<Integer> partitions, Function<Integer, Mono<Void>> worker) {
+        // 서버마다 다른 순서로 시도 => 같은 partition을 두고 경합하는 일이 줄어듦
+        List<Integer> candidates = new ArrayList<>(partitions);
+        Collections.shuffle(candidates);
+
+        List<Integer> claimed = new ArrayList<>();
+        for (Integer partition : candidates) {
+            if (activeLeases.size() >= maxActivePartitions) break;
+
+            String key = job + ":" + tickId + ":" + partition;
+            if (activeLeases.containsKey(key) || !leaseStore.tryAcquire(key, nodeId, leaseTtl)) continue;
+
+            claimed.add(partition);
+            run(key, tickLength, Mono.defer(() -> worker.apply(partition)));
+        }
+
+        return claimed;
+    }
+
+    // 정상 종료 시 처리 중인 lease를 반납 => 다른 서버가 만료를 기다리지 않고 바로 이어받음
+    @PreDestroy
+    public void shutdown() {
+        activeLeases.forEach((key, disposables) -> {
+            disposables.dispose();
+            leaseStore.release(key, nodeId);
+        });
+        activeLeases.clear();
+    }
+
+    private void run(String key, Duration tickLength, Mono<Void> work) {
+        Disposable.Composite disposables = Disposables.composite();
+        activeLeases.put(key, disposables);
+
+        AtomicLong renewedAt = new AtomicLong(System.nanoTime());
+        disposables.add(Flux.interval(leaseTtl.dividedBy(3), Schedulers.boundedElastic())
+                .subscribe(tick -> heartbeat(key, renewedAt)));
+
+        disposables.add(work.subscribe(
+                unused -> {},
+                e -> {
+                    // 실패한 partition은 반납해서 다음 sweep에서 다시 시도
+                    log.warn("partition 처리 실패 (key={}): {}", key, e.toString());
+                    stop(key);
+                    leaseStore.release(key, nodeId);
+                },
+                () -> {
+                    stop(key);
+                    leaseStore.markDone(key, nodeId, tickLength);
+                }));
+    }
+
+    // lease 연장 => lease가 다른 서버로 넘어갔으면 바로 작업을 중단 (만료 후에도 계속 처리하면 이어받은 서버와 같은 partition을 동시에 처리하게 됨)
+    // Redis 오류는 다음 주기에 다시 시도하되, 연장하지 못한 시간이 TTL의 2/3을 넘으면 만료되기 전에 중단
+    // 예외를 밖으로 던지면 interval 구독이 끝나서 이후 연장이 멈추므로 여기서 처리
+    private void heartbeat(String key, AtomicLong renewedAt) {
+        try {
+            if (leaseStore.renew(key, nodeId, leaseTtl)) {
+                renewedAt.set(System.nanoTime());
+                return;
+            }
+
+            log.warn("partition lease를 잃어서 처리 중단 (key={}, nodeId={})", key, nodeId);
+            stop(key);
+        } catch (RuntimeException e) {
+            if (System.nanoTime() - renewedAt.get() >= leaseTtl.toNanos() * 2 / 3) {
+                log.warn("partition lease를 연장하지 못해 처리 중단 (key={}, nodeId={}): {}", key, nodeId, e.toString());
+                stop(key);
+            } else {
+                log.warn("partition lease 연장 실패, 다음 주기에 재시도 (key={}, nodeId={}): {}", key, nodeId, e.toString());
+            }
+        }
+    }
+
+    private void stop(String key) {
+        Disposable.Composite disposables = activeLeases.remove(key);
+        if (disposables != null) {
+            disposables.dispose();
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.hong.ForPaw.core.partition;
+
+import java.time.Duration;
+
+// partition 작업의 소유권(lease) 저장소 => 여러 서버가 같은 저장소를 보고 작업을 나눠 가진다
+public interface PartitionLeaseStore {
+
+    // 아무도 가지고 있지 않을 때만 owner가 가져감
+    boolean tryAcquire(String key, String owner, Duration ttl);
+
+    // owner가 가지고 있는 경우에만 만료 시간 연장
+    boolean renew(String key, String owner, Duration ttl);
+
+    // owner가 가지고 있는 경우에만 반납 => 다른 서버가 바로 가져갈 수 있음
+    void release(String key, String owner);
+
+    // owner가 가지고 있는 경우에만 완료 처리 => ttl 동안은 누구도 다시 가져갈 수 없음
+    void markDone(String key, String owner, Duration ttl);
+}
@@ -0,0 +1,51 @@
+package com.hong.ForPaw.core.partition;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// SET NX PX로 lease를 잡고, 연장/반납/완료는 소유자를 확인한 뒤 처리하도록 Lua 스크립트로 원자적으로 실행
+@Component
+@RequiredArgsConstructor
+public class RedisPartitionLeaseStore implements PartitionLeaseStore {
+
+    private static final String KEY_PREFIX = "ingestionLease:";
+    private static final String DONE = "done";
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end", Long.class);
+
+    private static final RedisScript<Long> MARK_DONE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3]) return 1 else return 0 end", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public boolean tryAcquire(String key, String owner, Duration ttl) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, owner, ttl));
+    }
+
+    @Override
+    public boolean renew(String key, String owner, Duration ttl) {
+        Long result = redisTemplate.execute(RENEW_SCRIPT, List.of(KEY_PREFIX + key), owner, Long.toString(ttl.toMillis()));
+        return result != null && result == 1L;
+    }
+
+    @Override
+    public void release(String key, String owner) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + key), owner);
+    }
+
+    @Override
+    public void markDone(String key, String owner, Duration ttl) {
+        redisTemplate.execute(MARK_DONE_SCRIPT, List.of(KEY_PREFIX + key), owner, DONE, Long.toString(ttl.toMillis()));
+    }
+}
@@ -0,0 +1,92 @@
+package com.hong.ForPaw.core.region;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hong.ForPaw.controller.DTO.RegionsDTO;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// 시도 => 시군구 계층 (sigungu.json을 시작할 때 한 번 읽고 이후에는 바뀌지 않음)
+// 이름으로 저장된 지역(사용자, 그룹 등)을 정수 코드로 바꾸거나, 코드로 표시용 이름을 만들 때 사용
+@Component
+public class RegionHierarchy {
+
+    private final Map<Integer, Sido> sidos;
+    private final Map<Integer, Sigungu> sigungus;
+    private final Map<String, Integer> uprCdsByName;
+    private final Map<String, Integer> orgCdsByName;
+
+    public RegionHierarchy(ObjectMapper mapper) throws IOException {
+        Map<Integer, Sido> sidos = new LinkedHashMap<>();
+        Map<Integer, Sigungu> sigungus = new LinkedHashMap<>();
+        Map<String, Integer> uprCdsByName = new HashMap<>();
+        Map<String, Integer> orgCdsByName = new HashMap<>();
+
+        try (InputStream inputStream = getClass().getResourceAsStream("/sigungu.json")) {
+            for (RegionsDTO.RegionDTO region : mapper.readValue(inputStream, RegionsDTO.class).regions()) {
+                List<Sigungu> children = new ArrayList<>();
+                for (RegionsDTO.SubRegionDTO subRegion : region.subRegions()) {
+                    Sigungu sigungu = new Sigungu(region.orgCd(), subRegion.orgCd(), region.orgdownNm(), subRegion.orgdownNm());
+                    children.add(sigungu);
+                    sigungus.put(sigungu.orgCd(), sigungu);
+                    orgCdsByName.put(nameKey(region.orgdownNm(), subRegion.orgdownNm()), sigungu.orgCd());
+                }
+
+                sidos.put(region.orgCd(), new Sido(region.orgCd(), region.orgdownNm(), List.copyOf(children)));
+                uprCdsByName.put(region.orgdownNm(), region.orgCd());
+            }
+        }
+
+        this.sidos = Map.copyOf(sidos);
+        this.sigungus = Map.copyOf(sigungus);
+        this.uprCdsByName = Map.copyOf(uprCdsByName);
+        this.orgCdsByName = Map.copyOf(orgCdsByName);
+    }
+
+    // "경기도" => 6410000
+    public Optional<Integer> findUprCd(String sidoName) {
+        return sidoName == null ? Optional.empty() : Optional.ofNullable(uprCdsByName.get(sidoName));
+    }
+
+    // ("경기도", "수원시") => 3740000
+    public Optional<Integer> findOrgCd(String sidoName, String sigunguName) {
+        return sidoName == null || sigunguName == null ? Optional.empty() : Optional.ofNullable(orgCdsByName.get(nameKey(sidoName, sigunguName)));
+    }
+
+    public Optional<Sido> findSido(Integer uprCd) {
+        return Optional.ofNullable(sidos.get(uprCd));
+    }
+
+    public Optional<Sigungu> findSigungu(Integer orgCd) {
+        return Optional.ofNullable(sigungus.get(orgCd));
+    }
+
+    public List<Sido> sidos() {
+        return List.copyOf(sidos.values());
+    }
+
+    public List<Sigungu> sigungus() {
+        return List.copyOf(sigungus.values());
+    }
+
+    private String nameKey(String sidoName, String sigunguName) {
+        return sidoName + " " + sigunguName;
+    }
+
+    public record Sido(Integer uprCd, String name, List<Sigungu> sigungus) {}
+
+    public record Sigungu(Integer uprCd, Integer orgCd, String uprName, String orgName) {
+
+        // "경기도 수원시" (시도 자체가 시군구로 등록된 경우는 시도명만)
+        public String displayName() {
+            return uprName.equals(orgName) ? uprName : uprName + " " + orgName;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.hong.ForPaw.core.utils;
+
+import com.hong.ForPaw.core.errors.CustomException;
+import com.hong.ForPaw.core.errors.ExceptionCode;
+import org.springframework.data.domain.Slice;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// 키셋 페이지네이션 커서 => 마지막으로 내려준 행의 (정렬 기준, 정렬 키 값, id)
+// 클라이언트에는 Base64로 감싼 문자열로 전달하고, 다음 페이지 요청 시 그대로 돌려받는다
+public record Cursor(String sort, String value, Long id) {
+
+    public static final String ID_SORT = "id";
+
+    public static Cursor of(Long id) {
+        return new Cursor(ID_SORT, String.valueOf(id), id);
+    }
+
+    public static Cursor of(String sort, Object value, Long id) {
+        return new Cursor(sort, String.valueOf(value), id);
+    }
+
+    public String encode() {
+        String raw = sort + "|" + id + "|" + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 첫 페이지 요청이면 null, 형식이 잘못됐거나 다른 정렬 기준으로 만들어진 커서면 에러
+    public static Cursor decode(String encoded, String sort) {
+        if (encoded == null || encoded.isBlank()) {
+            return null;
+        }
+
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8).split("\\|", 3);
+            if (parts.length != 3 || !parts[0].equals(sort)) {
+                throw new CustomException(ExceptionCode.INVALID_CURSOR);
+            }
+
+            return new Cursor(parts[0], parts[2], Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException e) { // Base64, 숫자 형식 오류
+            throw new CustomException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    // id 순 정렬의 커서에서 마지막 id만 꺼냄 (첫 페이지면 null)
+    public static Long decodeId(String encoded) {
+        Cursor cursor = decode(encoded, ID_SORT);
+        return cursor == null ? null : cursor.id();
+    }
+
+    public LocalDate valueAsDate() {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new CustomException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    public Long valueAsLong() {
+        try {
+            return Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new CustomException(ExceptionCode.INVALID_CURSOR);
+        }
+    }
+
+    // 다음 페이지가 있으면 Slice의 마지막 행으로 만든 커서, 없으면 null
+    public static <T> String next(Slice<T> slice, Function<T, Cursor> cursorOf) {
+        if (!slice.hasNext() || !slice.hasContent()) {
+            return null;
+        }
+
+        List<T> content = slice.getContent();
+        return cursorOf.apply(content.get(content.size() - 1)).encode();
+    }
+}
@@ -0,0 +1,34 @@
+package com.hong.ForPaw.core.utils;
+
+public class HashUtils {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long FIELD_SEPARATOR = 0x1f;
+    private static final long NULL_MARKER = 0x00;
+
+    // 여러 문자열 필드를 하나의 64비트 값으로 압축 (FNV-1a)
+    public static long fingerprint(String... fields) {
+        long hash = FNV_OFFSET_BASIS;
+
+        for (String field : fields) {
+            if (field == null) {
+                hash = mix(hash, NULL_MARKER);
+            } else {
+                for (int i = 0; i < field.length(); i++) {
+                    char c = field.charAt(i);
+                    hash = mix(hash, c & 0xff);
+                    hash = mix(hash, c >>> 8);
+                }
+            }
+            // 필드 경계를 구분해서 ("ab", "c")와 ("a", "bc")가 같은 값이 되지 않도록 함
+            hash = mix(hash, FIELD_SEPARATOR);
+        }
+
+        return hash;
+    }
+
+    private static long mix(long hash, long value) {
+        return (hash ^ value) * FNV_PRIME;
+    }
+}
@@ -12,7 +12,8 @@ public enum AlarmType {
     answer("궁금해요 답변"),
     newMeeting("새로운 정기모임"),
     todayMeeting("오늘의 정기모임"),
-    join("그룹 가입");
+    join("그룹 가입"),
+    animal("관심 동물 소식");
 
     private String value;
 }
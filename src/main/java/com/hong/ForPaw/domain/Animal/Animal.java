@@ -14,7 +14,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "animal_tb")
+@Table(name = "animal_tb", indexes = {
+        @Index(name = "idx_animal_notice_sdt", columnList = "noticeSdt, id"),
+        @Index(name = "idx_animal_filter", columnList = "state, species, uprCd, birthYear"),
+        @Index(name = "idx_animal_breed", columnList = "breedId")
+})
 @SQLDelete(sql = "UPDATE animal_tb SET removed_at = NOW() WHERE id=?")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -75,11 +79,43 @@ public class Animal extends TimeStamp {
     @Column
     private String name;
 
+    // 필터 조회용으로 정규화한 값 (kind, age, processState, 보호소 지역에서 추출)
+    @Enumerated(EnumType.STRING)
+    @Column
+    private Species species;
+
+    // 품종 사전(breed_tb)의 id => 수집 시 JDBC로 채워짐
+    @Column
+    private Long breedId;
+
+    @Column
+    private Integer birthYear;
+
+    // 시도 코드
+    @Column
+    private Integer uprCd;
+
+    // 시군구 코드
+    @Column
+    private Integer orgCd;
+
+    @Enumerated(EnumType.STRING)
+    @Column
+    private AnimalState state;
+
+    // 피드 필드들의 해시값 (변경 여부 비교용)
+    @Column
+    private Long fingerprint;
+
+    // 관심 수 (Redis 카운터를 주기적으로 반영, 수집 UPSERT는 이 컬럼을 건드리지 않음)
+    @Column
+    private Long likeNum = 0L;
+
     @Column(name = "removed_at")
     private LocalDateTime removedAt;
 
     @Builder
-    public Animal(Long id, Shelter shelter, LocalDate happenDt, String happenPlace, String kind, String color, String age, String weight, LocalDate noticeSdt, LocalDate noticeEdt, String profileURL, String processState, String gender, String neuter, String specialMark, String name, String region) {
+    public Animal(Long id, Shelter shelter, LocalDate happenDt, String happenPlace, String kind, String color, String age, String weight, LocalDate noticeSdt, LocalDate noticeEdt, String profileURL, String processState, String gender, String neuter, String specialMark, String name, String region, Species species, Integer birthYear, Integer uprCd, Integer orgCd, AnimalState state, Long fingerprint) {
         this.id = id;
         this.shelter = shelter;
         this.happenDt = happenDt;
@@ -97,5 +133,11 @@ public class Animal extends TimeStamp {
         this.specialMark = specialMark;
         this.name = name;
         this.region = region;
+        this.species = species;
+        this.birthYear = birthYear;
+        this.uprCd = uprCd;
+        this.orgCd = orgCd;
+        this.state = state;
+        this.fingerprint = fingerprint;
     }
 }
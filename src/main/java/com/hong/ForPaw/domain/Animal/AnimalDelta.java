@@ -0,0 +1,29 @@
+package com.hong.ForPaw.domain.Animal;
+
+import java.util.List;
+import java.util.Map;
+
+// 한 보호소의 동물 데이터를 반영한 결과 (신규, 변경, 사라진 동물의 id와 상태 변경 내역)
+// facetDeltas는 이번 반영으로 늘거나 줄어든 조합별 동물 수, liveCount는 반영 후 보호소에 남아있는 동물 수
+public record AnimalDelta(List<Long> insertedIds,
+                          List<Long> updatedIds,
+                          List<Long> removedIds,
+                          List<StateChange> stateChanges,
+                          Map<AnimalFacet, Long> facetDeltas,
+                          long liveCount) {
+
+    public boolean isEmpty() {
+        return insertedIds.isEmpty() && updatedIds.isEmpty() && removedIds.isEmpty();
+    }
+
+    // processState가 바뀌었거나(보호중 => 종료(입양) 등), 피드에서 사라진 동물 (이 경우 toState는 null)
+    public record StateChange(Long animalId,
+                              String animalName,
+                              String fromState,
+                              String toState) {
+
+        public boolean isRemoved() {
+            return toState == null;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.hong.ForPaw.domain.Animal;
+
+// 동물 수를 미리 세어두는 단위 => (시도, 축종, 성별, 상태) 조합 하나
+// Redis Hash의 필드로 쓸 때는 "6410000:DOG:M:PROTECTED" 형태
+public record AnimalFacet(Integer uprCd, Species species, String gender, AnimalState state) {
+
+    // 정규화 값이 없는 행(정규화 이전에 저장된 행 등)은 집계하지 않음
+    public static AnimalFacet of(Integer uprCd, Species species, String gender, AnimalState state) {
+        if (uprCd == null || species == null || state == null) return null;
+
+        return new AnimalFacet(uprCd, species, gender == null ? "" : gender, state);
+    }
+
+    public static AnimalFacet of(Animal animal) {
+        return of(animal.getUprCd(), animal.getSpecies(), animal.getGender(), animal.getState());
+    }
+
+    public static AnimalFacet parse(String field) {
+        String[] parts = field.split(":", 4);
+        return new AnimalFacet(Integer.valueOf(parts[0]), Species.valueOf(parts[1]), parts[2], AnimalState.valueOf(parts[3]));
+    }
+
+    public String field() {
+        return uprCd + ":" + species.name() + ":" + gender + ":" + state.name();
+    }
+}
@@ -0,0 +1,8 @@
+package com.hong.ForPaw.domain.Animal;
+
+// 추천 점수 계산에 쓰는 동물의 정규화된 속성
+public record AnimalFeature(Long animalId,
+                            Species species,
+                            Long breedId,
+                            Integer uprCd,
+                            Integer birthYear) {}
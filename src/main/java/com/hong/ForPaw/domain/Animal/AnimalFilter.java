@@ -0,0 +1,12 @@
+package com.hong.ForPaw.domain.Animal;
+
+// 보호동물 필터 조건 => null인 항목은 조건에서 제외
+public record AnimalFilter(Species species,
+                           Long breedId,
+                           Integer minBirthYear,
+                           Integer maxBirthYear,
+                           Integer uprCd,
+                           Integer orgCd,
+                           String gender,
+                           String neuter,
+                           AnimalState state) {}
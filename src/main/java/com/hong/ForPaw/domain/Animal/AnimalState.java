@@ -0,0 +1,31 @@
+package com.hong.ForPaw.domain.Animal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 공공데이터의 상태(processState) 문자열 => 필터링할 수 있도록 정규화
+@AllArgsConstructor
+@Getter
+public enum AnimalState {
+    NOTICE("공고중"),
+    PROTECTED("보호중"),
+    ADOPTED("종료(입양)"),
+    RETURNED("종료(반환)"),
+    EUTHANIZED("종료(안락사)"),
+    NATURAL_DEATH("종료(자연사)"),
+    RELEASED("종료(방사)"),
+    DONATED("종료(기증)"),
+    ETC("기타");
+
+    private String value;
+
+    public static AnimalState fromProcessState(String processState) {
+        for (AnimalState state : values()) {
+            if (state.value.equals(processState)) {
+                return state;
+            }
+        }
+
+        return ETC;
+    }
+}
@@ -0,0 +1,32 @@
+package com.hong.ForPaw.domain.Animal;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 품종 사전 => 수집 시 처음 보는 품종이면 추가되고, Animal은 breedId로 참조
+@Entity
+@Table(name = "breed_tb", uniqueConstraints = @UniqueConstraint(name = "uk_breed_species_name", columnNames = {"species", "name"}))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class Breed {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column
+    private Species species;
+
+    @Column
+    private String name;
+
+    @Builder
+    public Breed(Species species, String name) {
+        this.species = species;
+        this.name = name;
+    }
+}
@@ -0,0 +1,35 @@
+package com.hong.ForPaw.domain.Animal;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 축종 => 공공데이터의 품종(kindCd)은 "[개] 믹스견" 형태라서, 대괄호 안의 값으로 구분
+@AllArgsConstructor
+@Getter
+public enum Species {
+    DOG("개"),
+    CAT("고양이"),
+    ETC("기타축종");
+
+    private String value;
+
+    public static Species fromKind(String kind) {
+        if (kind != null) {
+            for (Species species : values()) {
+                if (kind.startsWith("[" + species.value + "]")) {
+                    return species;
+                }
+            }
+        }
+
+        return ETC;
+    }
+
+    // "[개] 믹스견" => "믹스견"
+    public static String breedName(String kind) {
+        if (kind == null) return "";
+
+        int end = kind.indexOf(']');
+        return (end < 0 ? kind : kind.substring(end + 1)).trim();
+    }
+}
@@ -0,0 +1,9 @@
+package com.hong.ForPaw.domain.Animal;
+
+// 사용자의 관심/지원 이력에 있는 동물의 속성 => 사용자별 선호도를 만드는 데 사용
+public record UserAnimalFeature(Long userId,
+                                Long animalId,
+                                Species species,
+                                Long breedId,
+                                Integer uprCd,
+                                Integer birthYear) {}
@@ -0,0 +1,29 @@
+package com.hong.ForPaw.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Redis에 저장하는 카운터의 종류 => 상수 이름이 그대로 키의 타입 부분이 된다 (ex. postLikeNum:12)
+// table, column이 있는 카운터는 DB 컬럼에도 주기적으로 반영한다 (CounterFlushService), 없으면 Redis에만 둠
+// sparseIds: id가 연속되지 않는 카운터 (동물 id는 공공데이터의 15자리 유기번호) => Hash 버킷에 묶으면 버킷마다 카운터가 하나뿐이라 오히려 커지므로 항상 문자열 키로 저장
+@AllArgsConstructor
+@Getter
+public enum CounterType {
+    inquiryNum(null, null, true),
+    animalLikeNum("animal_tb", "like_num", true),
+    postLikeNum("post_tb", "like_num", false),
+    commentNum(null, null, false),
+    answerNum(null, null, false),
+    commentLikeNum("comment_tb", "like_num", false),
+    groupParticipantNum(null, null, false),
+    groupLikeNum("groups_tb", "like_num", false),
+    meetingParticipantNum(null, null, false);
+
+    private String table;
+    private String column;
+    private boolean sparseIds;
+
+    public boolean isPersisted() {
+        return table != null;
+    }
+}
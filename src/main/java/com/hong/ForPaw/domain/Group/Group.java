@@ -8,7 +8,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "groups_tb")
+@Table(name = "groups_tb", indexes = {
+        @Index(name = "idx_groups_region_code", columnList = "uprCd, orgCd"),
+        @Index(name = "idx_groups_upr_cd_id", columnList = "uprCd, id")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class Group extends TimeStamp {
@@ -26,6 +29,14 @@ public class Group extends TimeStamp {
     @Column
     private String subRegion;
 
+    // 시도 코드 (RegionCode.uprCd), 이름은 표시용으로 그대로 두고 지역 필터는 코드로 처리
+    @Column
+    private Integer uprCd;
+
+    // 시군구 코드 (RegionCode.orgCd)
+    @Column
+    private Integer orgCd;
+
     @Column
     private String description;
 
@@ -39,19 +50,23 @@ public class Group extends TimeStamp {
     private Long likeNum = 0L;
 
     @Builder
-    public Group(String name, String region, String subRegion, String description, String category, String profileURL) {
+    public Group(String name, String region, String subRegion, Integer uprCd, Integer orgCd, String description, String category, String profileURL) {
         this.name = name;
         this.region = region;
         this.subRegion = subRegion;
+        this.uprCd = uprCd;
+        this.orgCd = orgCd;
         this.description = description;
         this.category = category;
         this.profileURL = profileURL;
     }
 
-    public void updateInfo(String name, String region, String subRegion, String description, String category, String profileURL){
+    public void updateInfo(String name, String region, String subRegion, Integer uprCd, Integer orgCd, String description, String category, String profileURL){
         this.name = name;
         this.region = region;
         this.subRegion = subRegion;
+        this.uprCd = uprCd;
+        this.orgCd = orgCd;
         this.description = description;
         this.category = category;
         this.profileURL = profileURL;
@@ -0,0 +1,23 @@
+package com.hong.ForPaw.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 좋아요(관심) 대상의 종류 => 좋아요 테이블과 대상 테이블, 좋아요 수 카운터
+// 좋아요 테이블에는 (user_id, 대상 id) 유니크 제약이 있으므로 INSERT IGNORE / DELETE 한 번으로 토글할 수 있음 (LikeJdbcRepository)
+// writerColumn이 있는 대상은 자신이 작성한 것에 좋아요를 할 수 없다
+@AllArgsConstructor
+@Getter
+public enum LikeType {
+    POST("post_like_tb", "post_id", "post_tb", true, "user_id", CounterType.postLikeNum),
+    COMMENT("comment_like_tb", "comment_id", "comment_tb", true, "user_id", CounterType.commentLikeNum),
+    ANIMAL("favorite_animal_tb", "animal_id", "animal_tb", true, null, CounterType.animalLikeNum),
+    GROUP("favorite_group_tb", "group_id", "groups_tb", false, null, CounterType.groupLikeNum);
+
+    private String likeTable;
+    private String targetColumn;
+    private String targetTable;
+    private boolean softDeleted;
+    private String writerColumn;
+    private CounterType counterType;
+}
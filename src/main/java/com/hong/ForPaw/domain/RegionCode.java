@@ -7,7 +7,7 @@ import lombok.*;
 
 
 @Entity
-@Table(name = "regionCode_tb")
+@Table(name = "regionCode_tb", uniqueConstraints = @UniqueConstraint(columnNames = "orgCd"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
 public class RegionCode {
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+
 
 @Entity
 @Table(name = "shelter_tb")
@@ -33,6 +35,14 @@ public class Shelter {
     @Column
     private Long animalCnt = 0L;
 
+    // 마지막으로 동물 목록을 불러온 시간
+    @Column
+    private LocalDateTime lastPolledAt;
+
+    // 시간당 동물 변경(등록/수정/삭제) 수의 추정치 => 수집 주기를 정할 때 사용
+    @Column
+    private Double changeRate;
+
     @Builder
     public Shelter(Long id, RegionCode regionCode, String name, String careTel, String careAddr) {
         this.id = id;
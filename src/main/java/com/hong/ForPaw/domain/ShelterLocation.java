@@ -0,0 +1,7 @@
+package com.hong.ForPaw.domain;
+
+// 거리순 조회에 쓰는 보호소 정보 (보호소의 위치는 소속 시군구의 중심점)
+public record ShelterLocation(Long shelterId,
+                              String name,
+                              Integer orgCd,
+                              Long animalCnt) {}
@@ -13,7 +13,7 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "user_tb")
+@Table(name = "user_tb", indexes = @Index(name = "idx_user_region_code", columnList = "uprCd, orgCd"))
 @SQLDelete(sql = "UPDATE user_tb SET removed_at = NOW() WHERE id=?")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
@@ -50,11 +50,19 @@ public class User extends TimeStamp {
     @Column
     private String subRegion;
 
+    // 시도 코드 (RegionCode.uprCd), 이름은 표시용으로 그대로 두고 지역 필터는 코드로 처리
+    @Column
+    private Integer uprCd;
+
+    // 시군구 코드 (RegionCode.orgCd)
+    @Column
+    private Integer orgCd;
+
     @Column(name = "removed_at")
     private LocalDateTime removedAt;
 
     @Builder
-    public User(Long id, String name, String nickName, String email, String password, Role role, String profileURL, String region, String subRegion) {
+    public User(Long id, String name, String nickName, String email, String password, Role role, String profileURL, String region, String subRegion, Integer uprCd, Integer orgCd) {
         this.id = id;
         this.name = name;
         this.nickName = nickName;
@@ -64,16 +72,20 @@ public class User extends TimeStamp {
         this.profileURL = profileURL;
         this.region = region;
         this.subRegion = subRegion;
+        this.uprCd = uprCd;
+        this.orgCd = orgCd;
     }
 
     public void updatePassword (String password) {
         this.password  = password;
     }
 
-    public void updateProfile(String nickName, String region, String subRegion, String profileURL){
+    public void updateProfile(String nickName, String region, String subRegion, Integer uprCd, Integer orgCd, String profileURL){
         this.nickName = nickName;
         this.region = region;
         this.subRegion = subRegion;
+        this.uprCd = uprCd;
+        this.orgCd = orgCd;
         this.profileURL = profileURL;
     }
 
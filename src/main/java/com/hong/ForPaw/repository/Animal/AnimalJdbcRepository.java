@@ -0,0 +1,167 @@
+package com.hong.ForPaw.repository.Animal;
+
+import com.hong.ForPaw.domain.Animal.Animal;
+import com.hong.ForPaw.domain.Animal.AnimalFacet;
+import com.hong.ForPaw.domain.Animal.AnimalState;
+import com.hong.ForPaw.domain.Animal.Breed;
+import com.hong.ForPaw.domain.Animal.Species;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// id를 직접 할당하는 Animal은 JPA의 saveAll 시 행마다 SELECT + merge가 발생하므로, 대량 반영은 JDBC 배치로 처리
+@Repository
+@RequiredArgsConstructor
+public class AnimalJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO animal_tb (id, shelter_id, name, happen_dt, happen_place, kind, color, age, weight, notice_sdt, notice_edt, " +
+            "profileurl, process_state, gender, neuter, special_mark, region, species, breed_id, birth_year, upr_cd, org_cd, state, " +
+            "fingerprint, created_date, updated_date, removed_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, NOW(), NOW(), NULL) " +
+            "ON DUPLICATE KEY UPDATE shelter_id = VALUES(shelter_id), happen_dt = VALUES(happen_dt), happen_place = VALUES(happen_place), " +
+            "kind = VALUES(kind), color = VALUES(color), age = VALUES(age), weight = VALUES(weight), notice_sdt = VALUES(notice_sdt), " +
+            "notice_edt = VALUES(notice_edt), profileurl = VALUES(profileurl), process_state = VALUES(process_state), gender = VALUES(gender), " +
+            "neuter = VALUES(neuter), special_mark = VALUES(special_mark), region = VALUES(region), species = VALUES(species), " +
+            "breed_id = VALUES(breed_id), birth_year = VALUES(birth_year), upr_cd = VALUES(upr_cd), org_cd = VALUES(org_cd), state = VALUES(state), fingerprint = VALUES(fingerprint), " +
+            "updated_date = NOW(), removed_at = NULL";
+
+    private static final String INSERT_BREED_SQL = "INSERT IGNORE INTO breed_tb (species, name) VALUES (?, ?)";
+
+    private static final String SOFT_DELETE_SQL = "UPDATE animal_tb SET removed_at = NOW() WHERE id = ? AND removed_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // 품종 사전 캐시 ("DOG:믹스견" => breed id), 품종은 추가만 되고 바뀌지 않으므로 무효화하지 않음
+    private final Map<String, Long> breedIds = new ConcurrentHashMap<>();
+
+    // 보호소에 현재 등록된 동물의 id => 피드와 비교할 상태 (보호소당 한 번의 조회)
+    public Map<Long, SyncState> findSyncStatesByShelterId(Long shelterId) {
+        Map<Long, SyncState> syncStates = new HashMap<>();
+        RowCallbackHandler handler = rs -> syncStates.put(rs.getLong("id"),
+                new SyncState(rs.getLong("fingerprint"), rs.getString("process_state"), rs.getString("name"), toFacet(rs)));
+
+        jdbcTemplate.query("SELECT id, fingerprint, process_state, name, upr_cd, species, gender, state FROM animal_tb WHERE shelter_id = ? AND removed_at IS NULL", handler, shelterId);
+        return syncStates;
+    }
+
+    // 조합별 동물 수 전체 집계 (animal_tb 전체를 읽으므로 집계를 새로 만들 때만 사용)
+    public Map<AnimalFacet, Long> countFacets() {
+        Map<AnimalFacet, Long> counts = new HashMap<>();
+        RowCallbackHandler handler = rs -> {
+            AnimalFacet facet = toFacet(rs);
+            if (facet != null) {
+                counts.merge(facet, rs.getLong("cnt"), Long::sum);
+            }
+        };
+
+        jdbcTemplate.query("SELECT upr_cd, species, gender, state, COUNT(*) AS cnt FROM animal_tb WHERE removed_at IS NULL GROUP BY upr_cd, species, gender, state", handler);
+        return counts;
+    }
+
+    private AnimalFacet toFacet(ResultSet rs) throws SQLException {
+        String species = rs.getString("species");
+        String state = rs.getString("state");
+
+        return AnimalFacet.of(rs.getObject("upr_cd", Integer.class),
+                species == null ? null : Species.valueOf(species),
+                rs.getString("gender"),
+                state == null ? null : AnimalState.valueOf(state));
+    }
+
+    // 신규/변경 동물 반영 (이전에 삭제 처리된 동물이 다시 등록된 경우에도 복구됨)
+    // 청크 하나가 트랜잭션 하나 => 보호소 전체를 하나의 트랜잭션으로 묶지 않아 커넥션을 오래 잡고 있지 않음
+    @Transactional
+    public void upsertAll(List<Animal> animals) {
+        if (animals.isEmpty()) return;
+
+        Map<String, Long> chunkBreedIds = resolveBreedIds(animals);
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, animals, BATCH_SIZE, (ps, animal) -> {
+            ps.setLong(1, animal.getId());
+            ps.setLong(2, animal.getShelter().getId());
+            ps.setString(3, animal.getName());
+            ps.setDate(4, toDate(animal.getHappenDt()));
+            ps.setString(5, animal.getHappenPlace());
+            ps.setString(6, animal.getKind());
+            ps.setString(7, animal.getColor());
+            ps.setString(8, animal.getAge());
+            ps.setString(9, animal.getWeight());
+            ps.setDate(10, toDate(animal.getNoticeSdt()));
+            ps.setDate(11, toDate(animal.getNoticeEdt()));
+            ps.setString(12, animal.getProfileURL());
+            ps.setString(13, animal.getProcessState());
+            ps.setString(14, animal.getGender());
+            ps.setString(15, animal.getNeuter());
+            ps.setString(16, animal.getSpecialMark());
+            ps.setString(17, animal.getRegion());
+            ps.setString(18, animal.getSpecies().name());
+            ps.setObject(19, chunkBreedIds.get(breedKey(animal.getSpecies(), Species.breedName(animal.getKind()))), Types.BIGINT);
+            ps.setObject(20, animal.getBirthYear(), Types.INTEGER);
+            ps.setObject(21, animal.getUprCd(), Types.INTEGER);
+            ps.setObject(22, animal.getOrgCd(), Types.INTEGER);
+            ps.setString(23, animal.getState().name());
+            ps.setLong(24, animal.getFingerprint());
+        });
+    }
+
+    // 청크에 나온 품종의 id => 캐시에 없는 품종만 INSERT IGNORE 후 한 번에 조회
+    private Map<String, Long> resolveBreedIds(List<Animal> animals) {
+        Map<String, Breed> missing = new HashMap<>();
+        for (Animal animal : animals) {
+            String name = Species.breedName(animal.getKind());
+            String key = breedKey(animal.getSpecies(), name);
+            if (!breedIds.containsKey(key)) {
+                missing.putIfAbsent(key, Breed.builder().species(animal.getSpecies()).name(name).build());
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            List<Breed> newBreeds = new ArrayList<>(missing.values());
+            jdbcTemplate.batchUpdate(INSERT_BREED_SQL, newBreeds, BATCH_SIZE, (ps, breed) -> {
+                ps.setString(1, breed.getSpecies().name());
+                ps.setString(2, breed.getName());
+            });
+
+            List<String> names = newBreeds.stream().map(Breed::getName).distinct().toList();
+            namedParameterJdbcTemplate.query("SELECT id, species, name FROM breed_tb WHERE name IN (:names)", Map.of("names", names),
+                    (RowCallbackHandler) rs -> breedIds.put(breedKey(Species.valueOf(rs.getString("species")), rs.getString("name")), rs.getLong("id")));
+        }
+
+        return breedIds;
+    }
+
+    private String breedKey(Species species, String name) {
+        return species.name() + ":" + name;
+    }
+
+    @Transactional
+    public void softDeleteAll(List<Long> animalIds) {
+        if (animalIds.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(SOFT_DELETE_SQL, animalIds, BATCH_SIZE, (ps, animalId) -> ps.setLong(1, animalId));
+    }
+
+    public record SyncState(Long fingerprint, String processState, String name, AnimalFacet facet) {}
+
+    private Date toDate(LocalDate localDate) {
+        return localDate == null ? null : Date.valueOf(localDate);
+    }
+}
@@ -0,0 +1,48 @@
+package com.hong.ForPaw.repository.Animal;
+
+import com.hong.ForPaw.domain.Animal.Animal;
+import com.hong.ForPaw.domain.Animal.AnimalFilter;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.hong.ForPaw.domain.Animal.QAnimal.animal;
+
+// 조건이 요청마다 달라지는 필터 조회 => 주어진 조건만 where 절에 넣고, idx_animal_filter / idx_animal_breed 인덱스를 타도록 함
+@Repository
+@RequiredArgsConstructor
+public class AnimalQueryRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // id 역순 키셋 페이지네이션, 다음 페이지 여부는 size + 1개를 조회해서 판단
+    public Slice<Animal> findByFilterByCursor(AnimalFilter filter, Long lastId, int size) {
+        BooleanBuilder where = new BooleanBuilder(animal.removedAt.isNull());
+
+        if (filter.state() != null) where.and(animal.state.eq(filter.state()));
+        if (filter.species() != null) where.and(animal.species.eq(filter.species()));
+        if (filter.breedId() != null) where.and(animal.breedId.eq(filter.breedId()));
+        if (filter.uprCd() != null) where.and(animal.uprCd.eq(filter.uprCd()));
+        if (filter.orgCd() != null) where.and(animal.orgCd.eq(filter.orgCd()));
+        if (filter.minBirthYear() != null) where.and(animal.birthYear.goe(filter.minBirthYear()));
+        if (filter.maxBirthYear() != null) where.and(animal.birthYear.loe(filter.maxBirthYear()));
+        if (filter.gender() != null) where.and(animal.gender.eq(filter.gender()));
+        if (filter.neuter() != null) where.and(animal.neuter.eq(filter.neuter()));
+        if (lastId != null) where.and(animal.id.lt(lastId));
+
+        List<Animal> animals = queryFactory.selectFrom(animal)
+                .where(where)
+                .orderBy(animal.id.desc())
+                .limit(size + 1)
+                .fetch();
+
+        boolean hasNext = animals.size() > size;
+        return new SliceImpl<>(hasNext ? animals.subList(0, size) : animals, PageRequest.of(0, size), hasNext);
+    }
+}
@@ -1,13 +1,19 @@
 package com.hong.ForPaw.repository.Animal;
 
 import com.hong.ForPaw.domain.Animal.Animal;
+import com.hong.ForPaw.domain.Animal.AnimalFeature;
+import com.hong.ForPaw.domain.Animal.AnimalState;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -19,9 +25,43 @@ public interface AnimalRepository extends JpaRepository<Animal, Long> {
     @Query("SELECT a FROM Animal a WHERE a.id = :id AND a.removedAt IS NULL")
     Optional<Animal> findById(@Param("id") Long id);
     
+    @Query("SELECT a FROM Animal a WHERE a.id IN :ids AND a.removedAt IS NULL")
+    List<Animal> findAllById(@Param("ids") Iterable<Long> ids);
+
     @Query("SELECT a FROM Animal a WHERE a.shelter.id = :careRegNo AND a.removedAt IS NULL")
     Page<Animal> findByShelterId(@Param("careRegNo") Long careRegNo, Pageable pageable);
 
+    // 키셋 페이지네이션 => 커서(마지막으로 내려준 행) 이후의 행만 조회하고, Slice라 COUNT 쿼리가 나가지 않음 (lastId가 null이면 첫 페이지)
+    @Query("SELECT a FROM Animal a WHERE a.removedAt IS NULL AND (:lastId IS NULL OR a.id < :lastId)")
+    Slice<Animal> findAllByCursor(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT a FROM Animal a WHERE a.removedAt IS NULL " +
+            "AND (:lastNoticeSdt IS NULL OR a.noticeSdt < :lastNoticeSdt OR (a.noticeSdt = :lastNoticeSdt AND a.id < :lastId))")
+    Slice<Animal> findAllByNoticeSdtCursor(@Param("lastNoticeSdt") LocalDate lastNoticeSdt, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT a FROM Animal a WHERE a.shelter.id = :careRegNo AND a.removedAt IS NULL AND (:lastId IS NULL OR a.id < :lastId)")
+    Slice<Animal> findByShelterIdByCursor(@Param("careRegNo") Long careRegNo, @Param("lastId") Long lastId, Pageable pageable);
+
+    // 여러 보호소의 동물을 보호소 순서(shelterOrder = ",id1,id2,...,"에서의 위치), 보호소 안에서는 id 역순으로 => 커서(lastId)는 첫 보호소에만 적용
+    @Query("SELECT a FROM Animal a WHERE a.shelter.id IN :careRegNos AND a.removedAt IS NULL " +
+            "AND (:lastId IS NULL OR a.shelter.id <> :firstCareRegNo OR a.id < :lastId) " +
+            "ORDER BY LOCATE(CONCAT(',', CAST(a.shelter.id AS String), ','), :shelterOrder), a.id DESC")
+    Slice<Animal> findByShelterIdsByCursor(@Param("careRegNos") List<Long> careRegNos, @Param("firstCareRegNo") Long firstCareRegNo,
+                                           @Param("lastId") Long lastId, @Param("shelterOrder") String shelterOrder, Pageable pageable);
+
+    @Query("SELECT a FROM Animal a WHERE a.shelter.id = :careRegNo AND a.removedAt IS NULL " +
+            "AND (:lastNoticeSdt IS NULL OR a.noticeSdt < :lastNoticeSdt OR (a.noticeSdt = :lastNoticeSdt AND a.id < :lastId))")
+    Slice<Animal> findByShelterIdByNoticeSdtCursor(@Param("careRegNo") Long careRegNo, @Param("lastNoticeSdt") LocalDate lastNoticeSdt, @Param("lastId") Long lastId, Pageable pageable);
+
     @Query("SELECT COUNT(a) > 0 FROM Animal a WHERE a.id = :animalId AND a.removedAt IS NULL")
     boolean existsById(@Param("animalId") Long animalId);
+
+    // 추천 후보 => 아직 입양 가능한 동물의 정규화된 속성만 조회 (엔티티를 만들지 않음)
+    @Query("SELECT new com.hong.ForPaw.domain.Animal.AnimalFeature(a.id, a.species, a.breedId, a.uprCd, a.birthYear) FROM Animal a " +
+            "WHERE a.removedAt IS NULL AND a.state IN :states")
+    List<AnimalFeature> findFeaturesByStateIn(@Param("states") Collection<AnimalState> states);
+
+    @Query("SELECT new com.hong.ForPaw.domain.Animal.AnimalFeature(a.id, a.species, a.breedId, a.uprCd, a.birthYear) FROM Animal a " +
+            "WHERE a.id IN :ids AND a.removedAt IS NULL AND a.state IN :states")
+    List<AnimalFeature> findFeaturesByIdInAndStateIn(@Param("ids") Collection<Long> ids, @Param("states") Collection<AnimalState> states);
 }
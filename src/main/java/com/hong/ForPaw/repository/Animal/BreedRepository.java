@@ -0,0 +1,14 @@
+package com.hong.ForPaw.repository.Animal;
+
+import com.hong.ForPaw.domain.Animal.Breed;
+import com.hong.ForPaw.domain.Animal.Species;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface BreedRepository extends JpaRepository<Breed, Long> {
+
+    List<Breed> findBySpeciesOrderByName(Species species);
+}
@@ -1,6 +1,7 @@
 package com.hong.ForPaw.repository.Animal;
 
 import com.hong.ForPaw.domain.Animal.Animal;
+import com.hong.ForPaw.domain.Animal.UserAnimalFeature;
 import com.hong.ForPaw.domain.Animal.FavoriteAnimal;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -9,17 +10,27 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface FavoriteAnimalRepository extends JpaRepository<FavoriteAnimal, Long> {
 
-    Optional<FavoriteAnimal> findByUserIdAndAnimalId(Long userId, Long animalId);
+    boolean existsByUserIdAndAnimalId(Long userId, Long animalId);
 
     @Query("SELECT f.animal FROM FavoriteAnimal f WHERE f.user.id = :userId")
     Page<Animal> findAnimalByUserId(@Param("userId") Long userId, Pageable pageable);
 
-    @Query("SELECT fa.animal.id FROM FavoriteAnimal fa WHERE fa.user.id = :userId")
-    List<Long> findLikedAnimalIdsByUserId(@Param("userId") Long userId);
+    // animalIds 중에서 사용자가 '좋아요' 표시한 Animal의 ID (목록 조회 시 현재 페이지의 ID만 확인)
+    @Query("SELECT fa.animal.id FROM FavoriteAnimal fa WHERE fa.user.id = :userId AND fa.animal.id IN :animalIds")
+    Set<Long> findLikedAnimalIds(@Param("userId") Long userId, @Param("animalIds") Collection<Long> animalIds);
+
+    // [animalId, userId] 목록
+    @Query("SELECT fa.animal.id, fa.user.id FROM FavoriteAnimal fa WHERE fa.animal.id IN :animalIds")
+    List<Object[]> findAnimalIdAndUserIdByAnimalIds(@Param("animalIds") List<Long> animalIds);
+
+    // 추천용 관심 이력 => 사용자가 '좋아요' 표시한 동물의 속성
+    @Query("SELECT new com.hong.ForPaw.domain.Animal.UserAnimalFeature(fa.user.id, a.id, a.species, a.breedId, a.uprCd, a.birthYear) FROM FavoriteAnimal fa JOIN fa.animal a")
+    List<UserAnimalFeature> findAllFeatures();
 }
@@ -1,5 +1,6 @@
 package com.hong.ForPaw.repository;
 
+import com.hong.ForPaw.domain.Animal.UserAnimalFeature;
 import com.hong.ForPaw.domain.Apply.Apply;
 import com.hong.ForPaw.domain.Post.Post;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -32,4 +33,8 @@ public interface ApplyRepository extends JpaRepository<Apply, Long> {
     Long findAnimalIdById(@Param("applyId") Long applyId);
 
     void deleteAllByUserId(Long userId);
-}
\ No newline at end of file
+
+    // 추천용 지원 이력 => 사용자가 입양 지원한 동물의 속성
+    @Query("SELECT new com.hong.ForPaw.domain.Animal.UserAnimalFeature(ap.user.id, a.id, a.species, a.breedId, a.uprCd, a.birthYear) FROM Apply ap JOIN ap.animal a WHERE ap.removedAt IS NULL")
+    List<UserAnimalFeature> findAllFeatures();
+}
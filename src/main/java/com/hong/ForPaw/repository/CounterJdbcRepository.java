@@ -0,0 +1,100 @@
+package com.hong.ForPaw.repository;
+
+import com.hong.ForPaw.domain.CounterType;
+import com.hong.ForPaw.domain.Group.Role;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Redis 카운터 값을 DB 컬럼에 반영 => 타입마다 UPDATE 하나를 배치로 실행
+// 값은 증감이 아니라 Redis의 현재 값 그대로 쓰므로 같은 반영을 여러 번 실행해도 결과가 같음
+// 카운터 재계산용 실제 값도 여기서 집계 => 대상 테이블(글, 그룹 등)에 원천 테이블을 LEFT JOIN 해서 GROUP BY (원천 행이 없으면 0)
+@Repository
+@RequiredArgsConstructor
+public class CounterJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    // DB에 반영된 마지막 값 (Redis를 쓸 수 없을 때의 대체 값)
+    public Map<Long, Long> findCounts(CounterType type, Collection<Long> ids) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (ids.isEmpty() || !type.isPersisted()) return counts;
+
+        String sql = "SELECT id, " + type.getColumn() + " AS cnt FROM " + type.getTable() + " WHERE id IN (:ids)";
+        namedParameterJdbcTemplate.query(sql, Map.of("ids", ids), (RowCallbackHandler) rs -> counts.put(rs.getLong("id"), rs.getLong("cnt")));
+        return counts;
+    }
+
+    // id가 afterId보다 큰 대상 limit개의 실제 값 (id 순) => 키셋으로 끊어서 읽으므로 한 번의 쿼리가 테이블 전체를 잡고 있지 않음
+    public Map<Long, Long> findTrueCountsAfter(CounterType type, long afterId, int limit) {
+        Source source = source(type);
+        String sql = source.select() + " WHERE o.id > ?" + source.ownerFilter() + " GROUP BY o.id ORDER BY o.id LIMIT ?";
+
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> counts.put(rs.getLong("id"), rs.getLong("cnt")), afterId, limit);
+        return counts;
+    }
+
+    // ids의 실제 값 (삭제된 대상은 결과에 없음)
+    public Map<Long, Long> findTrueCounts(CounterType type, Collection<Long> ids) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (ids.isEmpty()) return counts;
+
+        Source source = source(type);
+        String sql = source.select() + " WHERE o.id IN (:ids)" + source.ownerFilter() + " GROUP BY o.id";
+        namedParameterJdbcTemplate.query(sql, Map.of("ids", ids), (RowCallbackHandler) rs -> counts.put(rs.getLong("id"), rs.getLong("cnt")));
+        return counts;
+    }
+
+    // 카운터 타입별 집계 대상과 원천 (soft delete된 행은 세지 않음, 그룹 참여자는 가입 신청 중(TEMP)인 사람을 제외, role은 ordinal로 저장됨)
+    private Source source(CounterType type) {
+        return switch (type) {
+            case inquiryNum -> new Source("animal_tb", true, "apply_tb c ON c.animal_id = o.id AND c.removed_at IS NULL");
+            case animalLikeNum -> new Source("animal_tb", true, "favorite_animal_tb c ON c.animal_id = o.id");
+            case postLikeNum -> new Source("post_tb", true, "post_like_tb c ON c.post_id = o.id");
+            case commentNum -> new Source("post_tb", true, "comment_tb c ON c.post_id = o.id AND c.removed_at IS NULL");
+            case answerNum -> new Source("post_tb", true, "post_tb c ON c.post_id = o.id AND c.removed_at IS NULL");
+            case commentLikeNum -> new Source("comment_tb", true, "comment_like_tb c ON c.comment_id = o.id");
+            case groupParticipantNum -> new Source("groups_tb", false, "group_user_tb c ON c.group_id = o.id AND c.role <> " + Role.TEMP.ordinal());
+            case groupLikeNum -> new Source("groups_tb", false, "favorite_group_tb c ON c.group_id = o.id");
+            case meetingParticipantNum -> new Source("meeting_tb", false, "meeting_user_tb c ON c.meeting_id = o.id");
+        };
+    }
+
+    @Transactional
+    public void updateCounts(CounterType type, Map<Long, Long> counts) {
+        if (counts.isEmpty() || !type.isPersisted()) return;
+
+        String sql = "UPDATE " + type.getTable() + " SET " + type.getColumn() + " = ? WHERE id = ?";
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(counts.entrySet());
+
+        jdbcTemplate.batchUpdate(sql, entries, BATCH_SIZE, (ps, entry) -> {
+            ps.setLong(1, entry.getValue());
+            ps.setLong(2, entry.getKey());
+        });
+    }
+
+    private record Source(String ownerTable, boolean softDeleted, String join) {
+
+        String select() {
+            return "SELECT o.id, COUNT(c.id) AS cnt FROM " + ownerTable + " o LEFT JOIN " + join;
+        }
+
+        String ownerFilter() {
+            return softDeleted ? " AND o.removed_at IS NULL" : "";
+        }
+    }
+}
@@ -4,19 +4,23 @@ import com.hong.ForPaw.domain.Group.FavoriteGroup;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 @Repository
 public interface FavoriteGroupRepository extends JpaRepository<FavoriteGroup, Long> {
 
-    Optional<FavoriteGroup> findByUserIdAndGroupId(Long userId, Long groupId);
-
     @EntityGraph(attributePaths = {"group"})
     @Query("SELECT fg FROM FavoriteGroup fg WHERE fg.user.id = :userId")
     List<FavoriteGroup> findAllByUserIdWithGroup(Long userId);
 
+    // groupIds 중에서 사용자가 '좋아요' 표시한 Group의 ID
+    @Query("SELECT fg.group.id FROM FavoriteGroup fg WHERE fg.user.id = :userId AND fg.group.id IN :groupIds")
+    Set<Long> findLikedGroupIds(@Param("userId") Long userId, @Param("groupIds") Collection<Long> groupIds);
+
     void deleteAllByGroupId(Long groupId);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.hong.ForPaw.repository.Group;
 import com.hong.ForPaw.domain.Group.Group;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -18,12 +19,27 @@ public interface GroupRepository extends JpaRepository<Group, Long> {
 
     Page<Group> findByRegion(String region, Pageable pageable);
 
+    // 시도 전체 => upr_cd로 시작하는 인덱스의 범위 조회
+    // 지역명이 코드로 바뀌는 행은 시작 시/수집 시 upr_cd가 채워지므로 이름으로 다시 비교하지 않음 (OR를 쓰면 인덱스를 타지 못함)
+    Page<Group> findByUprCd(Integer uprCd, Pageable pageable);
+
     boolean existsByName(String name);
 
     boolean existsById(Long id);
 
     Page<Group> findByNameContaining(@Param("name") String name, Pageable pageable);
 
-    @Query("SELECT g.id FROM Group g")
-    Page<Long> findGroupIds(Pageable pageable);
+    // 키셋 페이지네이션 (lastId가 null이면 첫 페이지)
+    @Query("SELECT g FROM Group g WHERE (:lastId IS NULL OR g.id < :lastId)")
+    Slice<Group> findAllByCursor(@Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT g FROM Group g WHERE g.region = :region AND (:lastId IS NULL OR g.id < :lastId)")
+    Slice<Group> findByRegionByCursor(@Param("region") String region, @Param("lastId") Long lastId, Pageable pageable);
+
+    // (upr_cd, id) 인덱스 => 같은 시도 안에서 id 역순으로 정렬 없이 읽음
+    @Query("SELECT g FROM Group g WHERE g.uprCd = :uprCd AND (:lastId IS NULL OR g.id < :lastId)")
+    Slice<Group> findByUprCdByCursor(@Param("uprCd") Integer uprCd, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT g FROM Group g WHERE g.name LIKE %:name% AND (:lastId IS NULL OR g.id < :lastId)")
+    Slice<Group> findByNameContainingByCursor(@Param("name") String name, @Param("lastId") Long lastId, Pageable pageable);
 }
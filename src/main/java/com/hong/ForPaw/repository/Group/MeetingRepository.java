@@ -4,6 +4,7 @@ import com.hong.ForPaw.domain.Group.Meeting;
 import com.hong.ForPaw.domain.Post.Post;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -22,6 +23,10 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
     Page<Meeting> findByGroupId(Long groupId, Pageable pageable);
 
+    // 키셋 페이지네이션 (lastId가 null이면 첫 페이지)
+    @Query("SELECT m FROM Meeting m WHERE m.group.id = :groupId AND (:lastId IS NULL OR m.id < :lastId)")
+    Slice<Meeting> findByGroupIdByCursor(@Param("groupId") Long groupId, @Param("lastId") Long lastId, Pageable pageable);
+
     @Query("SELECT m.id FROM Meeting m WHERE m.group.id = :groupId")
-    List<String> findMeetingIdsByGroupId(@Param("groupId") Long groupId);
+    List<Long> findMeetingIdsByGroupId(@Param("groupId") Long groupId);
 }
\ No newline at end of file
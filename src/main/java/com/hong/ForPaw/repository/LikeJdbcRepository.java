@@ -0,0 +1,75 @@
+package com.hong.ForPaw.repository;
+
+import com.hong.ForPaw.domain.LikeType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+// 좋아요 추가/취소를 문장 하나로 처리 => 존재 확인, 조회, 저장/삭제로 나눠서 왕복하지 않고 영향받은 행 수로 결과를 판단
+// 동시에 같은 좋아요가 들어와도 유니크 제약에 걸린 쪽은 무시되므로 예외 없이 한 건만 반영됨
+@Repository
+@RequiredArgsConstructor
+public class LikeJdbcRepository {
+
+    private static final Map<LikeType, String> INSERT_SQLS = new EnumMap<>(LikeType.class);
+    private static final Map<LikeType, String> DELETE_SQLS = new EnumMap<>(LikeType.class);
+
+    static {
+        for (LikeType type : LikeType.values()) {
+            INSERT_SQLS.put(type, buildInsertSql(type));
+            DELETE_SQLS.put(type, buildDeleteSql(type));
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 대상이 있고(삭제되지 않았고) 자신이 작성한 것이 아니며 아직 좋아요가 없을 때만 추가 => 추가했으면 true
+    public boolean insertIfAbsent(LikeType type, Long userId, Long targetId) {
+        String sql = INSERT_SQLS.get(type);
+
+        int affected = type.getWriterColumn() == null
+                ? jdbcTemplate.update(sql, userId, targetId)
+                : jdbcTemplate.update(sql, userId, targetId, userId);
+        return affected > 0;
+    }
+
+    // 추가와 같은 조건의 대상에 좋아요가 있었으면 지우고 true => 삭제된 대상의 좋아요는 추가도 취소도 되지 않음
+    public boolean delete(LikeType type, Long userId, Long targetId) {
+        String sql = DELETE_SQLS.get(type);
+
+        int affected = type.getWriterColumn() == null
+                ? jdbcTemplate.update(sql, userId, targetId)
+                : jdbcTemplate.update(sql, userId, targetId, userId);
+        return affected > 0;
+    }
+
+    private static String buildInsertSql(LikeType type) {
+        return "INSERT IGNORE INTO " + type.getLikeTable()
+                + " (user_id, " + type.getTargetColumn() + ", created_date, updated_date) "
+                + "SELECT ?, t.id, NOW(), NOW() FROM " + type.getTargetTable() + " t WHERE t.id = ?"
+                + buildTargetFilter(type);
+    }
+
+    private static String buildDeleteSql(LikeType type) {
+        // 다중 테이블 DELETE(JOIN) 대신 EXISTS => MySQL 전용 문법을 쓰지 않음
+        return "DELETE FROM " + type.getLikeTable() + " WHERE user_id = ? AND " + type.getTargetColumn() + " = ?"
+                + " AND EXISTS (SELECT 1 FROM " + type.getTargetTable() + " t WHERE t.id = " + type.getLikeTable() + "." + type.getTargetColumn()
+                + buildTargetFilter(type) + ")";
+    }
+
+    // 추가/취소가 공통으로 확인하는 대상 조건 (삭제되지 않았고, 자신이 작성한 것이 아님)
+    private static String buildTargetFilter(LikeType type) {
+        StringBuilder filter = new StringBuilder();
+        if (type.isSoftDeleted()) {
+            filter.append(" AND t.removed_at IS NULL");
+        }
+        if (type.getWriterColumn() != null) {
+            filter.append(" AND t.").append(type.getWriterColumn()).append(" <> ?");
+        }
+
+        return filter.toString();
+    }
+}
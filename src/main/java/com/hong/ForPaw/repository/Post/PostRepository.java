@@ -5,9 +5,9 @@ import com.hong.ForPaw.domain.Post.PostType;
 import com.hong.ForPaw.domain.User.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -41,6 +41,18 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p WHERE p.postType = :postType AND p.removedAt IS NULL")
     Page<Post> findByPostTypeWithUser(@Param("postType") PostType postType, Pageable pageable);
 
+    // 키셋 페이지네이션 (lastId가 null이면 첫 페이지)
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT p FROM Post p WHERE p.group.id = :groupId AND p.removedAt IS NULL AND (:lastId IS NULL OR p.id < :lastId)")
+    Slice<Post> findByGroupIdByCursor(@Param("groupId") Long groupId, @Param("lastId") Long lastId, Pageable pageable);
+
+    @Query("SELECT p FROM Post p WHERE p.title LIKE %:title% AND p.removedAt IS NULL AND (:lastId IS NULL OR p.id < :lastId)")
+    Slice<Post> findByTitleContainingByCursor(@Param("title") String title, @Param("lastId") Long lastId, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"user"})
+    @Query("SELECT p FROM Post p WHERE p.postType = :postType AND p.removedAt IS NULL AND (:lastId IS NULL OR p.id < :lastId)")
+    Slice<Post> findByPostTypeWithUserByCursor(@Param("postType") PostType postType, @Param("lastId") Long lastId, Pageable pageable);
+
     @EntityGraph(attributePaths = {"user"})
     @Query("SELECT p FROM Post p WHERE p.parent.id = :parentId AND p.removedAt IS NULL")
     List<Post> findByParentIdWithUser(@Param("parentId") Long parentId);
@@ -52,15 +64,8 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT prs.post.id FROM PostReadStatus prs WHERE prs.user.id = :userId")
     List<Long> findAllPostIdByUserId(@Param("userId") Long userId);
 
-    @Query("SELECT p.id FROM Post p WHERE p.removedAt IS NULL")
-    Page<Long> findAllPostId(Pageable pageable);
-
     @Query("SELECT COUNT(p) > 0 FROM Post p WHERE p.id = :id AND p.removedAt IS NULL")
     boolean existsById(Long id);
 
-    @Modifying
-    @Query("UPDATE Post p SET p.likeNum = :likeNum WHERE p.id = :postId AND p.removedAt IS NULL")
-    void updateLikeNum(@Param("likeNum") Long likeNum, @Param("postId") Long postId);
-
     void deleteAllByGroupId(Long groupId);
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.hong.ForPaw.repository;
+
+import com.hong.ForPaw.core.region.RegionHierarchy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 지역 코드는 시군구 코드(org_cd)가 유일 키 => 여러 번 실행해도 행이 늘어나지 않고 이름만 갱신됨
+@Repository
+@RequiredArgsConstructor
+public class RegionCodeJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO region_code_tb (upr_cd, org_cd, upr_name, org_name) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE upr_cd = VALUES(upr_cd), upr_name = VALUES(upr_name), org_name = VALUES(org_name)";
+
+    // 코드가 비어있는 기존 행을 이름으로 채움 (시도/시군구 한 쌍당 한 번)
+    private static final String BACKFILL_USER_SQL =
+            "UPDATE user_tb SET upr_cd = ?, org_cd = ? WHERE region = ? AND sub_region = ? AND upr_cd IS NULL";
+
+    private static final String BACKFILL_GROUP_SQL =
+            "UPDATE groups_tb SET upr_cd = ?, org_cd = ? WHERE region = ? AND sub_region = ? AND upr_cd IS NULL";
+
+    // 시군구 이름이 목록에 없거나 잘못 적힌 행도 시도 코드는 채움 (시도 하나당 한 번, org_cd는 비워 둠)
+    private static final String BACKFILL_USER_SIDO_SQL =
+            "UPDATE user_tb SET upr_cd = ? WHERE region = ? AND upr_cd IS NULL";
+
+    private static final String BACKFILL_GROUP_SIDO_SQL =
+            "UPDATE groups_tb SET upr_cd = ? WHERE region = ? AND upr_cd IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public void upsertAll(List<RegionHierarchy.Sigungu> sigungus) {
+        jdbcTemplate.batchUpdate(UPSERT_SQL, sigungus, BATCH_SIZE, (ps, sigungu) -> {
+            ps.setInt(1, sigungu.uprCd());
+            ps.setInt(2, sigungu.orgCd());
+            ps.setString(3, sigungu.uprName());
+            ps.setString(4, sigungu.orgName());
+        });
+    }
+
+    // 시군구까지 맞는 행을 먼저 채우고, 남은 행은 시도 이름만으로 채움
+    @Transactional
+    public void backfillCodes(List<RegionHierarchy.Sido> sidos, List<RegionHierarchy.Sigungu> sigungus) {
+        for (String sql : List.of(BACKFILL_USER_SQL, BACKFILL_GROUP_SQL)) {
+            jdbcTemplate.batchUpdate(sql, sigungus, BATCH_SIZE, (ps, sigungu) -> {
+                ps.setInt(1, sigungu.uprCd());
+                ps.setInt(2, sigungu.orgCd());
+                ps.setString(3, sigungu.uprName());
+                ps.setString(4, sigungu.orgName());
+            });
+        }
+
+        for (String sql : List.of(BACKFILL_USER_SIDO_SQL, BACKFILL_GROUP_SIDO_SQL)) {
+            jdbcTemplate.batchUpdate(sql, sidos, BATCH_SIZE, (ps, sido) -> {
+                ps.setInt(1, sido.uprCd());
+                ps.setString(2, sido.name());
+            });
+        }
+    }
+}
@@ -2,9 +2,17 @@ package com.hong.ForPaw.repository;
 
 import com.hong.ForPaw.domain.RegionCode;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 public interface RegionCodeRepository extends JpaRepository<RegionCode, Long> {
 
+    List<RegionCode> findByUprCd(Integer uprCd);
+
+    @Query("SELECT DISTINCT r.uprCd FROM RegionCode r")
+    List<Integer> findDistinctUprCd();
+
 }
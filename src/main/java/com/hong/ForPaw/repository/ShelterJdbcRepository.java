@@ -0,0 +1,84 @@
+package com.hong.ForPaw.repository;
+
+import com.hong.ForPaw.domain.Shelter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 보호소 정보는 수집 실행마다 모든 보호소가 갱신되므로, 보호소별 UPDATE 대신 실행 끝에 한 번의 배치로 반영
+// id를 직접 할당하는 Shelter는 saveAll 시 행마다 SELECT + merge가 발생하므로, 보호소 목록 반영도 JDBC 배치로 처리
+@Repository
+@RequiredArgsConstructor
+public class ShelterJdbcRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO shelter_tb (id, region_code_id, name, animal_cnt) VALUES (?, ?, ?, 0) " +
+            "ON DUPLICATE KEY UPDATE region_code_id = VALUES(region_code_id), name = VALUES(name)";
+
+    // 동물이 없어진 보호소는 연락처를 알 수 없으므로 기존 값 유지
+    private static final String UPDATE_INFO_SQL = "UPDATE shelter_tb SET care_tel = COALESCE(?, care_tel), care_addr = COALESCE(?, care_addr), animal_cnt = ? WHERE id = ?";
+
+    private static final String UPDATE_POLL_STATE_SQL = "UPDATE shelter_tb SET last_polled_at = ?, change_rate = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 보호소 id => 피드와 비교할 상태
+    public Map<Long, SyncState> findSyncStates() {
+        Map<Long, SyncState> syncStates = new HashMap<>();
+        RowCallbackHandler handler = rs -> syncStates.put(rs.getLong("id"), new SyncState(rs.getString("name"), rs.getLong("region_code_id")));
+
+        jdbcTemplate.query("SELECT id, name, region_code_id FROM shelter_tb", handler);
+        return syncStates;
+    }
+
+    // 신규 보호소는 추가하고, 기존 보호소는 이름과 지역만 갱신 (animalCnt 등 수집 중 채워지는 값은 유지)
+    @Transactional
+    public void upsertAll(List<Shelter> shelters) {
+        if (shelters.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, shelters, BATCH_SIZE, (ps, shelter) -> {
+            ps.setLong(1, shelter.getId());
+            ps.setLong(2, shelter.getRegionCode().getId());
+            ps.setString(3, shelter.getName());
+        });
+    }
+
+    @Transactional
+    public void updateShelterInfos(List<ShelterInfo> shelterInfos) {
+        if (shelterInfos.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPDATE_INFO_SQL, shelterInfos, BATCH_SIZE, (ps, shelterInfo) -> {
+            ps.setString(1, shelterInfo.careTel());
+            ps.setString(2, shelterInfo.careAddr());
+            ps.setLong(3, shelterInfo.animalCnt());
+            ps.setLong(4, shelterInfo.shelterId());
+        });
+    }
+
+    @Transactional
+    public void updatePollStates(List<PollState> pollStates) {
+        if (pollStates.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(UPDATE_POLL_STATE_SQL, pollStates, BATCH_SIZE, (ps, pollState) -> {
+            ps.setTimestamp(1, Timestamp.valueOf(pollState.polledAt()));
+            ps.setDouble(2, pollState.changeRate());
+            ps.setLong(3, pollState.shelterId());
+        });
+    }
+
+    public record SyncState(String name, Long regionCodeId) {}
+
+    public record ShelterInfo(Long shelterId, String careTel, String careAddr, Long animalCnt) {}
+
+    public record PollState(Long shelterId, LocalDateTime polledAt, double changeRate) {}
+}
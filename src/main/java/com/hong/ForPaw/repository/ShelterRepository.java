@@ -1,8 +1,10 @@
 package com.hong.ForPaw.repository;
 
 import com.hong.ForPaw.domain.Shelter;
+import com.hong.ForPaw.domain.ShelterLocation;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -25,10 +27,21 @@ public interface ShelterRepository extends JpaRepository<Shelter, Long> {
 
     Page<Shelter> findByNameContaining(@Param("name") String name, Pageable pageable);
 
+    // 키셋 페이지네이션 (lastId가 null이면 첫 페이지)
+    @Query("SELECT s FROM Shelter s WHERE s.name LIKE %:name% AND (:lastId IS NULL OR s.id < :lastId)")
+    Slice<Shelter> findByNameContainingByCursor(@Param("name") String name, @Param("lastId") Long lastId, Pageable pageable);
+
     @EntityGraph(attributePaths = {"regionCode"})
     @Query("SELECT s FROM Shelter s")
     List<Shelter> findAllWithRegionCode();
 
+    @EntityGraph(attributePaths = {"regionCode"})
+    List<Shelter> findByRegionCodeUprCd(Integer uprCd);
+
+    // 거리순 조회용 => 동물이 있는 보호소의 id, 이름, 시군구 코드
+    @Query("SELECT new com.hong.ForPaw.domain.ShelterLocation(s.id, s.name, r.orgCd, s.animalCnt) FROM Shelter s JOIN s.regionCode r WHERE s.animalCnt > 0")
+    List<ShelterLocation> findLocations();
+
     @Modifying
     @Transactional
     @Query("UPDATE Shelter s SET s.careTel = :careTel, s.careAddr = :careAddr, s.animalCnt = :animalCnt WHERE s.id = :shelterId")
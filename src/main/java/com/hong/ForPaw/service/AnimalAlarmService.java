@@ -0,0 +1,65 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.controller.DTO.AlarmRequest;
+import com.hong.ForPaw.domain.Alarm.AlarmType;
+import com.hong.ForPaw.domain.Animal.AnimalDelta;
+import com.hong.ForPaw.repository.Animal.FavoriteAnimalRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 관심 동물로 등록한 동물의 상태가 바뀌면(입양, 공고 종료 등) 등록한 사용자들에게 알람 전송
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AnimalAlarmService {
+
+    private static final int IN_CLAUSE_SIZE = 1000;
+
+    private final FavoriteAnimalRepository favoriteAnimalRepository;
+    private final BrokerService brokerService;
+
+    // 상태가 바뀐 동물들을 관심 동물로 등록한 사용자를 한 번에 조회하고, 알람도 한 번에 전송
+    public void notifyStateChanges(List<AnimalDelta.StateChange> stateChanges) {
+        if (stateChanges.isEmpty()) return;
+
+        Map<Long, AnimalDelta.StateChange> changeMap = stateChanges.stream()
+                .collect(Collectors.toMap(AnimalDelta.StateChange::animalId, Function.identity(), (first, second) -> second));
+        List<Long> animalIds = new ArrayList<>(changeMap.keySet());
+        LocalDateTime date = LocalDateTime.now();
+
+        List<AlarmRequest.AlarmDTO> alarmDTOS = new ArrayList<>();
+        for (int from = 0; from < animalIds.size(); from += IN_CLAUSE_SIZE) {
+            List<Long> chunk = animalIds.subList(from, Math.min(from + IN_CLAUSE_SIZE, animalIds.size()));
+
+            for (Object[] row : favoriteAnimalRepository.findAnimalIdAndUserIdByAnimalIds(chunk)) {
+                AnimalDelta.StateChange stateChange = changeMap.get((Long) row[0]);
+                Long userId = (Long) row[1];
+
+                alarmDTOS.add(new AlarmRequest.AlarmDTO(
+                        userId,
+                        createContent(stateChange),
+                        "animals/" + stateChange.animalId(),
+                        date,
+                        AlarmType.animal));
+            }
+        }
+
+        brokerService.produceAlarms(alarmDTOS);
+    }
+
+    private String createContent(AnimalDelta.StateChange stateChange) {
+        if (stateChange.isRemoved()) {
+            return "관심 동물 " + stateChange.animalName() + "의 공고가 내려갔어요.";
+        }
+
+        return "관심 동물 " + stateChange.animalName() + "의 상태가 '" + stateChange.toState() + "'(으)로 바뀌었어요.";
+    }
+}
@@ -0,0 +1,177 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.controller.DTO.AnimalResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// 동물 상세 조회 캐시 => 사용자와 무관한 상세 정보만 보관하고 (좋아요 여부는 조회 시 따로 확인)
+// 수집에서 추가/변경/삭제된 동물만 골라서 지우고, 다른 서버에도 Pub/Sub으로 같은 id를 지우도록 알림
+@Slf4j
+@Service
+public class AnimalDetailCacheService implements MessageListener {
+
+    private static final String EVICT_CHANNEL = "animalDetailEvict";
+
+    private final StringRedisTemplate redisTemplate;
+    private final Map<Long, AnimalResponse.FindAnimalByIdDTO> details;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+
+    // 무효화가 일어날 때마다 증가 => DB 조회 도중 무효화된 값은 캐시에 넣지 않음
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public AnimalDetailCacheService(StringRedisTemplate redisTemplate,
+                                    RedisMessageListenerContainer listenerContainer,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${animal.detail-cache.max-entries:10000}") int maxEntries) {
+        this.redisTemplate = redisTemplate;
+
+        // 접근 순서를 유지하는 LinkedHashMap => 가득 차면 가장 오래 조회되지 않은 동물부터 제거 (LRU)
+        this.details = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, AnimalResponse.FindAnimalByIdDTO> eldest) {
+                return size() > maxEntries;
+            }
+        };
+
+        this.hits = meterRegistry.counter("animal.detail.cache", "result", "hit");
+        this.misses = meterRegistry.counter("animal.detail.cache", "result", "miss");
+        this.evictions = meterRegistry.counter("animal.detail.cache.evictions");
+        Gauge.builder("animal.detail.cache.size", this, AnimalDetailCacheService::size)
+                .register(meterRegistry);
+
+        listenerContainer.addMessageListener(this, new ChannelTopic(EVICT_CHANNEL));
+    }
+
+    public AnimalResponse.FindAnimalByIdDTO get(Long animalId, Supplier<AnimalResponse.FindAnimalByIdDTO> loader) {
+        AnimalResponse.FindAnimalByIdDTO detail;
+        synchronized (details) {
+            detail = details.get(animalId);
+        }
+
+        if (detail != null) {
+            hits.increment();
+            return detail;
+        }
+
+        misses.increment();
+        long invalidation = invalidations.get();
+        detail = loader.get();
+
+        synchronized (details) {
+            if (invalidation == invalidations.get()) {
+                details.put(animalId, detail);
+            }
+        }
+
+        return detail;
+    }
+
+    // 여러 동물을 한 번에 조회 => 캐시에 없는 동물만 loader로 한 번에 불러옴 (animalIds 순서 유지, 존재하지 않는 동물은 제외)
+    public List<AnimalResponse.FindAnimalByIdDTO> getAll(List<Long> animalIds, Function<List<Long>, List<AnimalResponse.FindAnimalByIdDTO>> loader) {
+        Map<Long, AnimalResponse.FindAnimalByIdDTO> found = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+
+        synchronized (details) {
+            for (Long animalId : animalIds) {
+                AnimalResponse.FindAnimalByIdDTO detail = details.get(animalId);
+                if (detail != null) {
+                    found.put(animalId, detail);
+                } else {
+                    missingIds.add(animalId);
+                }
+            }
+        }
+
+        hits.increment(found.size());
+        misses.increment(missingIds.size());
+
+        if (!missingIds.isEmpty()) {
+            long invalidation = invalidations.get();
+            List<AnimalResponse.FindAnimalByIdDTO> loaded = loader.apply(missingIds);
+
+            synchronized (details) {
+                for (AnimalResponse.FindAnimalByIdDTO detail : loaded) {
+                    found.put(detail.id(), detail);
+                    if (invalidation == invalidations.get()) {
+                        details.put(detail.id(), detail);
+                    }
+                }
+            }
+        }
+
+        return animalIds.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 수집에서 바뀐 동물들을 이 서버와 다른 서버의 캐시에서 제거
+    public void evict(Collection<Long> animalIds) {
+        if (animalIds.isEmpty()) return;
+
+        evictLocal(animalIds);
+
+        try {
+            String message = animalIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+            redisTemplate.convertAndSend(EVICT_CHANNEL, message);
+        } catch (RuntimeException e) {
+            log.warn("동물 상세 캐시 무효화 메시지 전송 실패: {}", e.toString());
+        }
+    }
+
+    // 다른 서버(또는 자기 자신)가 보낸 무효화 메시지
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (body.isBlank()) return;
+
+        try {
+            evictLocal(Arrays.stream(body.split(",")).map(Long::valueOf).toList());
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 동물 상세 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    private void evictLocal(Collection<Long> animalIds) {
+        invalidations.incrementAndGet();
+
+        int removed = 0;
+        synchronized (details) {
+            for (Long animalId : animalIds) {
+                if (details.remove(animalId) != null) removed++;
+            }
+        }
+        evictions.increment(removed);
+    }
+
+    private int size() {
+        synchronized (details) {
+            return details.size();
+        }
+    }
+}
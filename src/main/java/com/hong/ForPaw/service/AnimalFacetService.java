@@ -0,0 +1,209 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.controller.DTO.AnimalResponse;
+import com.hong.ForPaw.core.region.RegionHierarchy;
+import com.hong.ForPaw.domain.Animal.AnimalFacet;
+import com.hong.ForPaw.domain.Animal.AnimalState;
+import com.hong.ForPaw.domain.Animal.Species;
+import com.hong.ForPaw.repository.Animal.AnimalJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+// 지역별 동물 수 (필터를 고르기 전에 보여주는 "대구: 개 132, 고양이 40")
+// 조합별 동물 수를 Redis Hash 하나(animalFacet)에 두고, 수집 실행이 추가/변경/삭제한 동물만큼만 HINCRBY로 증감 => 조회 시 animal_tb를 스캔하지 않음
+// 증감이 유실되는 경우(Redis 장애 등)를 대비해 매일 한 번 DB에서 새로 집계해서 교체
+// 재집계와 수집 실행은 서로 겹치지 않게 함 => 실행 중에 DB에 반영된 변경분은 재집계에도 잡히고, 실행이 끝날 때 HINCRBY로 한 번 더 더해지기 때문
+// 수집 실행은 시작할 때 animalFacet:runs에 등록하고(리스, 서버가 죽어도 만료됨) 증감을 반영한 뒤 빠지며,
+// 재집계는 등록된 실행이 없을 때만 락을 잡고 진행, 락이 있는 동안 시작하려는 실행은 락이 풀릴 때까지 기다림
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnimalFacetService {
+
+    private static final String FACET_KEY = "animalFacet";
+    private static final String REBUILD_KEY = "animalFacet:rebuild";
+    private static final String RUNS_KEY = "animalFacet:runs";
+    private static final String REBUILD_LOCK_KEY = "animalFacet:rebuildLock";
+    private static final String REBUILT_ON_KEY = "animalFacet:rebuiltOn";
+    static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(5);
+
+    // 재집계 락이 없을 때만 실행을 등록 (score는 리스 만료 시각, Redis 서버 시간 기준)
+    private static final RedisScript<Long> BEGIN_RUN_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[2]) == 1 then return 0 end " +
+            "local time = redis.call('time') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "redis.call('zadd', KEYS[1], now + tonumber(ARGV[2]), ARGV[1]) " +
+            "return 1", Long.class);
+
+    // 만료된 실행을 정리한 뒤, 남은 실행이 없을 때만 재집계 락을 잡음
+    private static final RedisScript<Long> LOCK_REBUILD_SCRIPT = new DefaultRedisScript<>(
+            "local time = redis.call('time') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "redis.call('zremrangebyscore', KEYS[1], '-inf', now) " +
+            "if redis.call('zcard', KEYS[1]) > 0 then return 0 end " +
+            "if redis.call('set', KEYS[2], '1', 'NX', 'PX', tonumber(ARGV[1])) then return 1 end " +
+            "return 0", Long.class);
+
+    private final AnimalJdbcRepository animalJdbcRepository;
+    private final AnimalPageCacheService animalPageCacheService;
+    private final RegionHierarchy regionHierarchy;
+    private final StringRedisTemplate redisTemplate;
+
+    // 수집 실행 한 번의 최대 길이 => 이보다 오래 등록이 남아 있으면 죽은 실행으로 보고 재집계를 막지 않음
+    @Value("${animal.facet.run-lease-ms:7200000}")
+    private long runLeaseMs;
+
+    // 시도별 집계 (uprCd가 있으면 해당 시도만), 집계는 목록 페이지 캐시에 함께 두어 수집 실행이 끝날 때 같이 비워짐
+    public AnimalResponse.FindAnimalFacetListDTO findFacetList(Integer uprCd) {
+        Map<AnimalFacet, Long> counts = animalPageCacheService.get("facets", this::loadCounts);
+
+        Map<Integer, RegionFacet> regionFacets = new TreeMap<>();
+        counts.forEach((facet, count) -> {
+            if (count <= 0 || (uprCd != null && !uprCd.equals(facet.uprCd()))) return;
+
+            regionFacets.computeIfAbsent(facet.uprCd(), key -> new RegionFacet()).add(facet, count);
+        });
+
+        List<AnimalResponse.RegionFacetDTO> regionFacetDTOS = regionFacets.entrySet().stream()
+                .map(entry -> new AnimalResponse.RegionFacetDTO(
+                        entry.getKey(),
+                        regionHierarchy.findSido(entry.getKey()).map(RegionHierarchy.Sido::name).orElse(null),
+                        entry.getValue().total,
+                        entry.getValue().species,
+                        entry.getValue().gender,
+                        entry.getValue().state))
+                .toList();
+
+        return new AnimalResponse.FindAnimalFacetListDTO(regionFacetDTOS);
+    }
+
+    // 수집 실행이 끝날 때 호출 => 실행 동안 모은 증감을 파이프라인으로 한 번에 반영
+    public void apply(Map<AnimalFacet, Long> facetDeltas) {
+        if (facetDeltas.isEmpty()) return;
+
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                facetDeltas.forEach((facet, delta) -> {
+                    if (delta != 0) {
+                        stringConnection.hIncrBy(FACET_KEY, facet.field(), delta);
+                    }
+                });
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 반영하지 못한 증감은 다음 재집계 때 맞춰짐
+            log.warn("동물 수 집계 반영 실패: {}", e.toString());
+        }
+    }
+
+    // 수집 실행을 등록 => false면 재집계가 진행 중이므로 잠시 뒤에 다시 시도
+    // Redis를 사용할 수 없으면 증감 반영도 실패하므로 기다리지 않고 진행
+    public boolean beginRun(String runId) {
+        try {
+            Long started = redisTemplate.execute(BEGIN_RUN_SCRIPT, List.of(RUNS_KEY, REBUILD_LOCK_KEY),
+                    runId, String.valueOf(runLeaseMs));
+            return started == null || started == 1;
+        } catch (RuntimeException e) {
+            log.warn("동물 수 집계 실행 등록 실패 (runId={}): {}", runId, e.toString());
+            return true;
+        }
+    }
+
+    // 증감을 반영한 뒤(또는 실패한 뒤) 호출
+    public void endRun(String runId) {
+        try {
+            redisTemplate.opsForZSet().remove(RUNS_KEY, runId);
+        } catch (RuntimeException e) {
+            // 등록은 리스가 끝나면 만료됨
+            log.warn("동물 수 집계 실행 해제 실패 (runId={}): {}", runId, e.toString());
+        }
+    }
+
+    // 수집 실행(매시 정각)과 겹치지 않도록 5시 대에 10분마다 시도하고, 그날 재집계를 마쳤으면 건너뜀
+    @Scheduled(cron = "0 5/10 5 * * *")
+    public void scheduledRebuild() {
+        String today = LocalDate.now().toString();
+        if (today.equals(redisTemplate.opsForValue().get(REBUILT_ON_KEY))) return;
+
+        if (rebuild() != null) {
+            redisTemplate.opsForValue().set(REBUILT_ON_KEY, today, Duration.ofDays(2));
+        }
+    }
+
+    // DB에서 새로 집계 => 임시 키에 쓴 뒤 RENAME으로 교체해서, 조회 중에 집계가 비어 보이지 않도록 함
+    // 진행 중인 수집 실행이 있으면 건너뛰고 null을 반환
+    public Map<AnimalFacet, Long> rebuild() {
+        Long locked = redisTemplate.execute(LOCK_REBUILD_SCRIPT, List.of(RUNS_KEY, REBUILD_LOCK_KEY),
+                String.valueOf(REBUILD_LOCK_TTL.toMillis()));
+        if (locked == null || locked == 0) {
+            log.info("진행 중인 수집 실행이 있어 동물 수 집계 재계산을 건너뜀");
+            return null;
+        }
+
+        try {
+            Map<AnimalFacet, Long> counts = animalJdbcRepository.countFacets();
+
+            if (counts.isEmpty()) {
+                redisTemplate.delete(FACET_KEY);
+                return counts;
+            }
+
+            Map<String, String> fields = new HashMap<>();
+            counts.forEach((facet, count) -> fields.put(facet.field(), String.valueOf(count)));
+
+            redisTemplate.delete(REBUILD_KEY);
+            redisTemplate.opsForHash().putAll(REBUILD_KEY, fields);
+            redisTemplate.rename(REBUILD_KEY, FACET_KEY);
+
+            log.info("동물 수 집계 재계산 완료 (조합 {}개)", counts.size());
+            return counts;
+        } finally {
+            redisTemplate.delete(REBUILD_LOCK_KEY);
+        }
+    }
+
+    // 집계가 아직 없으면(처음 배포 등) 그 자리에서 한 번 만들어 둠 => 수집 실행 중이라 만들 수 없으면 DB 집계를 그대로 사용
+    private Map<AnimalFacet, Long> loadCounts() {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(FACET_KEY);
+        if (entries.isEmpty()) {
+            Map<AnimalFacet, Long> counts = rebuild();
+            return counts != null ? counts : animalJdbcRepository.countFacets();
+        }
+
+        Map<AnimalFacet, Long> counts = new HashMap<>();
+        entries.forEach((field, count) -> counts.put(AnimalFacet.parse((String) field), Long.valueOf((String) count)));
+        return counts;
+    }
+
+    private static class RegionFacet {
+
+        private long total;
+        private final Map<Species, Long> species = new EnumMap<>(Species.class);
+        private final Map<String, Long> gender = new TreeMap<>();
+        private final Map<AnimalState, Long> state = new EnumMap<>(AnimalState.class);
+
+        private void add(AnimalFacet facet, long count) {
+            total += count;
+            species.merge(facet.species(), count, Long::sum);
+            gender.merge(facet.gender(), count, Long::sum);
+            state.merge(facet.state(), count, Long::sum);
+        }
+    }
+}
@@ -0,0 +1,382 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.controller.DTO.AnimalDTO;
+import com.hong.ForPaw.core.openapi.FeedArchive;
+import com.hong.ForPaw.core.openapi.FeedRun;
+import com.hong.ForPaw.core.openapi.OpenAPIClient;
+import com.hong.ForPaw.core.openapi.OpenAPIFeedParser;
+import com.hong.ForPaw.core.utils.HashUtils;
+import com.hong.ForPaw.domain.Animal.Animal;
+import com.hong.ForPaw.domain.Animal.AnimalDelta;
+import com.hong.ForPaw.domain.Animal.AnimalFacet;
+import com.hong.ForPaw.domain.Animal.AnimalState;
+import com.hong.ForPaw.domain.Animal.Species;
+import com.hong.ForPaw.domain.Shelter;
+import com.hong.ForPaw.repository.ShelterJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 동물 데이터 수집 파이프라인
+// 1. 요청/응답 수신: openapi 전용 이벤트 루프 (OpenAPIClient)
+// 2. 파싱, Animal 변환: 응답을 받은 스레드에서 스트리밍으로 처리
+// 3. DB 반영: jdbcScheduler의 스레드에서 청크 단위 트랜잭션으로 처리 => 이벤트 루프는 블로킹 호출을 하지 않음
+@Slf4j
+@Service
+public class AnimalIngestService {
+
+    private static final int SYNC_CHUNK_SIZE = 500;
+    private static final String NORMALIZATION_VERSION = "1";
+    static final int NUM_OF_ROWS = 1000;
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final String ANIMAL_FEED = "animal";
+    private static final Duration FACET_RUN_RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final AnimalSyncService animalSyncService;
+    private final ShelterJdbcRepository shelterJdbcRepository;
+    private final OpenAPIFeedParser feedParser;
+    private final OpenAPIClient openAPIClient;
+    private final FeedArchive feedArchive;
+    private final IngestionMetricsService metricsService;
+    private final ShelterPollPlanner pollPlanner;
+    private final AnimalAlarmService animalAlarmService;
+    private final AnimalPageCacheService animalPageCacheService;
+    private final AnimalDetailCacheService animalDetailCacheService;
+    private final AnimalRecommendService animalRecommendService;
+    private final AnimalFacetService animalFacetService;
+    private final Scheduler jdbcScheduler;
+
+    @Value("${openAPI.service-key2}")
+    private String serviceKey;
+
+    @Value("${openAPI.animalURL}")
+    private String baseUrl;
+
+    @Value("${animal.names}")
+    private String[] animalNames;
+
+    public AnimalIngestService(AnimalSyncService animalSyncService,
+                               ShelterJdbcRepository shelterJdbcRepository,
+                               OpenAPIFeedParser feedParser,
+                               OpenAPIClient openAPIClient,
+                               FeedArchive feedArchive,
+                               IngestionMetricsService metricsService,
+                               ShelterPollPlanner pollPlanner,
+                               AnimalAlarmService animalAlarmService,
+                               AnimalPageCacheService animalPageCacheService,
+                               AnimalDetailCacheService animalDetailCacheService,
+                               AnimalRecommendService animalRecommendService,
+                               AnimalFacetService animalFacetService,
+                               @Qualifier("jdbcScheduler") Scheduler jdbcScheduler) {
+        this.animalSyncService = animalSyncService;
+        this.shelterJdbcRepository = shelterJdbcRepository;
+        this.feedParser = feedParser;
+        this.openAPIClient = openAPIClient;
+        this.feedArchive = feedArchive;
+        this.metricsService = metricsService;
+        this.pollPlanner = pollPlanner;
+        this.animalAlarmService = animalAlarmService;
+        this.animalPageCacheService = animalPageCacheService;
+        this.animalDetailCacheService = animalDetailCacheService;
+        this.animalRecommendService = animalRecommendService;
+        this.animalFacetService = animalFacetService;
+        this.jdbcScheduler = jdbcScheduler;
+    }
+
+    // 보호소들의 동물 데이터를 반영하고, 보호소 정보와 수집 상태는 실행이 끝날 때 한 번에 업데이트
+    // partition은 실행 기록과 아카이브에서 실행을 구분하는 이름
+    public Mono<Void> ingest(String partition, List<Shelter> shelters) {
+        if (shelters.isEmpty()) return Mono.empty();
+
+        return Mono.using(() -> feedArchive.startRun(ANIMAL_FEED, partition), feedRun -> {
+            IngestRun run = new IngestRun(feedRun, metricsService.startRun(ANIMAL_FEED, feedRun.getRunId()));
+
+            // 동물 수 재집계가 진행 중이면 끝날 때까지 기다렸다가 시작 (재집계 락의 TTL보다 오래 기다리지 않음)
+            String runId = feedRun.getRunId();
+            Mono<Boolean> beginRun = onJdbc(() -> animalFacetService.beginRun(runId))
+                    .filter(Boolean::booleanValue)
+                    .repeatWhenEmpty((int) (AnimalFacetService.REBUILD_LOCK_TTL.toMillis() / FACET_RUN_RETRY_DELAY.toMillis()) + 1,
+                            repeats -> repeats.delayElements(FACET_RUN_RETRY_DELAY));
+
+            // 동시 요청 수는 maxInFlight로 제한하고, 요청 간격은 OpenAPIClient의 토큰 버킷이 조절
+            return beginRun.thenMany(Flux.fromIterable(shelters))
+                    .flatMap(shelter -> ingestShelter(run, shelter)
+                            .onErrorResume(e -> {
+                                // 실패한 보호소는 이번 실행에서 건너뜀 (이미 반영한 청크는 유지, 나머지 페이지와 사라진 동물 처리는 다음 수집에서)
+                                log.warn("보호소 동물 데이터 반영 실패 (careRegNo={}): {}", shelter.getId(), e.toString());
+                                run.recorder.shelter(shelter.getId()).recordFailure(e);
+                                return Mono.empty();
+                            }), openAPIClient.getMaxInFlight())
+                    .then(onJdbc(() -> {
+                        // 바뀐 동물이 있으면 동물 수 집계를 반영하고, 목록 페이지 캐시의 버전을 올림 => 다음 조회부터 새로 만든 페이지를 사용
+                        // 중간에 실패한 보호소도 이미 반영한 청크의 변경분은 run에 모여 있으므로 함께 처리됨
+                        if (run.changed.get()) {
+                            animalFacetService.apply(run.facetDeltas);
+                            animalPageCacheService.bumpVersion();
+                            refreshRecommendations(run);
+                        }
+
+                        shelterJdbcRepository.updateShelterInfos(new ArrayList<>(run.shelterInfos));
+                        shelterJdbcRepository.updatePollStates(new ArrayList<>(run.pollStates));
+                        return run.pollStates.size();
+                    }))
+                    .doFinally(signalType -> {
+                        animalFacetService.endRun(runId);
+                        run.recorder.finish();
+                    })
+                    .then();
+        }, FeedRun::close);
+    }
+
+    // 보호소의 동물 목록을 페이지 단위로 불러와서 반영 => 첫 페이지의 totalCount를 보고 나머지 페이지를 요청
+    private Mono<AnimalDelta> ingestShelter(IngestRun run, Shelter shelter) {
+        LocalDateTime polledAt = LocalDateTime.now();
+        IngestionMetricsService.ShelterRecorder stats = run.recorder.shelter(shelter.getId());
+
+        return onJdbc(() -> animalSyncService.begin(shelter.getId()))
+                .flatMap(session -> {
+                    ShelterFeed feed = new ShelterFeed(run, stats, shelter, session);
+
+                    return fetchAnimalPage(feed, 1)
+                            .then(Mono.defer(() -> Flux.range(2, Math.max(feed.lastPageNo() - 1, 0))
+                                    .concatMap(pageNo -> fetchAnimalPage(feed, pageNo))
+                                    .then()))
+                            .then(onJdbc(() -> {
+                                long start = System.nanoTime();
+                                publish(run, shelter, feed.session.finish());
+                                stats.recordDbWrite(System.nanoTime() - start, 0);
+
+                                AnimalDelta delta = feed.session.summary();
+                                stats.recordDelta(delta);
+
+                                // 보호소 정보는 첫 번째 동물의 정보로 업데이트, 동물 수는 반영 후 남아있는 동물 수 (동물이 없어진 보호소는 0)
+                                AnimalDTO.ItemDTO itemDTO = feed.firstItem.get();
+                                run.shelterInfos.add(new ShelterJdbcRepository.ShelterInfo(shelter.getId(),
+                                        itemDTO == null ? null : itemDTO.careTel(),
+                                        itemDTO == null ? null : itemDTO.careAddr(),
+                                        delta.liveCount()));
+
+                                // 이번 변경 수로 보호소의 변경률을 갱신 => 다음 수집 주기 결정에 사용
+                                run.pollStates.add(new ShelterJdbcRepository.PollState(shelter.getId(), polledAt, pollPlanner.nextChangeRate(shelter, delta, polledAt)));
+                                return delta;
+                            }));
+                });
+    }
+
+    // DB에 반영(커밋)된 변경분의 후속 처리 => 보호소가 끝날 때까지 모으지 않고 청크마다 바로 처리하므로,
+    // 뒤 페이지에서 실패해도 이미 반영된 동물의 알람, 상세 캐시 제거, 동물 수 집계가 빠지지 않음
+    private void publish(IngestRun run, Shelter shelter, AnimalDelta delta) {
+        if (delta.isEmpty()) return;
+
+        run.changed.set(true);
+        run.deltas.add(delta);
+        delta.facetDeltas().forEach((facet, count) -> run.facetDeltas.merge(facet, count, Long::sum));
+
+        // 추가/변경/삭제된 동물만 상세 캐시에서 제거
+        evictDetails(delta);
+
+        // 입양, 공고 종료 등 상태가 바뀐 동물을 관심 동물로 등록한 사용자에게 알람
+        notifyStateChanges(shelter, delta);
+    }
+
+    // 응답을 스트리밍으로 파싱하면서 청크 단위로 DB에 반영 => 응답 크기와 관계 없이 보호소당 메모리 사용량 일정
+    // concatMap으로 청크를 하나씩 반영하므로, DB 반영이 늦어지면 파싱도 그만큼 기다린다
+    private Mono<Void> fetchAnimalPage(ShelterFeed feed, int pageNo) {
+        URI uri = buildURI(baseUrl, serviceKey, feed.shelter.getId(), pageNo);
+
+        String key = feed.shelter.getId() + "/" + pageNo;
+
+        return openAPIClient.fetch(feed.run.feedRun, key, uri, body -> feedParser.parseItems(measureFetch(feed.stats, body), AnimalDTO.ItemDTO.class, feed.totalCount::set)
+                .doOnNext(itemDTO -> feed.firstItem.compareAndSet(null, itemDTO))
+                .map(itemDTO -> createAnimal(itemDTO, feed.shelter, DATE_FORMATTER))
+                .buffer(SYNC_CHUNK_SIZE)
+                .concatMap(animals -> onJdbc(() -> {
+                    long start = System.nanoTime();
+                    AnimalDelta delta = feed.session.apply(animals);
+                    feed.stats.recordDbWrite(System.nanoTime() - start, animals.size());
+                    publish(feed.run, feed.shelter, delta);
+                    return animals.size();
+                }))
+                .then());
+    }
+
+    // 추천 갱신에 실패해도 반영된 데이터는 그대로 유지 (다음 전체 재계산 때 반영됨)
+    private void refreshRecommendations(IngestRun run) {
+        try {
+            animalRecommendService.refresh(new ArrayList<>(run.deltas));
+        } catch (RuntimeException e) {
+            log.warn("추천 동물 갱신 실패: {}", e.toString());
+        }
+    }
+
+    private void evictDetails(AnimalDelta delta) {
+        List<Long> changedIds = new ArrayList<>(delta.insertedIds());
+        changedIds.addAll(delta.updatedIds());
+        changedIds.addAll(delta.removedIds());
+
+        animalDetailCacheService.evict(changedIds);
+    }
+
+    // 알람 전송에 실패해도 반영된 데이터는 그대로 유지
+    private void notifyStateChanges(Shelter shelter, AnimalDelta delta) {
+        try {
+            animalAlarmService.notifyStateChanges(delta.stateChanges());
+        } catch (RuntimeException e) {
+            log.warn("관심 동물 알람 전송 실패 (careRegNo={}): {}", shelter.getId(), e.toString());
+        }
+    }
+
+    // 응답 하나를 끝까지 받는 데 걸린 시간과 크기 기록 (재시도한 경우 성공한 시도만 기록)
+    private Flux<DataBuffer> measureFetch(IngestionMetricsService.ShelterRecorder stats, Flux<DataBuffer> body) {
+        return Flux.defer(() -> {
+            long start = System.nanoTime();
+            AtomicLong bytes = new AtomicLong();
+
+            return body.doOnNext(dataBuffer -> bytes.addAndGet(dataBuffer.readableByteCount()))
+                    .doOnComplete(() -> stats.recordFetch(System.nanoTime() - start, bytes.get()));
+        });
+    }
+
+    // 블로킹 DB 작업은 jdbcScheduler에서 실행
+    private <T> Mono<T> onJdbc(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(jdbcScheduler);
+    }
+
+    private Animal createAnimal(AnimalDTO.ItemDTO itemDTO, Shelter shelter, DateTimeFormatter formatter) {
+        Long animalId = Long.valueOf(itemDTO.desertionNo());
+        String region = shelter.getRegionCode().getUprName() + " " + shelter.getRegionCode().getOrgName();
+
+        return Animal.builder()
+                .id(animalId)
+                .name(createAnimalName(animalId))
+                .shelter(shelter)
+                .happenDt(LocalDate.parse(itemDTO.happenDt(), formatter))
+                .happenPlace(itemDTO.happenPlace())
+                .kind(itemDTO.kindCd())
+                .color(itemDTO.colorCd())
+                .age(itemDTO.age())
+                .weight(itemDTO.weight())
+                .noticeSdt(LocalDate.parse(itemDTO.noticeSdt(), formatter))
+                .noticeEdt(LocalDate.parse(itemDTO.noticeEdt(), formatter))
+                .profileURL(itemDTO.popfile())
+                .processState(itemDTO.processState())
+                .gender(itemDTO.sexCd())
+                .neuter(itemDTO.neuterYn())
+                .specialMark(itemDTO.specialMark())
+                .region(region)
+                .species(Species.fromKind(itemDTO.kindCd()))
+                .birthYear(parseBirthYear(itemDTO.age()))
+                .uprCd(shelter.getRegionCode().getUprCd())
+                .orgCd(shelter.getRegionCode().getOrgCd())
+                .state(AnimalState.fromProcessState(itemDTO.processState()))
+                .fingerprint(createFingerprint(itemDTO, region))
+                .build();
+    }
+
+    // 동물 이름 지어주는 메서드 => 실행할 때마다 이름이 바뀌지 않도록 id를 기준으로 고정
+    public String createAnimalName(Long animalId) {
+        int index = Math.floorMod(animalId, animalNames.length);
+        return animalNames[index];
+    }
+
+    // "2021(년생)", "2024(60일미만)" => 앞의 연도만 사용 (형식이 다르면 null)
+    private Integer parseBirthYear(String age) {
+        if (age == null || age.length() < 4) return null;
+
+        String year = age.substring(0, 4);
+        return year.chars().allMatch(Character::isDigit) ? Integer.valueOf(year) : null;
+    }
+
+    // 정규화 규칙이 바뀌면 NORMALIZATION_VERSION을 올려서, 다음 수집 때 모든 동물이 변경으로 처리되어 다시 반영되도록 함
+    private long createFingerprint(AnimalDTO.ItemDTO itemDTO, String region) {
+        return HashUtils.fingerprint(
+                NORMALIZATION_VERSION,
+                itemDTO.desertionNo(),
+                itemDTO.happenDt(),
+                itemDTO.happenPlace(),
+                itemDTO.kindCd(),
+                itemDTO.colorCd(),
+                itemDTO.age(),
+                itemDTO.weight(),
+                itemDTO.noticeSdt(),
+                itemDTO.noticeEdt(),
+                itemDTO.popfile(),
+                itemDTO.processState(),
+                itemDTO.sexCd(),
+                itemDTO.neuterYn(),
+                itemDTO.specialMark(),
+                region);
+    }
+
+    private URI buildURI(String baseUrl, String serviceKey, Long careRegNo, int pageNo) {
+        String url = baseUrl + "?serviceKey=" + serviceKey + "&care_reg_no=" + careRegNo + "&_type=json" + "&numOfRows=" + NUM_OF_ROWS + "&pageNo=" + pageNo;
+
+        try {
+            return new URI(url);
+        } catch (URISyntaxException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    // 수집 실행 하나 동안 모으는 결과 => 보호소별 결과는 실행이 끝날 때 한 번에 반영
+    private static class IngestRun {
+
+        private final FeedRun feedRun;
+        private final IngestionMetricsService.RunRecorder recorder;
+        private final Queue<ShelterJdbcRepository.ShelterInfo> shelterInfos = new ConcurrentLinkedQueue<>();
+        private final Queue<ShelterJdbcRepository.PollState> pollStates = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean changed = new AtomicBoolean();
+        private final Queue<AnimalDelta> deltas = new ConcurrentLinkedQueue<>();
+        private final Map<AnimalFacet, Long> facetDeltas = new ConcurrentHashMap<>();
+
+        private IngestRun(FeedRun feedRun, IngestionMetricsService.RunRecorder recorder) {
+            this.feedRun = feedRun;
+            this.recorder = recorder;
+        }
+    }
+
+    // 한 보호소의 여러 페이지를 읽는 동안 유지하는 상태
+    private static class ShelterFeed {
+
+        private final IngestRun run;
+        private final IngestionMetricsService.ShelterRecorder stats;
+        private final Shelter shelter;
+        private final AnimalSyncService.Session session;
+        private final AtomicReference<AnimalDTO.ItemDTO> firstItem = new AtomicReference<>();
+        private final AtomicInteger totalCount = new AtomicInteger();
+
+        private ShelterFeed(IngestRun run, IngestionMetricsService.ShelterRecorder stats, Shelter shelter, AnimalSyncService.Session session) {
+            this.run = run;
+            this.stats = stats;
+            this.shelter = shelter;
+            this.session = session;
+        }
+
+        private int lastPageNo() {
+            return (totalCount.get() + NUM_OF_ROWS - 1) / NUM_OF_ROWS;
+        }
+    }
+}
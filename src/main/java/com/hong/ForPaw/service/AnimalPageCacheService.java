@@ -0,0 +1,134 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.core.errors.CustomException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 동물 목록 페이지 캐시 => 사용자와 무관한 부분(동물 정보, 다음 커서)만 서버 메모리에 보관하고,
+// 좋아요 여부와 카운터는 조회할 때마다 서비스에서 덧씌운다
+// 수집 실행이 데이터를 바꾸면 Redis의 버전이 올라가고, 각 서버는 버전이 바뀐 것을 보면 캐시를 비운다
+@Slf4j
+@Service
+public class AnimalPageCacheService {
+
+    private static final String VERSION_KEY = "animalPageVersion";
+
+    private final StringRedisTemplate redisTemplate;
+    private final int maxEntries;
+    private final long versionCheckIntervalNanos;
+    private final Counter hits;
+    private final Counter misses;
+
+    // 같은 키를 동시에 요청하면 먼저 온 요청만 DB를 조회하고, 나머지는 그 결과를 기다림 (single-flight)
+    private final Map<String, CompletableFuture<Object>> pages = new ConcurrentHashMap<>();
+
+    private volatile String version;
+    private volatile long versionCheckedAt;
+
+    public AnimalPageCacheService(StringRedisTemplate redisTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${animal.page-cache.max-entries:2000}") int maxEntries,
+                                  @Value("${animal.page-cache.version-check-ms:1000}") long versionCheckMs) {
+        this.redisTemplate = redisTemplate;
+        this.maxEntries = maxEntries;
+        this.versionCheckIntervalNanos = versionCheckMs * 1_000_000L;
+        this.hits = meterRegistry.counter("animal.page.cache", "result", "hit");
+        this.misses = meterRegistry.counter("animal.page.cache", "result", "miss");
+    }
+
+    // 캐시에 있으면 그대로, 없으면 loader로 만들어서 저장 (loader가 예외를 던지면 저장하지 않음)
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader) {
+        String cacheKey = currentVersion() + ":" + key;
+
+        CompletableFuture<Object> page = pages.get(cacheKey);
+        if (page != null) {
+            hits.increment();
+            return (T) join(page);
+        }
+
+        // 저장 공간이 다 찼으면 비우고 다시 채움 (버전이 바뀔 때마다 어차피 비워지므로 LRU까지는 두지 않음)
+        if (pages.size() >= maxEntries) {
+            pages.clear();
+        }
+
+        CompletableFuture<Object> newPage = new CompletableFuture<>();
+        page = pages.putIfAbsent(cacheKey, newPage);
+        if (page != null) {
+            hits.increment();
+            return (T) join(page);
+        }
+
+        misses.increment();
+        try {
+            T value = loader.get();
+            newPage.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            pages.remove(cacheKey, newPage);
+            newPage.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // 수집 실행이 끝날 때 호출 => 모든 서버의 캐시가 다음 버전 확인 때 비워짐
+    public void bumpVersion() {
+        try {
+            version = String.valueOf(redisTemplate.opsForValue().increment(VERSION_KEY));
+            versionCheckedAt = System.nanoTime();
+            pages.clear();
+        } catch (RuntimeException e) {
+            // 버전을 올리지 못하면 이 서버의 캐시라도 비움
+            log.warn("동물 목록 캐시 버전 갱신 실패: {}", e.toString());
+            pages.clear();
+        }
+    }
+
+    // 버전은 versionCheckInterval마다 한 번만 Redis에서 확인 => 요청마다 Redis를 왕복하지 않음
+    private String currentVersion() {
+        long now = System.nanoTime();
+        if (version != null && now - versionCheckedAt < versionCheckIntervalNanos) {
+            return version;
+        }
+
+        String latest;
+        try {
+            latest = redisTemplate.opsForValue().get(VERSION_KEY);
+            latest = latest == null ? "0" : latest;
+        } catch (RuntimeException e) {
+            // Redis 장애 시에는 마지막으로 확인한 버전을 계속 사용
+            log.warn("동물 목록 캐시 버전 확인 실패: {}", e.toString());
+            return version == null ? "0" : version;
+        }
+
+        if (!latest.equals(version)) {
+            pages.clear();
+            version = latest;
+        }
+        versionCheckedAt = now;
+
+        return latest;
+    }
+
+    // 기다린 요청은 먼저 온 요청과 같은 예외를 받음 (ANIMAL_NOT_EXIST 등)
+    private Object join(CompletableFuture<Object> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof CustomException customException) {
+                throw customException;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,276 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.Animal.AnimalDelta;
+import com.hong.ForPaw.domain.Animal.AnimalFeature;
+import com.hong.ForPaw.domain.Animal.AnimalState;
+import com.hong.ForPaw.domain.Animal.Species;
+import com.hong.ForPaw.domain.Animal.UserAnimalFeature;
+import com.hong.ForPaw.repository.Animal.AnimalRepository;
+import com.hong.ForPaw.repository.Animal.FavoriteAnimalRepository;
+import com.hong.ForPaw.repository.ApplyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// 사용자별 추천 동물 => 관심/지원 이력으로 선호하는 축종, 품종, 지역, 나이를 구하고, 입양 가능한 동물의 점수를 미리 계산
+// 결과는 사용자마다 Redis Sorted Set 하나(recommend:animal:{userId})에 상위 K개만 보관 => 조회는 ZREVRANGE 한 번
+// 선호도는 새벽 재계산 때 한 번 만들고, 수집 후 갱신에서는 그대로 사용 => 그 사이에 생긴 관심/지원은 다음 재계산부터 반영
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AnimalRecommendService {
+
+    private static final String KEY_PREFIX = "recommend:animal:";
+    private static final List<AnimalState> RECOMMENDABLE_STATES = List.of(AnimalState.NOTICE, AnimalState.PROTECTED);
+    // 재계산 중인 목록 => KEY_PREFIX로 시작하지 않아야 오래된 목록을 지울 때 함께 지워지지 않음
+    private static final String REBUILD_KEY_PREFIX = "recommendRebuild:animal:";
+    private static final Pattern USER_ID_PATTERN = Pattern.compile("\\d+");
+    private static final int PIPELINE_SIZE = 500;
+
+    // 점수 가중치 => 품종이 같으면 가장 크게, 나이는 가까울수록 조금 더
+    private static final double BREED_WEIGHT = 0.4;
+    private static final double SPECIES_WEIGHT = 0.25;
+    private static final double REGION_WEIGHT = 0.25;
+    private static final double AGE_WEIGHT = 0.1;
+
+    private final AnimalRepository animalRepository;
+    private final FavoriteAnimalRepository favoriteAnimalRepository;
+    private final ApplyRepository applyRepository;
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${animal.recommend.size:100}")
+    private int recommendSize;
+
+    // 새벽 재계산 때 만든 사용자별 선호도 => 다음 재계산까지 수집 후 갱신(refresh)에서 재사용
+    private volatile Map<Long, Preference> preferences;
+
+    // 추천 동물 id (점수 높은 순), 추천이 아직 없으면 빈 리스트
+    public List<Long> findRecommendedAnimalIds(Long userId, int size) {
+        Set<String> members = redisTemplate.opsForZSet().reverseRange(buildKey(userId), 0, size - 1);
+        if (members == null) return List.of();
+
+        return members.stream()
+                .map(Long::valueOf)
+                .toList();
+    }
+
+    // 전체 재계산 => 매일 새벽, 모든 사용자의 추천 목록을 새로 만든다
+    // 사용자마다 임시 키에 쓴 뒤 RENAME으로 교체 => 조회 중에 목록이 비어 보이지 않음
+    // 이력이 없어진 사용자(관심/지원을 모두 취소하거나 탈퇴)의 추천 목록은 지움
+    @Scheduled(cron = "0 30 4 * * *")
+    public void rebuildAll() {
+        Map<Long, Preference> preferences = loadPreferences();
+        List<AnimalFeature> candidates = animalRepository.findFeaturesByStateIn(RECOMMENDABLE_STATES);
+
+        List<Map.Entry<Long, Preference>> entries = new ArrayList<>(preferences.entrySet());
+        for (int from = 0; from < entries.size(); from += PIPELINE_SIZE) {
+            List<Map.Entry<Long, Preference>> chunk = entries.subList(from, Math.min(from + PIPELINE_SIZE, entries.size()));
+
+            Map<Long, Map<Long, Double>> topKByUser = new LinkedHashMap<>();
+            chunk.forEach(entry -> topKByUser.put(entry.getKey(), topK(entry.getValue(), candidates)));
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                topKByUser.forEach((userId, scores) -> {
+                    // 점수를 매길 후보가 없으면 임시 키가 만들어지지 않으므로 (RENAME 실패) 기존 목록만 지움
+                    if (scores.isEmpty()) {
+                        stringConnection.del(buildKey(userId));
+                        return;
+                    }
+
+                    String rebuildKey = REBUILD_KEY_PREFIX + userId;
+                    stringConnection.del(rebuildKey);
+                    scores.forEach((animalId, score) -> stringConnection.zAdd(rebuildKey, score, String.valueOf(animalId)));
+                    stringConnection.rename(rebuildKey, buildKey(userId));
+                });
+                return null;
+            });
+        }
+
+        long deletedNum = deleteStaleKeys(preferences.keySet());
+        this.preferences = preferences;
+
+        log.info("추천 동물 전체 재계산 완료 (사용자 {}명, 후보 {}마리, 지운 목록 {}개)", preferences.size(), candidates.size(), deletedNum);
+    }
+
+    // 수집 실행 후 바뀐 동물만 반영 => 새로 들어오거나 바뀐 동물은 모든 사용자에 대해 점수를 매겨 추가하고,
+    // 사라진 동물과 입양 가능하지 않게 된 동물은 제거한 뒤 상위 K개만 남김
+    public void refresh(List<AnimalDelta> deltas) {
+        Set<Long> changedIds = new HashSet<>();
+        Set<Long> removedIds = new HashSet<>();
+        for (AnimalDelta delta : deltas) {
+            changedIds.addAll(delta.insertedIds());
+            changedIds.addAll(delta.updatedIds());
+            removedIds.addAll(delta.removedIds());
+        }
+
+        if (changedIds.isEmpty() && removedIds.isEmpty()) return;
+
+        List<AnimalFeature> candidates = changedIds.isEmpty() ? List.of() : animalRepository.findFeaturesByIdInAndStateIn(changedIds, RECOMMENDABLE_STATES);
+
+        // 바뀐 동물 중 후보에서 빠진 동물(입양 완료 등)도 제거 대상
+        Set<Long> candidateIds = new HashSet<>();
+        candidates.forEach(candidate -> candidateIds.add(candidate.animalId()));
+        changedIds.stream()
+                .filter(animalId -> !candidateIds.contains(animalId))
+                .forEach(removedIds::add);
+
+        String[] removedMembers = removedIds.stream().map(String::valueOf).toArray(String[]::new);
+        // 선호도는 새벽 재계산 때 만든 것을 사용 (수집마다 이력 전체를 다시 읽지 않음), 서버가 시작된 뒤 처음이면 한 번 읽어둠
+        Map<Long, Preference> preferences = this.preferences;
+        if (preferences == null) {
+            preferences = loadPreferences();
+            this.preferences = preferences;
+        }
+
+        List<Map.Entry<Long, Preference>> entries = new ArrayList<>(preferences.entrySet());
+        for (int from = 0; from < entries.size(); from += PIPELINE_SIZE) {
+            List<Map.Entry<Long, Preference>> chunk = entries.subList(from, Math.min(from + PIPELINE_SIZE, entries.size()));
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                chunk.forEach(entry -> {
+                    String key = buildKey(entry.getKey());
+                    if (removedMembers.length > 0) {
+                        stringConnection.zRem(key, removedMembers);
+                    }
+
+                    topK(entry.getValue(), candidates).forEach((animalId, score) -> stringConnection.zAdd(key, score, String.valueOf(animalId)));
+                    stringConnection.zRemRange(key, 0, -(recommendSize + 1));
+                });
+                return null;
+            });
+        }
+    }
+
+    // 추천 목록 키 중 이력이 있는 사용자의 것이 아니면 지움
+    private long deleteStaleKeys(Set<Long> userIds) {
+        long deletedNum = 0;
+        List<String> staleKeys = new ArrayList<>(PIPELINE_SIZE);
+
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                String userId = key.substring(KEY_PREFIX.length());
+                if (USER_ID_PATTERN.matcher(userId).matches() && userIds.contains(Long.valueOf(userId))) continue;
+
+                staleKeys.add(key);
+                if (staleKeys.size() == PIPELINE_SIZE) {
+                    deletedNum += deleteKeys(staleKeys);
+                }
+            }
+        }
+
+        return deletedNum + deleteKeys(staleKeys);
+    }
+
+    private long deleteKeys(List<String> keys) {
+        if (keys.isEmpty()) return 0;
+
+        Long deleted = redisTemplate.delete(keys);
+        keys.clear();
+        return deleted == null ? 0 : deleted;
+    }
+
+    // 관심 동물과 지원한 동물을 합쳐서 사용자별 선호도를 만듦 (지원은 관심보다 강한 신호라 두 배로 반영)
+    private Map<Long, Preference> loadPreferences() {
+        Map<Long, Preference> preferences = new HashMap<>();
+        favoriteAnimalRepository.findAllFeatures()
+                .forEach(feature -> preferences.computeIfAbsent(feature.userId(), userId -> new Preference()).add(feature, 1));
+        applyRepository.findAllFeatures()
+                .forEach(feature -> preferences.computeIfAbsent(feature.userId(), userId -> new Preference()).add(feature, 2));
+
+        return preferences;
+    }
+
+    // 후보 중 점수가 높은 recommendSize개 (이미 관심/지원한 동물은 제외), 최소 힙으로 후보 수와 관계 없이 K개만 유지
+    private Map<Long, Double> topK(Preference preference, List<AnimalFeature> candidates) {
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (AnimalFeature candidate : candidates) {
+            if (preference.seenIds.contains(candidate.animalId())) continue;
+
+            double score = preference.score(candidate);
+            if (score <= 0) continue;
+
+            if (heap.size() < recommendSize) {
+                heap.add(Map.entry(candidate.animalId(), score));
+            } else if (heap.peek().getValue() < score) {
+                heap.poll();
+                heap.add(Map.entry(candidate.animalId(), score));
+            }
+        }
+
+        Map<Long, Double> scores = new LinkedHashMap<>();
+        heap.stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> scores.put(entry.getKey(), entry.getValue()));
+        return scores;
+    }
+
+    private String buildKey(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    // 사용자의 선호도 => 이력에서 축종, 품종, 시도별 비율과 평균 출생연도
+    private static class Preference {
+
+        private final Set<Long> seenIds = new HashSet<>();
+        private final Map<Species, Integer> speciesCounts = new EnumMap<>(Species.class);
+        private final Map<Long, Integer> breedCounts = new HashMap<>();
+        private final Map<Integer, Integer> regionCounts = new HashMap<>();
+        private int total;
+        private long birthYearSum;
+        private int birthYearNum;
+
+        private void add(UserAnimalFeature feature, int weight) {
+            seenIds.add(feature.animalId());
+            total += weight;
+
+            if (feature.species() != null) speciesCounts.merge(feature.species(), weight, Integer::sum);
+            if (feature.breedId() != null) breedCounts.merge(feature.breedId(), weight, Integer::sum);
+            if (feature.uprCd() != null) regionCounts.merge(feature.uprCd(), weight, Integer::sum);
+            if (feature.birthYear() != null) {
+                birthYearSum += (long) feature.birthYear() * weight;
+                birthYearNum += weight;
+            }
+        }
+
+        private double score(AnimalFeature candidate) {
+            if (total == 0) return 0;
+
+            double score = BREED_WEIGHT * share(breedCounts, candidate.breedId())
+                    + SPECIES_WEIGHT * share(speciesCounts, candidate.species())
+                    + REGION_WEIGHT * share(regionCounts, candidate.uprCd());
+
+            if (birthYearNum > 0 && candidate.birthYear() != null) {
+                double yearGap = Math.abs(candidate.birthYear() - (double) birthYearSum / birthYearNum);
+                score += AGE_WEIGHT / (1 + yearGap);
+            }
+
+            return score;
+        }
+
+        private <K> double share(Map<K, Integer> counts, K key) {
+            return key == null ? 0 : (double) counts.getOrDefault(key, 0) / total;
+        }
+    }
+}
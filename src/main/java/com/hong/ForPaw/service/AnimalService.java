@@ -1,44 +1,48 @@
 package com.hong.ForPaw.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hong.ForPaw.controller.DTO.AnimalRequest;
 import com.hong.ForPaw.controller.DTO.AnimalResponse;
 import com.hong.ForPaw.core.errors.CustomException;
 import com.hong.ForPaw.core.errors.ExceptionCode;
+import com.hong.ForPaw.core.geo.GeoPoint;
+import com.hong.ForPaw.core.partition.PartitionCoordinator;
+import com.hong.ForPaw.core.utils.Cursor;
 import com.hong.ForPaw.domain.Apply.Apply;
 import com.hong.ForPaw.domain.Apply.Status;
-import com.hong.ForPaw.domain.Animal.FavoriteAnimal;
+import com.hong.ForPaw.domain.Animal.AnimalFilter;
+import com.hong.ForPaw.domain.Animal.Species;
+import com.hong.ForPaw.domain.CounterType;
+import com.hong.ForPaw.domain.LikeType;
+import com.hong.ForPaw.domain.User.Role;
 import com.hong.ForPaw.domain.User.User;
 import com.hong.ForPaw.controller.DTO.AnimalDTO;
 import com.hong.ForPaw.domain.Animal.Animal;
 import com.hong.ForPaw.domain.Shelter;
 import com.hong.ForPaw.repository.*;
+import com.hong.ForPaw.repository.Animal.AnimalQueryRepository;
 import com.hong.ForPaw.repository.Animal.AnimalRepository;
+import com.hong.ForPaw.repository.Animal.BreedRepository;
 import com.hong.ForPaw.repository.Animal.FavoriteAnimalRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Flux;
 
-import java.net.URI;
-import java.net.URISyntaxException;
 import java.time.Duration;
-import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -46,79 +50,218 @@ import java.util.stream.Collectors;
 public class AnimalService {
 
     private final AnimalRepository animalRepository;
+    private final AnimalQueryRepository animalQueryRepository;
+    private final BreedRepository breedRepository;
     private final ShelterRepository shelterRepository;
     private final FavoriteAnimalRepository favoriteAnimalRepository;
-    private final RedisService redisService;
+    private final CounterService counterService;
+    private final LikeService likeService;
+    private final AnimalPageCacheService animalPageCacheService;
+    private final AnimalDetailCacheService animalDetailCacheService;
+    private final AnimalRecommendService animalRecommendService;
+    private final AnimalFacetService animalFacetService;
+    private final ShelterLocationService shelterLocationService;
     private final ApplyRepository applyRepository;
+    private final AnimalIngestService animalIngestService;
+    private final IngestionMetricsService ingestionMetricsService;
+    private final ShelterPollPlanner shelterPollPlanner;
+    private final PartitionCoordinator partitionCoordinator;
+    private final RegionCodeRepository regionCodeRepository;
     private final EntityManager entityManager;
-    private final ObjectMapper mapper;
-    private final WebClient webClient;
     private final RestTemplate restTemplate;
 
-    @Value("${openAPI.service-key2}")
-    private String serviceKey;
+    private static final String ANIMAL_JOB = "animal";
+    private static final String NOTICE_SDT_SORT = "noticeSdt";
+    private static final String DISTANCE_SORT = "distance";
+    private static final int NEAR_SHELTER_LIMIT = 100;
+    private static final DateTimeFormatter HOUR_TICK_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHH");
 
-    @Value("${openAPI.animalURL}")
-    private String baseUrl;
-
-    @Value("${animal.names}")
-    private String[] animalNames;
-
-    @Transactional
-    @Scheduled(cron = "0 0 0,12 * * *") // 매일 자정과 정오에 실행
+    // 모든 보호소의 동물 데이터를 불러옴
     public void loadAnimalData() {
         List<Shelter> shelters = shelterRepository.findAllWithRegionCode();
 
-        Flux.fromIterable(shelters)
-                .delayElements(Duration.ofMillis(50)) // 각 요청 사이에 0.05초 지연
-                .flatMap(shelter -> {
-                    Long careRegNo = shelter.getId();
-                    URI uri = buildURI(baseUrl, serviceKey, careRegNo);
-
-                    return webClient.get()
-                            .uri(uri)
-                            .retrieve()
-                            .bodyToMono(String.class)
-                            .flatMapMany(response -> processAnimalData(response, shelter))
-                            .collectList()
-                            .doOnNext(animalRepository::saveAll);
-                })
-                .then()
+        // DB 반영은 AnimalIngestService의 청크 단위 트랜잭션에서 처리
+        animalIngestService.ingest("all", shelters)
                 .subscribe();
     }
 
+    // 매시간 요청 예산 안에서 변경이 잦은 보호소부터 불러옴 (조용한 보호소는 maxInterval마다 한 번)
+    // 서버가 여러 대인 경우 시도(uprCd) 단위로 나눠서, 이번 시간에 아직 처리되지 않은 시도를 가져가서 처리
+    @Scheduled(initialDelayString = "${ingestion.partition.sweep-interval-ms:60000}", fixedDelayString = "${ingestion.partition.sweep-interval-ms:60000}")
+    public void pollAnimalData() {
+        LocalDateTime now = LocalDateTime.now();
+        String tickId = now.format(HOUR_TICK_FORMATTER);
+        long shelterNum = shelterRepository.count();
+
+        partitionCoordinator.sweep(ANIMAL_JOB, tickId, Duration.ofHours(1), regionCodeRepository.findDistinctUprCd(), uprCd -> {
+            List<Shelter> shelters = shelterRepository.findByRegionCodeUprCd(uprCd);
+            double budgetShare = shelterNum == 0 ? 1.0 : (double) shelters.size() / shelterNum;
+
+            return animalIngestService.ingest("p" + uprCd, shelterPollPlanner.plan(shelters, now, budgetShare));
+        });
+    }
+
+    // 최근 수집 실행 기록 (관리자만 조회 가능)
+    public AnimalResponse.FindImportRunListDTO findImportRunList(Integer size, Role role){
+        if(!role.equals(Role.ADMIN)){
+            throw new CustomException(ExceptionCode.USER_FORBIDDEN);
+        }
+
+        return new AnimalResponse.FindImportRunListDTO(ingestionMetricsService.findRecentRuns(size));
+    }
+
     @Transactional
     public AnimalResponse.FindAnimalListDTO findAnimalList(Integer page, Integer size, String sort, Long userId){
-        Pageable pageable =createPageable(page, size, sort);
-        Page<Animal> animalPage = animalRepository.findAll(pageable);
+        AnimalResponse.FindAnimalListDTO sharedPage = animalPageCacheService.get("animals:page:" + page + ":" + size + ":" + sort, () -> {
+            Pageable pageable =createPageable(page, size, sort);
+            Page<Animal> animalPage = animalRepository.findAll(pageable);
 
-        if(animalPage.isEmpty()){
+            if(animalPage.isEmpty()){
+                throw new CustomException(ExceptionCode.ANIMAL_NOT_EXIST);
+            }
+
+            return new AnimalResponse.FindAnimalListDTO(toSharedAnimalDTOS(animalPage.getContent()), null);
+        });
+
+        return new AnimalResponse.FindAnimalListDTO(overlayAnimalDTOS(sharedPage.animals(), userId), null);
+    }
+
+    // 커서 기반 조회 => 커서 이후의 동물만 조회하고, 다음 페이지의 커서를 함께 반환 (COUNT 쿼리 없음)
+    @Transactional
+    public AnimalResponse.FindAnimalListDTO findAnimalListByCursor(String cursor, Integer size, String sort, Long userId){
+        // 공고 시작일 순이면 (noticeSdt, id), 그 외에는 id 순으로 이어서 조회
+        boolean byNoticeSdt = sort.startsWith(NOTICE_SDT_SORT);
+        Cursor lastCursor = Cursor.decode(cursor, byNoticeSdt ? NOTICE_SDT_SORT : Cursor.ID_SORT);
+        Long lastId = lastCursor == null ? null : lastCursor.id();
+
+        String cacheKey = "animals:cursor:" + (byNoticeSdt ? NOTICE_SDT_SORT : Cursor.ID_SORT) + ":" + size + ":" + cursor;
+        AnimalResponse.FindAnimalListDTO sharedPage = animalPageCacheService.get(cacheKey, () -> {
+            Slice<Animal> animalSlice = byNoticeSdt
+                    ? animalRepository.findAllByNoticeSdtCursor(lastCursor == null ? null : lastCursor.valueAsDate(), lastId, PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, NOTICE_SDT_SORT, "id")))
+                    : animalRepository.findAllByCursor(lastId, createPageable(0, size, "id"));
+
+            if(animalSlice.isEmpty()){
+                throw new CustomException(ExceptionCode.ANIMAL_NOT_EXIST);
+            }
+
+            String nextCursor = Cursor.next(animalSlice, animal -> byNoticeSdt ? Cursor.of(NOTICE_SDT_SORT, animal.getNoticeSdt(), animal.getId()) : Cursor.of(animal.getId()));
+            return new AnimalResponse.FindAnimalListDTO(toSharedAnimalDTOS(animalSlice.getContent()), nextCursor);
+        });
+
+        return new AnimalResponse.FindAnimalListDTO(overlayAnimalDTOS(sharedPage.animals(), userId), sharedPage.nextCursor());
+    }
+
+    // 사용자의 지역에서 가까운 보호소 순으로 (보호소 안에서는 id 순) => 보호소 순서는 메모리의 격자 색인에서 구함
+    // 커서는 (마지막 보호소 id, 마지막 동물 id)이고, 보호소의 동물을 다 내려주면 다음으로 가까운 보호소로 넘어감
+    // 색인의 동물 수(animalCnt)로 size를 채울 만큼의 보호소를 골라 한 번의 IN 쿼리로 가져옴
+    // 동물 수는 수집 시점의 값이라 실제보다 적게 나오면 남은 만큼 다음 보호소들로 한 번 더 조회
+    @Transactional(readOnly = true)
+    public AnimalResponse.FindAnimalListDTO findAnimalListByDistance(String cursor, Integer size, Long userId){
+        Cursor lastCursor = Cursor.decode(cursor, DISTANCE_SORT);
+        GeoPoint origin = shelterLocationService.locateUser(userId);
+        List<ShelterLocationService.NearShelter> shelters = shelterLocationService.findNearestShelters(origin, NEAR_SHELTER_LIMIT);
+
+        int next = 0;
+        Long lastId = null;
+        if(lastCursor != null){
+            Long lastShelterId = lastCursor.valueAsLong();
+            next = IntStream.range(0, shelters.size())
+                    .filter(i -> shelters.get(i).shelterId().equals(lastShelterId))
+                    .findFirst()
+                    .orElseThrow(() -> new CustomException(ExceptionCode.INVALID_CURSOR));
+            lastId = lastCursor.id();
+        }
+
+        List<Animal> animals = new ArrayList<>();
+        String nextCursor = null;
+        while(next < shelters.size() && animals.size() < size){
+            int remaining = size - animals.size();
+            List<Long> shelterIds = new ArrayList<>();
+            long covered = 0;
+            while(next < shelters.size() && covered < remaining){
+                ShelterLocationService.NearShelter shelter = shelters.get(next++);
+                shelterIds.add(shelter.shelterId());
+                covered += shelter.animalCnt() == null ? 0 : shelter.animalCnt();
+            }
+
+            String shelterOrder = shelterIds.stream().map(String::valueOf).collect(Collectors.joining(",", ",", ","));
+            Slice<Animal> animalSlice = animalRepository.findByShelterIdsByCursor(shelterIds, shelterIds.get(0), lastId, shelterOrder, PageRequest.of(0, remaining));
+            animals.addAll(animalSlice.getContent());
+            lastId = null;
+
+            if(animals.size() >= size && (animalSlice.hasNext() || next < shelters.size())){
+                Animal lastAnimal = animals.get(animals.size() - 1);
+                nextCursor = Cursor.of(DISTANCE_SORT, lastAnimal.getShelter().getId(), lastAnimal.getId()).encode();
+            }
+        }
+
+        if(animals.isEmpty()){
             throw new CustomException(ExceptionCode.ANIMAL_NOT_EXIST);
         }
 
-        // 사용자가 '좋아요' 표시한 Animal의 ID 목록
-        List<Long> likedAnimalIds = favoriteAnimalRepository.findLikedAnimalIdsByUserId(userId);
+        return new AnimalResponse.FindAnimalListDTO(overlayAnimalDTOS(toSharedAnimalDTOS(animals), userId), nextCursor);
+    }
 
-        List<AnimalResponse.AnimalDTO> animalDTOS = animalPage.getContent().stream()
-                .map(animal -> {
-                    Long inquiryNum = redisService.getDataInLong("inquiryNum", animal.getId().toString());
-                    Long likeNum = redisService.getDataInLong("postLikeNum", animal.getId().toString());
+    // 축종, 품종, 출생연도, 지역, 상태 등으로 거른 목록 (id 순 커서)
+    @Transactional(readOnly = true)
+    public AnimalResponse.FindAnimalListDTO findAnimalListByFilter(AnimalFilter filter, String cursor, Integer size, Long userId){
+        Long lastId = Cursor.decodeId(cursor);
 
-                    return new AnimalResponse.AnimalDTO(
-                        animal.getId(),
-                        animal.getName(),
-                        animal.getAge(),
-                        animal.getGender(),
-                        animal.getSpecialMark(),
-                        animal.getRegion(),
-                        inquiryNum,
-                        likeNum,
-                        likedAnimalIds.contains(animal.getId()),
-                        animal.getProfileURL());
-                })
+        AnimalResponse.FindAnimalListDTO sharedPage = animalPageCacheService.get("animals:filter:" + filter + ":" + size + ":" + cursor, () -> {
+            Slice<Animal> animalSlice = animalQueryRepository.findByFilterByCursor(filter, lastId, size);
+
+            if(animalSlice.isEmpty()){
+                throw new CustomException(ExceptionCode.ANIMAL_NOT_EXIST);
+            }
+
+            String nextCursor = Cursor.next(animalSlice, animal -> Cursor.of(animal.getId()));
+            return new AnimalResponse.FindAnimalListDTO(toSharedAnimalDTOS(animalSlice.getContent()), nextCursor);
+        });
+
+        return new AnimalResponse.FindAnimalListDTO(overlayAnimalDTOS(sharedPage.animals(), userId), sharedPage.nextCursor());
+    }
+
+    // 미리 계산해둔 추천 목록 (Redis 키 하나), 아직 추천이 없는 사용자는 최신 목록으로 대신함
+    @Transactional(readOnly = true)
+    public AnimalResponse.FindAnimalListDTO findRecommendAnimalList(Integer size, Long userId){
+        List<Long> animalIds = animalRecommendService.findRecommendedAnimalIds(userId, size);
+        if(animalIds.isEmpty()){
+            return findAnimalListByCursor(null, size, Cursor.ID_SORT, userId);
+        }
+
+        // 카드에 필요한 정보는 상세 캐시에서 가져옴 (캐시에 없는 동물만 한 번에 조회)
+        List<AnimalResponse.AnimalDTO> sharedDTOS = animalDetailCacheService.getAll(animalIds, missingIds -> animalRepository.findAllById(missingIds).stream()
+                        .map(this::toSharedDetailDTO)
+                        .toList())
+                .stream()
+                .map(detail -> new AnimalResponse.AnimalDTO(
+                        detail.id(),
+                        detail.name(),
+                        detail.age(),
+                        detail.gender(),
+                        detail.specialMark(),
+                        detail.region(),
+                        null,
+                        null,
+                        null,
+                        detail.profileURL()))
+                .toList();
+
+        return new AnimalResponse.FindAnimalListDTO(overlayAnimalDTOS(sharedDTOS, userId), null);
+    }
+
+    @Transactional(readOnly = true)
+    public AnimalResponse.FindBreedListDTO findBreedList(Species species){
+        List<AnimalResponse.BreedDTO> breedDTOS = breedRepository.findBySpeciesOrderByName(species).stream()
+                .map(breed -> new AnimalResponse.BreedDTO(breed.getId(), breed.getName()))
                 .collect(Collectors.toList());
 
-        return new AnimalResponse.FindAnimalListDTO(animalDTOS);
+        return new AnimalResponse.FindBreedListDTO(breedDTOS);
+    }
+
+    // 지역별 동물 수 (수집 실행마다 증감으로 갱신되는 집계를 그대로 반환)
+    public AnimalResponse.FindAnimalFacetListDTO findAnimalFacetList(Integer uprCd){
+        return animalFacetService.findFacetList(uprCd);
     }
 
     @Transactional
@@ -130,10 +273,13 @@ public class AnimalService {
             throw new CustomException(ExceptionCode.ANIMAL_NOT_EXIST);
         }
 
+        // 페이지에 포함된 동물들의 문의 수, 좋아요 수를 한 번에 조회
+        CounterService.Counts counts = counterService.getCounts(extractAnimalIds(animalPage.getContent()), CounterType.inquiryNum, CounterType.animalLikeNum);
+
         List<AnimalResponse.AnimalDTO> animalDTOS = animalPage.getContent().stream()
                 .map(animal -> {
-                    Long inquiryNum = redisService.getDataInLong("inquiryNum", animal.getId().toString());
-                    Long likeNum = redisService.getDataInLong("postLikeNum", animal.getId().toString());
+                    Long inquiryNum = counts.get(CounterType.inquiryNum, animal.getId());
+                    Long likeNum = counts.get(CounterType.animalLikeNum, animal.getId());
 
                     return new AnimalResponse.AnimalDTO(
                         animal.getId(),
@@ -154,55 +300,40 @@ public class AnimalService {
 
     @Transactional
     public AnimalResponse.FindAnimalByIdDTO findAnimalById(Long animalId, Long userId){
-        Animal animal = animalRepository.findById(animalId).orElseThrow(
-                () -> new CustomException(ExceptionCode.ANIMAL_NOT_FOUND)
-        );
-
-        boolean isLike = favoriteAnimalRepository.findByUserIdAndAnimalId(userId, animal.getId()).isPresent();
-
-        return new AnimalResponse.FindAnimalByIdDTO(animalId,
-                animal.getName(),
-                animal.getAge(),
-                animal.getGender(),
-                animal.getSpecialMark(),
-                animal.getRegion(),
+        // 상세 정보는 수집 때만 바뀌므로 캐시에서 가져오고, 좋아요 여부만 사용자별로 확인
+        AnimalResponse.FindAnimalByIdDTO detail = animalDetailCacheService.get(animalId, () -> {
+            Animal animal = animalRepository.findById(animalId).orElseThrow(
+                    () -> new CustomException(ExceptionCode.ANIMAL_NOT_FOUND)
+            );
+
+            return toSharedDetailDTO(animal);
+        });
+
+        boolean isLike = favoriteAnimalRepository.existsByUserIdAndAnimalId(userId, animalId);
+
+        return new AnimalResponse.FindAnimalByIdDTO(detail.id(),
+                detail.name(),
+                detail.age(),
+                detail.gender(),
+                detail.specialMark(),
+                detail.region(),
                 isLike,
-                animal.getProfileURL(),
-                animal.getHappenPlace(),
-                animal.getKind(),
-                animal.getColor(),
-                animal.getWeight(),
-                animal.getNoticeSdt(),
-                animal.getNoticeEdt(),
-                animal.getProcessState(),
-                animal.getNeuter());
+                detail.profileURL(),
+                detail.happenPlace(),
+                detail.kind(),
+                detail.color(),
+                detail.weight(),
+                detail.noticeSdt(),
+                detail.noticeEdt(),
+                detail.processState(),
+                detail.neuter());
     }
 
     @Transactional
     public void likeAnimal(Long userId, Long animalId){
-        // 존재하지 않는 동물이면 에러
-        if(!animalRepository.existsById(animalId)){
-                throw new CustomException(ExceptionCode.ANIMAL_NOT_FOUND);
-            }
-
-        Optional<FavoriteAnimal> favoriteAnimalOP = favoriteAnimalRepository.findByUserIdAndAnimalId(userId, animalId);
-
-        // 좋아요가 이미 있다면 삭제, 없다면 추가
-        if (favoriteAnimalOP.isPresent()) {
-            favoriteAnimalRepository.delete(favoriteAnimalOP.get());
-            redisService.decrementCnt("animalLikeNum", animalId.toString(), 1L);
-        }
-        else {
-            Animal animalRef = entityManager.getReference(Animal.class, animalId);
-            User userRef = entityManager.getReference(User.class, userId);
-
-            FavoriteAnimal favoriteAnimal = FavoriteAnimal.builder()
-                    .user(userRef)
-                    .animal(animalRef)
-                    .build();
-
-            favoriteAnimalRepository.save(favoriteAnimal);
-            redisService.incrementCnt("animalLikeNum", animalId.toString(), 1L);
+        // 좋아요가 없으면 추가, 있으면 취소 => 반영되지 않았으면 존재하지 않는 동물인지 확인
+        if (likeService.toggle(LikeType.ANIMAL, userId, animalId) == LikeService.Result.NONE && !animalRepository.existsById(animalId)) {
+            throw new CustomException(ExceptionCode.ANIMAL_NOT_FOUND);
         }
     }
 
@@ -232,8 +363,7 @@ public class AnimalService {
         applyRepository.save(apply);
 
         // 동물의 문의 횟수 증가
-        Long inquiryNum = redisService.getDataInLong("inquiryNum", animalId.toString());
-        redisService.storeDate("inquiryNum", animalId.toString(), Long.toString(inquiryNum + 1L));
+        counterService.increment(CounterType.inquiryNum, animalId);
 
         return new AnimalResponse.CreateApplyDTO(apply.getId());
     }
@@ -286,69 +416,78 @@ public class AnimalService {
 
         // 동물의 문의 횟수 감소
         Long animalId = applyRepository.findAnimalIdById(applyId);
-        Long inquiryNum = redisService.getDataInLong("inquiryNum", animalId.toString());
-        redisService.storeDate("inquiryNum", animalId.toString(), Long.toString(inquiryNum - 1L));
+        counterService.decrement(CounterType.inquiryNum, animalId);
 
         applyRepository.deleteById(applyId);
     }
 
-    private Flux<Animal> processAnimalData(String response, Shelter shelter) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyyMMdd");
-        final boolean[] isShelterUpdate = {false};
-
-        try {
-            AnimalDTO json = mapper.readValue(response, AnimalDTO.class);
-            return Flux.fromIterable(Optional.ofNullable(json.response().body().items())
-                            .map(AnimalDTO.ItemsDTO::item)
-                            .orElse(Collections.emptyList()))
-                    .map(itemDTO -> {
-                        if (!isShelterUpdate[0]) {
-                            shelterRepository.updateShelterInfo(itemDTO.careTel(), itemDTO.careAddr(), Long.valueOf(json.response().body().totalCount()), shelter.getId());
-                            isShelterUpdate[0] = true;
-                        }
-                        return createAnimal(itemDTO, shelter, formatter);
-                    });
-        } catch (Exception e) {
-            return Flux.empty();
-        }
+    private AnimalResponse.FindAnimalByIdDTO toSharedDetailDTO(Animal animal) {
+        return new AnimalResponse.FindAnimalByIdDTO(animal.getId(),
+                animal.getName(),
+                animal.getAge(),
+                animal.getGender(),
+                animal.getSpecialMark(),
+                animal.getRegion(),
+                null,
+                animal.getProfileURL(),
+                animal.getHappenPlace(),
+                animal.getKind(),
+                animal.getColor(),
+                animal.getWeight(),
+                animal.getNoticeSdt(),
+                animal.getNoticeEdt(),
+                animal.getProcessState(),
+                animal.getNeuter());
     }
 
-    private Animal createAnimal(AnimalDTO.ItemDTO itemDTO, Shelter shelter, DateTimeFormatter formatter) {
-        return Animal.builder()
-                .id(Long.valueOf(itemDTO.desertionNo()))
-                .name(createAnimalName())
-                .shelter(shelter)
-                .happenDt(LocalDate.parse(itemDTO.happenDt(), formatter))
-                .happenPlace(itemDTO.happenPlace())
-                .kind(itemDTO.kindCd())
-                .color(itemDTO.colorCd())
-                .age(itemDTO.age())
-                .weight(itemDTO.weight())
-                .noticeSdt(LocalDate.parse(itemDTO.noticeSdt(), formatter))
-                .noticeEdt(LocalDate.parse(itemDTO.noticeEdt(), formatter))
-                .profileURL(itemDTO.popfile())
-                .processState(itemDTO.processState())
-                .gender(itemDTO.sexCd())
-                .neuter(itemDTO.neuterYn())
-                .specialMark(itemDTO.specialMark())
-                .region(shelter.getRegionCode().getUprName() + " " + shelter.getRegionCode().getOrgName())
-                .build();
+    // 캐시에 보관할 사용자와 무관한 부분 (카운터와 좋아요 여부는 비워둠)
+    private List<AnimalResponse.AnimalDTO> toSharedAnimalDTOS(List<Animal> animals) {
+        return animals.stream()
+                .map(animal -> new AnimalResponse.AnimalDTO(
+                        animal.getId(),
+                        animal.getName(),
+                        animal.getAge(),
+                        animal.getGender(),
+                        animal.getSpecialMark(),
+                        animal.getRegion(),
+                        null,
+                        null,
+                        null,
+                        animal.getProfileURL()))
+                .toList();
     }
 
-    // 동물 이름 지어주는 메서드
-    public String createAnimalName() {
-        int index = ThreadLocalRandom.current().nextInt(animalNames.length);
-        return animalNames[index];
-    }
+    // 캐시된 페이지에 사용자의 좋아요 여부와 최신 카운터를 덧씌움 (IN 쿼리 한 번, MGET 한 번)
+    private List<AnimalResponse.AnimalDTO> overlayAnimalDTOS(List<AnimalResponse.AnimalDTO> sharedDTOS, Long userId) {
+        List<Long> animalIds = sharedDTOS.stream()
+                .map(AnimalResponse.AnimalDTO::id)
+                .collect(Collectors.toList());
 
-    private URI buildURI(String baseUrl, String serviceKey, Long careRegNo) {
-        String url = baseUrl + "?serviceKey=" + serviceKey + "&care_reg_no=" + careRegNo + "&_type=json" + "&numOfRows=1000";
+        // 현재 페이지의 동물 중 사용자가 '좋아요' 표시한 Animal의 ID
+        Set<Long> likedAnimalIds = favoriteAnimalRepository.findLikedAnimalIds(userId, animalIds);
+
+        // 페이지에 포함된 동물들의 문의 수, 좋아요 수를 한 번에 조회
+        CounterService.Counts counts = counterService.getCounts(animalIds, CounterType.inquiryNum, CounterType.animalLikeNum);
+
+        return sharedDTOS.stream()
+                .map(animalDTO -> new AnimalResponse.AnimalDTO(
+                        animalDTO.id(),
+                        animalDTO.name(),
+                        animalDTO.age(),
+                        animalDTO.gender(),
+                        animalDTO.specialMark(),
+                        animalDTO.region(),
+                        counts.get(CounterType.inquiryNum, animalDTO.id()),
+                        counts.get(CounterType.animalLikeNum, animalDTO.id()),
+                        likedAnimalIds.contains(animalDTO.id()),
+                        animalDTO.profileURL()))
+                .collect(Collectors.toList());
+    }
 
-        try {
-            return new URI(url);
-        } catch (URISyntaxException e) {
-            throw new RuntimeException(e);
-        }
+    private List<Long> extractAnimalIds(List<Animal> animals) {
+        return animals.stream()
+                .map(Animal::getId)
+                .collect(Collectors.toList());
     }
 
     private Pageable createPageable(int page, int size, String sortProperty) {
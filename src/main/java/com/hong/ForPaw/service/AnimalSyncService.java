@@ -0,0 +1,132 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.Animal.Animal;
+import com.hong.ForPaw.domain.Animal.AnimalDelta;
+import com.hong.ForPaw.domain.Animal.AnimalFacet;
+import com.hong.ForPaw.repository.Animal.AnimalJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class AnimalSyncService {
+
+    private final AnimalJdbcRepository animalJdbcRepository;
+
+    // 보호소 하나의 반영을 시작 => 피드를 청크 단위로 apply 한 뒤, finish에서 사라진 동물을 처리
+    // apply와 finish는 각각 DB에 반영(커밋)한 만큼의 변경분을 돌려줌 => 호출한 쪽은 이를 바로 후속 처리해야 함
+    // (뒤 페이지에서 실패해 세션이 버려져도, 이미 반영된 동물은 다음 수집 때 fingerprint가 같아 변경으로 다시 잡히지 않으므로)
+    public Session begin(Long shelterId) {
+        return new Session(animalJdbcRepository.findSyncStatesByShelterId(shelterId));
+    }
+
+    public class Session {
+
+        private final Map<Long, AnimalJdbcRepository.SyncState> storedStates;
+        private final Set<Long> feedIds = new HashSet<>();
+
+        // 보호소 전체의 누적 변경분 (지표, 수집 주기 계산용)
+        private final List<Long> insertedIds = new ArrayList<>();
+        private final List<Long> updatedIds = new ArrayList<>();
+        private final List<Long> removedIds = new ArrayList<>();
+        private final List<AnimalDelta.StateChange> stateChanges = new ArrayList<>();
+        private final Map<AnimalFacet, Long> facetDeltas = new HashMap<>();
+
+        private Session(Map<Long, AnimalJdbcRepository.SyncState> storedStates) {
+            this.storedStates = storedStates;
+        }
+
+        // 피드와 DB의 fingerprint를 비교해서, 신규/변경된 동물만 배치로 반영하고 이 청크의 변경분을 반환
+        // 반영이 실패하면(청크 트랜잭션 롤백) 세션에 아무것도 누적하지 않음
+        public AnimalDelta apply(List<Animal> animals) {
+            Set<Long> chunkIds = new HashSet<>();
+            List<Animal> changedAnimals = new ArrayList<>();
+            Chunk chunk = new Chunk();
+
+            for (Animal animal : animals) {
+                // 같은 피드 안에서 중복된 동물은 한 번만 처리
+                if (feedIds.contains(animal.getId()) || !chunkIds.add(animal.getId())) continue;
+
+                AnimalJdbcRepository.SyncState storedState = storedStates.get(animal.getId());
+                if (storedState == null) {
+                    chunk.insertedIds.add(animal.getId());
+                    changedAnimals.add(animal);
+                    chunk.countFacet(AnimalFacet.of(animal), 1);
+                } else if (!storedState.fingerprint().equals(animal.getFingerprint())) {
+                    chunk.updatedIds.add(animal.getId());
+                    changedAnimals.add(animal);
+                    chunk.countFacet(storedState.facet(), -1);
+                    chunk.countFacet(AnimalFacet.of(animal), 1);
+
+                    if (!Objects.equals(storedState.processState(), animal.getProcessState())) {
+                        chunk.stateChanges.add(new AnimalDelta.StateChange(animal.getId(), storedState.name(), storedState.processState(), animal.getProcessState()));
+                    }
+                }
+            }
+
+            animalJdbcRepository.upsertAll(changedAnimals);
+
+            feedIds.addAll(chunkIds);
+            return accumulate(chunk);
+        }
+
+        // 피드에서 사라진 동물은 삭제 처리 => DB에 있던 id 집합에서 피드의 id 집합을 뺀 나머지, 삭제분의 변경분을 반환
+        public AnimalDelta finish() {
+            Chunk chunk = new Chunk();
+
+            storedStates.forEach((animalId, storedState) -> {
+                if (feedIds.contains(animalId)) return;
+
+                chunk.removedIds.add(animalId);
+                chunk.stateChanges.add(new AnimalDelta.StateChange(animalId, storedState.name(), storedState.processState(), null));
+                chunk.countFacet(storedState.facet(), -1);
+            });
+
+            animalJdbcRepository.softDeleteAll(chunk.removedIds);
+
+            return accumulate(chunk);
+        }
+
+        // 지금까지 반영한 변경분 전체 (반영 후 남아있는 동물 = 이번 피드에 나온 동물 전부)
+        public AnimalDelta summary() {
+            Map<AnimalFacet, Long> facets = new HashMap<>(facetDeltas);
+            facets.values().removeIf(delta -> delta == 0);
+            return new AnimalDelta(insertedIds, updatedIds, removedIds, stateChanges, facets, feedIds.size());
+        }
+
+        private AnimalDelta accumulate(Chunk chunk) {
+            insertedIds.addAll(chunk.insertedIds);
+            updatedIds.addAll(chunk.updatedIds);
+            removedIds.addAll(chunk.removedIds);
+            stateChanges.addAll(chunk.stateChanges);
+            chunk.facetDeltas.forEach((facet, delta) -> facetDeltas.merge(facet, delta, Long::sum));
+
+            chunk.facetDeltas.values().removeIf(delta -> delta == 0);
+            return new AnimalDelta(chunk.insertedIds, chunk.updatedIds, chunk.removedIds, chunk.stateChanges, chunk.facetDeltas, feedIds.size());
+        }
+    }
+
+    // 청크 하나(또는 삭제 처리)의 변경분
+    private static class Chunk {
+
+        private final List<Long> insertedIds = new ArrayList<>();
+        private final List<Long> updatedIds = new ArrayList<>();
+        private final List<Long> removedIds = new ArrayList<>();
+        private final List<AnimalDelta.StateChange> stateChanges = new ArrayList<>();
+        private final Map<AnimalFacet, Long> facetDeltas = new HashMap<>();
+
+        private void countFacet(AnimalFacet facet, long delta) {
+            if (facet == null) return;
+
+            facetDeltas.merge(facet, delta, Long::sum);
+        }
+    }
+}
@@ -22,6 +22,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -155,4 +156,16 @@ public class BrokerService {
 
         rabbitTemplate.convertAndSend(exchangeName, routingKey, alarm);
     }
+
+    // 여러 알람을 하나의 채널로 이어서 전송
+    public void produceAlarms(List<AlarmRequest.AlarmDTO> alarms) {
+        if (alarms.isEmpty()) return;
+
+        String exchangeName = "alarm.exchange";
+
+        rabbitTemplate.invoke(operations -> {
+            alarms.forEach(alarm -> operations.convertAndSend(exchangeName, "user." + alarm.receiverId(), alarm));
+            return null;
+        });
+    }
 }
@@ -0,0 +1,230 @@
+package com.hong.ForPaw.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.hong.ForPaw.core.counter.CircuitBreaker;
+import com.hong.ForPaw.domain.CounterType;
+import com.hong.ForPaw.repository.CounterJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Redis 장애 시 카운터 처리 (CounterService에서 사용)
+// 1. 모든 카운터 호출은 전용 스레드에서 timeoutMs 안에 끝나야 하고, 연속으로 실패하면 서킷 브레이커가 열려 바로 대체 값으로 응답 => 장애 중에도 응답 시간이 timeoutMs를 넘지 않음
+// 2. 대체 값은 최근에 읽은 값(snapshot), 없으면 DB 컬럼(CounterFlushService가 반영한 값), 둘 다 없으면 0
+// 3. Redis에 보내지 못한 증감은 메모리 큐에 쌓아두었다가 복구되면 순서대로 다시 반영
+@Slf4j
+@Service
+public class CounterFallbackService {
+
+    private final CounterJdbcRepository counterJdbcRepository;
+    private final CircuitBreaker breaker;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final int maxPendingOps;
+
+    // 최근에 확인한 카운터 값 ("타입:id" => 값), 가득 차면 덜 쓰이는 값부터 제거
+    // 목록 조회마다 성공한 값을 기록하므로 전역 락 없이 동시에 읽고 쓸 수 있는 Caffeine 캐시 사용
+    private final Cache<String, Long> snapshot;
+
+    private final ConcurrentLinkedDeque<PendingOp> pendingOps = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger pendingNum = new AtomicInteger();
+
+    private final Counter fallbacks;
+    private final Counter droppedOps;
+
+    public CounterFallbackService(CounterJdbcRepository counterJdbcRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${counter.timeout-ms:50}") long timeoutMs,
+                                  @Value("${counter.breaker.failure-threshold:5}") int failureThreshold,
+                                  @Value("${counter.breaker.open-ms:5000}") long openMs,
+                                  @Value("${counter.threads:16}") int threads,
+                                  @Value("${counter.snapshot-max-entries:100000}") int maxSnapshotEntries,
+                                  @Value("${counter.pending-max-entries:100000}") int maxPendingOps) {
+        this.counterJdbcRepository = counterJdbcRepository;
+        this.breaker = new CircuitBreaker(failureThreshold, openMs);
+        this.timeoutMs = timeoutMs;
+        this.maxPendingOps = maxPendingOps;
+
+        // 큐가 차면 기다리지 않고 바로 거절 => Redis가 느려져도 요청 스레드가 쌓이지 않음
+        AtomicInteger threadNum = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(threads * 16), runnable -> {
+            Thread thread = new Thread(runnable, "counter-" + threadNum.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.snapshot = Caffeine.newBuilder()
+                .maximumSize(maxSnapshotEntries)
+                .build();
+
+        this.fallbacks = meterRegistry.counter("counter.fallback");
+        this.droppedOps = meterRegistry.counter("counter.pending.dropped");
+        Gauge.builder("counter.pending", pendingNum, AtomicInteger::get)
+                .register(meterRegistry);
+        Gauge.builder("counter.breaker.open", breaker, b -> b.getState() == CircuitBreaker.State.CLOSED ? 0 : 1)
+                .register(meterRegistry);
+    }
+
+    // Redis 호출을 timeoutMs 안에 실행, 브레이커가 열려 있거나 실패하면 CounterUnavailableException
+    public <T> T call(Supplier<T> redisCall) {
+        if (!breaker.tryAcquire()) {
+            throw new CounterUnavailableException(false);
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = CompletableFuture.supplyAsync(redisCall, executor);
+        } catch (RejectedExecutionException e) {
+            breaker.recordFailure();
+            throw new CounterUnavailableException(false);
+        }
+
+        try {
+            T result = future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            breaker.recordSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            // 이미 Redis에 도착했을 수 있으므로 보내진 것으로 처리
+            future.cancel(true);
+            breaker.recordFailure();
+            throw new CounterUnavailableException(true);
+        } catch (ExecutionException e) {
+            if (!(e.getCause() instanceof DataAccessException)) {
+                // Redis 상태와 무관한 예외 => 성공도 실패도 아니므로 시험 호출만 되돌림
+                breaker.release();
+                throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : new IllegalStateException(e.getCause());
+            }
+
+            breaker.recordFailure();
+            throw new CounterUnavailableException(!(e.getCause() instanceof RedisConnectionFailureException));
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            breaker.release();
+            Thread.currentThread().interrupt();
+            throw new CounterUnavailableException(true);
+        }
+    }
+
+    public void remember(CounterType type, Long id, Long value) {
+        snapshot.put(snapshotKey(type, id), value);
+    }
+
+    public void rememberAll(CounterType type, Map<Long, Long> values) {
+        values.forEach((id, value) -> snapshot.put(snapshotKey(type, id), value));
+    }
+
+    // 대체 값 => snapshot에 없는 id만 DB에서 한 번에 조회 (DB도 실패하면 0)
+    public Map<Long, Long> fallbackCounts(CounterType type, Collection<Long> ids) {
+        fallbacks.increment();
+
+        Map<Long, Long> counts = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long id : ids) {
+            Long value = snapshot.getIfPresent(snapshotKey(type, id));
+            if (value != null) {
+                counts.put(id, value);
+            } else {
+                missingIds.add(id);
+            }
+        }
+
+        if (!missingIds.isEmpty() && type.isPersisted()) {
+            try {
+                Map<Long, Long> persisted = counterJdbcRepository.findCounts(type, missingIds);
+                counts.putAll(persisted);
+                rememberAll(type, persisted);
+            } catch (DataAccessException e) {
+                log.warn("카운터 대체 값 조회 실패 ({}): {}", type, e.toString());
+            }
+        }
+
+        ids.forEach(id -> counts.putIfAbsent(id, 0L));
+        return counts;
+    }
+
+    // Redis에 보내지 못한 증감 => 대체 값에도 바로 반영해서, 장애 중에도 자신의 좋아요가 보이도록 함
+    public Long enqueueIncrement(CounterType type, Long id, Long delta) {
+        enqueue(new PendingOp(type, id, delta, false));
+
+        Long value = fallbackCounts(type, List.of(id)).get(id) + delta;
+        remember(type, id, value);
+        return value;
+    }
+
+    public void enqueueSet(CounterType type, Long id, Long value) {
+        enqueue(new PendingOp(type, id, value, true));
+        remember(type, id, value);
+    }
+
+    // 큐 앞에서부터 최대 maxNum개
+    public List<PendingOp> drainPending(int maxNum) {
+        List<PendingOp> ops = new ArrayList<>();
+        PendingOp op;
+        while (ops.size() < maxNum && (op = pendingOps.pollFirst()) != null) {
+            pendingNum.decrementAndGet();
+            ops.add(op);
+        }
+        return ops;
+    }
+
+    // 다시 반영하지 못한 증감은 순서를 유지해서 큐 앞에 되돌림
+    public void requeue(List<PendingOp> ops) {
+        for (int i = ops.size() - 1; i >= 0; i--) {
+            pendingOps.addFirst(ops.get(i));
+            pendingNum.incrementAndGet();
+        }
+    }
+
+    // 큐가 가득 차면 가장 오래된 증감부터 버림 (버려진 만큼의 차이는 카운터 재계산 때 맞춰짐)
+    private void enqueue(PendingOp op) {
+        pendingOps.addLast(op);
+        if (pendingNum.incrementAndGet() > maxPendingOps && pendingOps.pollFirst() != null) {
+            pendingNum.decrementAndGet();
+            droppedOps.increment();
+        }
+    }
+
+    private String snapshotKey(CounterType type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    // set이면 value로 덮어쓰기(setCount), 아니면 value만큼 증감
+    public record PendingOp(CounterType type, Long id, Long value, boolean set) {}
+
+    // sent: Redis에 명령이 도착했을 수도 있는지 (타임아웃 등) => 도착했을 수 있으면 큐에 넣지 않음 (두 번 반영 방지)
+    public static class CounterUnavailableException extends RuntimeException {
+
+        private final boolean sent;
+
+        public CounterUnavailableException(boolean sent) {
+            super(null, null, false, false);
+            this.sent = sent;
+        }
+
+        public boolean isSent() {
+            return sent;
+        }
+    }
+}
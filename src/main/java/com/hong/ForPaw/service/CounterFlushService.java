@@ -0,0 +1,78 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.CounterType;
+import com.hong.ForPaw.repository.CounterJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Redis 카운터 => DB 컬럼 반영 (write-behind)
+// 전체 id를 돌면서 반영하지 않고, 카운터가 바뀔 때 남겨둔 dirty set의 키만 반영 => 반영 비용이 테이블 크기가 아니라 변경량에 비례
+// dirty set은 RENAME으로 통째로 가져가므로, 반영하는 동안 바뀐 카운터는 새 dirty set에 쌓여 다음 실행에서 반영됨
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterFlushService {
+
+    private static final String FLUSHING_KEY = CounterService.DIRTY_KEY + ":flushing";
+    private static final int CHUNK_SIZE = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final CounterService counterService;
+    private final CounterJdbcRepository counterJdbcRepository;
+
+    @Scheduled(initialDelayString = "${counter.flush-interval-ms:60000}", fixedDelayString = "${counter.flush-interval-ms:60000}")
+    public void flush() {
+        // 이전 실행이 실패해서 남은 키가 있으면 그것부터 반영 (RENAMENX라 남은 키를 덮어쓰지 않음)
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(CounterService.DIRTY_KEY))) {
+            try {
+                redisTemplate.renameIfAbsent(CounterService.DIRTY_KEY, FLUSHING_KEY);
+            } catch (RuntimeException e) {
+                // 다른 서버가 먼저 가져간 경우 (no such key)
+                log.debug("카운터 dirty set 가져오기 실패: {}", e.toString());
+            }
+        }
+
+        Set<String> keys = redisTemplate.opsForSet().members(FLUSHING_KEY);
+        if (keys == null || keys.isEmpty()) return;
+
+        try {
+            List<String> keyList = new ArrayList<>(keys);
+            for (int from = 0; from < keyList.size(); from += CHUNK_SIZE) {
+                flushChunk(keyList.subList(from, Math.min(from + CHUNK_SIZE, keyList.size())));
+            }
+
+            // 전부 반영한 뒤에만 지움 => 중간에 실패하면 다음 실행에서 같은 키를 다시 반영 (현재 값을 쓰므로 중복 반영해도 안전)
+            redisTemplate.delete(FLUSHING_KEY);
+        } catch (RuntimeException e) {
+            log.warn("카운터 DB 반영 실패 (키 {}개): {}", keys.size(), e.toString());
+        }
+    }
+
+    // 청크의 키를 타입별로 나누고, 현재 값을 Redis에서 직접 읽어서 (저장 방식과 무관, 대체 값은 쓰지 않음) 타입별 배치 UPDATE
+    private void flushChunk(List<String> keys) {
+        Map<CounterType, List<Long>> idsByType = new EnumMap<>(CounterType.class);
+        for (String key : keys) {
+            int separator = key.lastIndexOf(':');
+            CounterType type = CounterType.valueOf(key.substring(0, separator));
+            idsByType.computeIfAbsent(type, t -> new ArrayList<>()).add(Long.valueOf(key.substring(separator + 1)));
+        }
+
+        idsByType.forEach((type, ids) -> {
+            CounterService.Counts counts = counterService.readCounts(ids, type);
+
+            Map<Long, Long> values = new HashMap<>();
+            ids.forEach(id -> values.put(id, counts.get(type, id)));
+            counterJdbcRepository.updateCounts(type, values);
+        });
+    }
+}
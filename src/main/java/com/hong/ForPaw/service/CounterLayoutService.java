@@ -0,0 +1,373 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.controller.DTO.CounterResponse;
+import com.hong.ForPaw.core.counter.CounterLayout;
+import com.hong.ForPaw.core.errors.CustomException;
+import com.hong.ForPaw.core.errors.ExceptionCode;
+import com.hong.ForPaw.domain.CounterType;
+import com.hong.ForPaw.domain.User.Role;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Pattern;
+
+// 카운터 저장 방식 관리 (관리자 전용)
+// migrate: 문자열 키(postLikeNum:123)로 저장된 카운터를 Hash 버킷으로 옮김 (백그라운드 실행, 진행 상황은 Redis에 기록)
+// benchmark: 같은 수의 카운터를 두 방식으로 저장해보고 메모리와 지연 시간을 비교 (운영 Redis에 쓰므로 BENCHMARK_MAX_NUM개까지만)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterLayoutService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final Pattern ID_PATTERN = Pattern.compile("\\d+");
+    private static final String BENCHMARK_PREFIX = "counterBench:";
+    private static final int PAGE_SIZE = 20;
+    private static final int SAMPLE_NUM = 1000;
+    private static final int BENCHMARK_MAX_NUM = 10000;
+    private static final String MIGRATE_LOCK_KEY = "counterMigrate:lock";
+    private static final String MIGRATE_STATUS_KEY = "counterMigrate:status";
+    private static final Duration MIGRATE_LOCK_TTL = Duration.ofMinutes(10);
+
+    // 문자열 키의 값을 버킷 필드에 더하고 키를 지움 (KEYS[2i-1]의 값 => 버킷 KEYS[2i]의 필드 ARGV[i])
+    // 스크립트가 건드리는 키는 모두 KEYS로 넘김 (ACL 키 패턴 검사 대상)
+    // 한 번에 여러 hash slot의 키를 건드리므로 Redis Cluster에서는 CROSSSLOT으로 거부됨 => 단일 노드/sentinel 구성에서만 실행 (startMigrate에서 확인)
+    // 값을 덮어쓰지 않고 더하므로, hash 방식으로 바꾼 뒤 옮기기 전까지 버킷에 쌓인 증감도 유지됨
+    private static final RedisScript<Long> MOVE_SCRIPT = new DefaultRedisScript<>(
+            "local moved = 0 " +
+            "for i = 1, #ARGV do " +
+            "  local value = redis.call('get', KEYS[2 * i - 1]) " +
+            "  if value then " +
+            "    redis.call('hincrby', KEYS[2 * i], ARGV[i], value) " +
+            "    redis.call('del', KEYS[2 * i - 1]) " +
+            "    moved = moved + 1 " +
+            "  end " +
+            "end " +
+            "return moved", Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final CounterService counterService;
+    private final ExecutorService migrateExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "counter-migrate"));
+
+    // 모든 서버를 counter.layout=hash로 배포한 뒤 실행 => 옮기는 동안 아직 옮겨지지 않은 카운터는 잠시 작게 보일 수 있음
+    // 키 전체를 SCAN하므로 요청 스레드에서 기다리지 않고 백그라운드에서 실행, 진행 상황은 findMigrateStatus로 조회
+    // 서버가 여러 대여도 한 곳에서만 실행 (lock), 청크 단위로 옮기고 옮긴 키는 지우므로 중간에 멈추면 다시 실행하면 됨
+    public CounterResponse.MigrateDTO startMigrate(Role role) {
+        checkAdmin(role);
+
+        if (counterService.getLayout() != CounterLayout.HASH) {
+            throw new CustomException(ExceptionCode.COUNTER_LAYOUT_NOT_HASH);
+        }
+
+        if (Boolean.TRUE.equals(redisTemplate.execute((RedisCallback<Boolean>) connection -> connection instanceof RedisClusterConnection))) {
+            throw new CustomException(ExceptionCode.COUNTER_MIGRATE_CLUSTER_UNSUPPORTED);
+        }
+
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(MIGRATE_LOCK_KEY, "1", MIGRATE_LOCK_TTL))) {
+            throw new CustomException(ExceptionCode.COUNTER_MIGRATE_RUNNING);
+        }
+
+        redisTemplate.delete(MIGRATE_STATUS_KEY);
+        redisTemplate.opsForHash().putAll(MIGRATE_STATUS_KEY, Map.of(
+                "state", MigrateState.RUNNING.name(),
+                "migratedNum", "0",
+                "startedAt", LocalDateTime.now().toString()));
+
+        try {
+            migrateExecutor.execute(this::migrate);
+        } catch (RejectedExecutionException e) {
+            // 서버 종료 중
+            finishMigrate(MigrateState.FAILED, e.toString());
+            redisTemplate.delete(MIGRATE_LOCK_KEY);
+            throw e;
+        }
+
+        return readMigrateStatus();
+    }
+
+    public CounterResponse.MigrateDTO findMigrateStatus(Role role) {
+        checkAdmin(role);
+
+        return readMigrateStatus();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        migrateExecutor.shutdownNow();
+    }
+
+    private void migrate() {
+        long migratedNum = 0;
+        try {
+            for (CounterType type : CounterType.values()) {
+                // id가 띄엄띄엄한 타입은 hash 방식에서도 문자열 키로 남음
+                if (type.isSparseIds()) continue;
+
+                List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+                ScanOptions options = ScanOptions.scanOptions().match(type.name() + ":*").count(1000).build();
+
+                try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                    while (cursor.hasNext()) {
+                        if (Thread.currentThread().isInterrupted()) {
+                            throw new IllegalStateException("서버 종료로 중단됨");
+                        }
+
+                        String key = cursor.next();
+                        if (!ID_PATTERN.matcher(key.substring(type.name().length() + 1)).matches()) continue;
+
+                        chunk.add(key);
+                        if (chunk.size() == CHUNK_SIZE) {
+                            migratedNum += recordProgress(moveChunk(type, chunk));
+                            chunk.clear();
+                        }
+                    }
+                }
+
+                if (!chunk.isEmpty()) {
+                    migratedNum += recordProgress(moveChunk(type, chunk));
+                }
+            }
+
+            finishMigrate(MigrateState.DONE, null);
+            log.info("카운터 저장 방식 변경 완료 (키 {}개)", migratedNum);
+        } catch (RuntimeException e) {
+            finishMigrate(MigrateState.FAILED, e.toString());
+            log.warn("카운터 저장 방식 변경 실패 (옮긴 키 {}개): {}", migratedNum, e.toString());
+        } finally {
+            redisTemplate.delete(MIGRATE_LOCK_KEY);
+        }
+    }
+
+    // 청크마다 옮긴 수를 남기고 lock을 연장 (실행 중인 서버가 죽으면 lock이 만료되어 다시 실행할 수 있음)
+    private long recordProgress(long moved) {
+        redisTemplate.opsForHash().increment(MIGRATE_STATUS_KEY, "migratedNum", moved);
+        redisTemplate.expire(MIGRATE_LOCK_KEY, MIGRATE_LOCK_TTL);
+        return moved;
+    }
+
+    private void finishMigrate(MigrateState state, String error) {
+        Map<String, String> status = new HashMap<>();
+        status.put("state", state.name());
+        status.put("finishedAt", LocalDateTime.now().toString());
+        if (error != null) {
+            status.put("error", error);
+        }
+        redisTemplate.opsForHash().putAll(MIGRATE_STATUS_KEY, status);
+    }
+
+    private CounterResponse.MigrateDTO readMigrateStatus() {
+        Map<Object, Object> status = redisTemplate.opsForHash().entries(MIGRATE_STATUS_KEY);
+        if (status.isEmpty()) {
+            return new CounterResponse.MigrateDTO(MigrateState.NONE.name(), 0L, null, null, null);
+        }
+
+        return new CounterResponse.MigrateDTO(
+                (String) status.get("state"),
+                Long.valueOf((String) status.getOrDefault("migratedNum", "0")),
+                parseTime((String) status.get("startedAt")),
+                parseTime((String) status.get("finishedAt")),
+                (String) status.get("error"));
+    }
+
+    private LocalDateTime parseTime(String value) {
+        return value == null ? null : LocalDateTime.parse(value);
+    }
+
+    // 벤치마크 => 운영 카운터와 섞이지 않도록 별도 prefix에, DB 반영 대상이 아닌 타입(commentNum)으로 저장하고 끝나면 지움
+    // id는 연속된 id(게시글, 댓글 등)와 띄엄띄엄한 15자리 id(동물 유기번호) 두 가지로 각각 측정
+    // 메모리는 INFO의 used_memory 차이라서, 트래픽이 적은 인스턴스에서 실행해야 정확함
+    public CounterResponse.BenchmarkDTO benchmark(Integer counterNum, Role role) {
+        checkAdmin(role);
+
+        // 요청 스레드에서 실행하고 운영 Redis에 (id 방식 2 x 저장 방식 2) x counterNum개의 키를 쓰므로 작은 수로 제한
+        if (counterNum < 1 || counterNum > BENCHMARK_MAX_NUM) {
+            throw new CustomException(ExceptionCode.COUNTER_BENCHMARK_NUM_INVALID);
+        }
+
+        List<CounterResponse.LayoutResultDTO> results = new ArrayList<>();
+        for (IdPattern idPattern : IdPattern.values()) {
+            long[] ids = idPattern.generate(counterNum);
+
+            for (CounterLayout layout : CounterLayout.values()) {
+                String prefix = BENCHMARK_PREFIX + layout.name() + ":";
+                CounterService benchCounterService = new CounterService(redisTemplate, null, layout, counterService.getBucketSize(), prefix);
+
+                try {
+                    results.add(runBenchmark(layout, idPattern, prefix, benchCounterService, ids));
+                } finally {
+                    deleteByPrefix(prefix);
+                }
+            }
+        }
+
+        return new CounterResponse.BenchmarkDTO(counterNum, results);
+    }
+
+    private CounterResponse.LayoutResultDTO runBenchmark(CounterLayout layout, IdPattern idPattern, String prefix, CounterService benchCounterService, long[] ids) {
+        CounterType type = CounterType.commentNum;
+        long memoryBefore = usedMemory();
+
+        // 적재 => 파이프라인으로 CHUNK_SIZE개씩
+        long loadStart = System.nanoTime();
+        for (int from = 0; from < ids.length; from += CHUNK_SIZE) {
+            int start = from;
+            int end = Math.min(from + CHUNK_SIZE, ids.length);
+
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (int i = start; i < end; i++) {
+                    CounterLayout.Location location = layout.locate(type, ids[i], counterService.getBucketSize()).withPrefix(prefix);
+                    if (location.field() == null) {
+                        stringConnection.set(location.key(), Long.toString(i % 100));
+                    } else {
+                        stringConnection.hSet(location.key(), location.field(), Long.toString(i % 100));
+                    }
+                }
+                return null;
+            });
+        }
+        double loadMillis = (System.nanoTime() - loadStart) / 1_000_000.0;
+        long memoryBytes = usedMemory() - memoryBefore;
+
+        // 증가 한 번, 목록 한 페이지(ids에서 이어지는 PAGE_SIZE개) 조회의 지연 시간
+        long[] incrementNanos = new long[SAMPLE_NUM];
+        long[] pageReadNanos = new long[SAMPLE_NUM];
+        for (int i = 0; i < SAMPLE_NUM; i++) {
+            int index = (int) Math.floorMod(i * 7919L, ids.length);
+
+            long start = System.nanoTime();
+            benchCounterService.increment(type, ids[index]);
+            incrementNanos[i] = System.nanoTime() - start;
+
+            List<Long> pageIds = new ArrayList<>(PAGE_SIZE);
+            for (int pageIndex = index; pageIndex < Math.min(index + PAGE_SIZE, ids.length); pageIndex++) {
+                pageIds.add(ids[pageIndex]);
+            }
+
+            start = System.nanoTime();
+            benchCounterService.getCounts(pageIds, type);
+            pageReadNanos[i] = System.nanoTime() - start;
+        }
+
+        return new CounterResponse.LayoutResultDTO(
+                layout.name(),
+                idPattern.name(),
+                memoryBytes,
+                (double) memoryBytes / ids.length,
+                loadMillis,
+                percentileMicros(incrementNanos, 0.5),
+                percentileMicros(incrementNanos, 0.99),
+                percentileMicros(pageReadNanos, 0.5),
+                percentileMicros(pageReadNanos, 0.99));
+    }
+
+    private long moveChunk(CounterType type, List<String> keys) {
+        List<String> moveKeys = new ArrayList<>(keys.size() * 2);
+        List<String> fields = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            Long id = Long.valueOf(key.substring(type.name().length() + 1));
+            CounterLayout.Location location = CounterLayout.HASH.locate(type, id, counterService.getBucketSize());
+            moveKeys.add(key);
+            moveKeys.add(location.key());
+            fields.add(location.field());
+        }
+
+        Long moved = redisTemplate.execute(MOVE_SCRIPT, moveKeys, fields.toArray());
+        return moved == null ? 0 : moved;
+    }
+
+    private void deleteByPrefix(String prefix) {
+        List<String> chunk = new ArrayList<>(CHUNK_SIZE);
+        try (Cursor<String> cursor = redisTemplate.scan(ScanOptions.scanOptions().match(prefix + "*").count(1000).build())) {
+            while (cursor.hasNext()) {
+                chunk.add(cursor.next());
+                if (chunk.size() == CHUNK_SIZE) {
+                    redisTemplate.delete(chunk);
+                    chunk.clear();
+                }
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            redisTemplate.delete(chunk);
+        }
+    }
+
+    private long usedMemory() {
+        Properties info = redisTemplate.execute((RedisCallback<Properties>) connection -> connection.serverCommands().info("memory"));
+        return info == null ? 0 : Long.parseLong(info.getProperty("used_memory", "0"));
+    }
+
+    private double percentileMicros(long[] nanos, double percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1000.0;
+    }
+
+    // 벤치마크에 쓰는 id
+    // DENSE: 1부터 연속된 id (AUTO_INCREMENT)
+    // SPARSE: 유기번호처럼 보호소 코드(6자리) + 연도(4자리) + 일련번호(5자리) => 보호소 3000곳에 고르게 나뉘어 같은 보호소의 번호만 이어짐
+    private enum IdPattern {
+
+        DENSE {
+            @Override
+            long[] generate(int counterNum) {
+                long[] ids = new long[counterNum];
+                for (int i = 0; i < counterNum; i++) {
+                    ids[i] = i + 1;
+                }
+                return ids;
+            }
+        },
+        SPARSE {
+            @Override
+            long[] generate(int counterNum) {
+                long[] ids = new long[counterNum];
+                for (int i = 0; i < counterNum; i++) {
+                    long shelterCode = 411000 + Math.floorMod(i * 7919L, SHELTER_NUM);
+                    long serialNo = i / SHELTER_NUM + 1;
+                    ids[i] = shelterCode * 1_000_000_000L + 2024 * 100_000L + serialNo;
+                }
+                return ids;
+            }
+        };
+
+        private static final int SHELTER_NUM = 3000;
+
+        abstract long[] generate(int counterNum);
+    }
+
+    // NONE: 실행한 적 없음
+    private enum MigrateState {
+        NONE, RUNNING, DONE, FAILED
+    }
+
+    private void checkAdmin(Role role) {
+        if (!role.equals(Role.ADMIN)) {
+            throw new CustomException(ExceptionCode.USER_FORBIDDEN);
+        }
+    }
+}
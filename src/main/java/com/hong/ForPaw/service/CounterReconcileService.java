@@ -0,0 +1,118 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.CounterType;
+import com.hong.ForPaw.repository.CounterJdbcRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 카운터 재계산 => 증감만으로 관리하는 카운터는 누락/중복 반영(타임아웃, 삭제 시 잘못 계산한 개수 등)이 쌓이면 되돌릴 방법이 없으므로,
+// 주기적으로 DB의 실제 값을 GROUP BY로 다시 세어 Redis와 비교하고 다른 것만 고친다
+// 대상은 id 순으로 CHUNK_SIZE개씩 끊어서 읽고, 청크마다 Redis 조회 한 번 => 메모리와 커넥션 점유가 테이블 크기와 무관
+// 차이가 난 카운터는 한 번 더 읽어서 그래도 다를 때만 차이만큼 증감 (비교하는 사이에 들어온 좋아요 등을 차이로 오인하지 않도록)
+// 고친 개수와 차이의 합은 counter.drift.keys, counter.drift (type 태그)로 남긴다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterReconcileService {
+
+    private static final String LOCK_KEY = "counterReconcile:lock";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+    private static final int CHUNK_SIZE = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final CounterService counterService;
+    private final CounterJdbcRepository counterJdbcRepository;
+    private final MeterRegistry meterRegistry;
+
+    // 서버가 여러 대여도 한 곳에서만 실행 (차이만큼 증감하므로 두 곳에서 돌면 두 번 보정됨)
+    @Scheduled(cron = "${counter.reconcile-cron:0 0 4 * * *}")
+    public void reconcileAll() {
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, "1", LOCK_TTL))) {
+            return;
+        }
+
+        try {
+            for (CounterType type : CounterType.values()) {
+                try {
+                    Drift drift = reconcile(type);
+                    log.info("카운터 재계산 완료 ({}: 확인 {}개, 보정 {}개, 차이 합 {})", type, drift.checked(), drift.fixed(), drift.amount());
+                } catch (RuntimeException e) {
+                    // 한 타입이 실패해도 나머지 타입은 계속 (고친 청크는 그대로 두고, 남은 청크는 다음 실행에서)
+                    log.warn("카운터 재계산 실패 ({}): {}", type, e.toString());
+                }
+            }
+        } finally {
+            redisTemplate.delete(LOCK_KEY);
+        }
+    }
+
+    Drift reconcile(CounterType type) {
+        Drift total = new Drift(0, 0, 0);
+
+        long afterId = 0;
+        Map<Long, Long> trueCounts;
+        while (!(trueCounts = counterJdbcRepository.findTrueCountsAfter(type, afterId, CHUNK_SIZE)).isEmpty()) {
+            total = total.plus(reconcileChunk(type, trueCounts));
+
+            for (Long id : trueCounts.keySet()) {
+                afterId = Math.max(afterId, id);
+            }
+        }
+
+        return total;
+    }
+
+    private Drift reconcileChunk(CounterType type, Map<Long, Long> trueCounts) {
+        List<Long> suspects = findMismatches(type, trueCounts, counterService.readCounts(trueCounts.keySet(), type));
+        if (suspects.isEmpty()) {
+            return new Drift(trueCounts.size(), 0, 0);
+        }
+
+        // 다시 세고 다시 읽어서 그래도 다른 것만 (그 사이 삭제된 대상은 결과에 없으므로 건너뜀)
+        Map<Long, Long> recounts = counterJdbcRepository.findTrueCounts(type, suspects);
+        CounterService.Counts current = counterService.readCounts(recounts.keySet(), type);
+
+        Map<Long, Long> deltas = new HashMap<>();
+        long amount = 0;
+        for (Long id : findMismatches(type, recounts, current)) {
+            long delta = recounts.get(id) - current.get(type, id);
+            deltas.put(id, delta);
+            amount += Math.abs(delta);
+        }
+
+        counterService.adjustCounts(type, deltas);
+
+        meterRegistry.counter("counter.drift.keys", "type", type.name()).increment(deltas.size());
+        meterRegistry.counter("counter.drift", "type", type.name()).increment(amount);
+
+        return new Drift(trueCounts.size(), deltas.size(), amount);
+    }
+
+    private List<Long> findMismatches(CounterType type, Map<Long, Long> trueCounts, CounterService.Counts counts) {
+        List<Long> mismatches = new ArrayList<>();
+        trueCounts.forEach((id, trueCount) -> {
+            if (!trueCount.equals(counts.get(type, id))) {
+                mismatches.add(id);
+            }
+        });
+        return mismatches;
+    }
+
+    // 확인한 카운터 수, 보정한 카운터 수, 보정한 차이의 절댓값 합
+    record Drift(long checked, long fixed, long amount) {
+
+        Drift plus(Drift other) {
+            return new Drift(checked + other.checked, fixed + other.fixed, amount + other.amount);
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.core.counter.CounterLayout;
+import com.hong.ForPaw.domain.CounterType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// 좋아요 수, 참여자 수 같은 카운터 전용 서비스
+// 목록 조회 시 한 페이지의 카운터를 한 번의 왕복으로 가져오고, 증감은 INCRBY/HINCRBY로 원자적으로 처리
+// DB 컬럼이 있는 카운터는 바뀔 때마다 키를 dirty set에 남겨두고, CounterFlushService가 바뀐 키만 DB에 반영
+// 저장 방식은 counter.layout (string | hash), hash 방식으로 바꿀 때는 CounterLayoutService.migrate로 기존 키를 옮긴다 (sparseIds 타입은 항상 string)
+// Redis가 느리거나 죽으면 CounterFallbackService를 거쳐 대체 값으로 응답하고, 보내지 못한 증감은 복구 후 다시 반영
+@Service
+public class CounterService {
+
+    static final String DIRTY_KEY = "counterDirty";
+    private static final int REPLAY_CHUNK_SIZE = 500;
+
+    private final StringRedisTemplate redisTemplate;
+    private final CounterFallbackService fallback;
+    private final CounterLayout layout;
+    private final int bucketSize;
+    private final String keyPrefix;
+
+    @Autowired
+    public CounterService(StringRedisTemplate redisTemplate,
+                          CounterFallbackService fallback,
+                          @Value("${counter.layout:string}") String layout,
+                          @Value("${counter.bucket-size:128}") int bucketSize) {
+        this(redisTemplate, fallback, CounterLayout.valueOf(layout.toUpperCase()), bucketSize, "");
+    }
+
+    // 벤치마크처럼 운영 키와 섞이지 않아야 할 때는 keyPrefix를 붙여서 따로 만든다 (dirty set에도 남기지 않음, fallback이 null이면 Redis를 직접 호출)
+    CounterService(StringRedisTemplate redisTemplate, CounterFallbackService fallback, CounterLayout layout, int bucketSize, String keyPrefix) {
+        this.redisTemplate = redisTemplate;
+        this.fallback = fallback;
+        this.layout = layout;
+        this.bucketSize = bucketSize;
+        this.keyPrefix = keyPrefix;
+    }
+
+    public CounterLayout getLayout() {
+        return layout;
+    }
+
+    public int getBucketSize() {
+        return bucketSize;
+    }
+
+    // id가 띄엄띄엄한 타입은 설정과 관계없이 문자열 키 (CounterType.sparseIds)
+    public CounterLayout layoutOf(CounterType type) {
+        return type.isSparseIds() ? CounterLayout.STRING : layout;
+    }
+
+    public Long getCount(CounterType type, Long id) {
+        if (fallback == null) {
+            return readCount(type, id);
+        }
+
+        try {
+            Long value = fallback.call(() -> readCount(type, id));
+            fallback.remember(type, id, value);
+            return value;
+        } catch (CounterFallbackService.CounterUnavailableException e) {
+            return fallback.fallbackCounts(type, List.of(id)).get(id);
+        }
+    }
+
+    private Long readCount(CounterType type, Long id) {
+        CounterLayout.Location location = locate(type, id);
+        if (location.field() == null) {
+            return parse(redisTemplate.opsForValue().get(location.key()));
+        }
+
+        return parse((String) redisTemplate.opsForHash().get(location.key(), location.field()));
+    }
+
+    // ids의 카운터를 types별로 한 번에 조회 (키 개수와 관계 없이 Redis 왕복 한 번)
+    // Redis를 쓸 수 없으면 타입별 대체 값 (CounterFallbackService.fallbackCounts)
+    public Counts getCounts(Collection<Long> ids, CounterType... types) {
+        if (fallback == null || ids.isEmpty() || types.length == 0) {
+            return readCounts(ids, types);
+        }
+
+        try {
+            Counts counts = fallback.call(() -> readCounts(ids, types));
+            counts.values().forEach(fallback::rememberAll);
+            return counts;
+        } catch (CounterFallbackService.CounterUnavailableException e) {
+            Map<CounterType, Map<Long, Long>> values = new EnumMap<>(CounterType.class);
+            for (CounterType type : types) {
+                values.put(type, fallback.fallbackCounts(type, ids));
+            }
+            return new Counts(values);
+        }
+    }
+
+    // Redis에서 직접 조회 (대체 값 없이 실패하면 예외) => DB 반영처럼 대체 값을 쓰면 안 되는 곳에서 사용
+    // STRING은 MGET 한 번, HASH는 버킷별 HMGET을 파이프라인으로 (한 페이지의 id는 대부분 같은 버킷에 모여 있음)
+    Counts readCounts(Collection<Long> ids, CounterType... types) {
+        Map<CounterType, Map<Long, Long>> values = new EnumMap<>(CounterType.class);
+        if (ids.isEmpty() || types.length == 0) {
+            return new Counts(values);
+        }
+
+        List<Long> idList = new ArrayList<>(ids);
+        List<CounterLayout.Location> locations = new ArrayList<>(idList.size() * types.length);
+        for (CounterType type : types) {
+            idList.forEach(id -> locations.add(locate(type, id)));
+        }
+
+        boolean allStrings = locations.stream().allMatch(location -> location.field() == null);
+        List<String> results = allStrings ? multiGet(locations) : multiHashGet(locations);
+
+        int index = 0;
+        for (CounterType type : types) {
+            Map<Long, Long> counts = new HashMap<>();
+            for (Long id : idList) {
+                counts.put(id, parse(results.get(index++)));
+            }
+            values.put(type, counts);
+        }
+
+        return new Counts(values);
+    }
+
+    public Long increment(CounterType type, Long id) {
+        return increment(type, id, 1L);
+    }
+
+    public Long increment(CounterType type, Long id, Long delta) {
+        return incrementAndMark(type, id, delta);
+    }
+
+    public Long decrement(CounterType type, Long id) {
+        return decrement(type, id, 1L);
+    }
+
+    public Long decrement(CounterType type, Long id, Long delta) {
+        return incrementAndMark(type, id, -delta);
+    }
+
+    // 카운터 초기화 (그룹/모임 생성 시 주최자 1명 등)
+    public void setCount(CounterType type, Long id, Long value) {
+        if (fallback == null) {
+            writeCount(type, id, value);
+            return;
+        }
+
+        try {
+            fallback.call(() -> {
+                writeCount(type, id, value);
+                return null;
+            });
+            fallback.remember(type, id, value);
+        } catch (CounterFallbackService.CounterUnavailableException e) {
+            if (!e.isSent()) {
+                fallback.enqueueSet(type, id, value);
+            }
+        }
+    }
+
+    private void writeCount(CounterType type, Long id, Long value) {
+        CounterLayout.Location location = locate(type, id);
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            if (location.field() == null) {
+                stringConnection.set(location.key(), Long.toString(value));
+            } else {
+                stringConnection.hSet(location.key(), location.field(), Long.toString(value));
+            }
+            markDirty(stringConnection, type, id);
+            return null;
+        });
+    }
+
+    // 삭제된 대상의 카운터 => Redis를 쓸 수 없으면 그대로 둠 (조회되지 않는 키라 영향 없음)
+    public void remove(CounterType type, Long id) {
+        if (fallback == null) {
+            deleteCount(type, id);
+            return;
+        }
+
+        try {
+            fallback.call(() -> {
+                deleteCount(type, id);
+                return null;
+            });
+        } catch (CounterFallbackService.CounterUnavailableException e) {
+            // 무시
+        }
+    }
+
+    private void deleteCount(CounterType type, Long id) {
+        CounterLayout.Location location = locate(type, id);
+        if (location.field() == null) {
+            redisTemplate.delete(location.key());
+        } else {
+            redisTemplate.opsForHash().delete(location.key(), location.field());
+        }
+    }
+
+    // Redis에 보내지 못했으면 큐에 쌓고 대체 값 기준으로 계산한 값을 반환
+    // 타임아웃처럼 Redis에 도착했을 수도 있는 경우는 두 번 반영되지 않도록 큐에 넣지 않음 (차이는 카운터 재계산 때 맞춰짐)
+    private Long incrementAndMark(CounterType type, Long id, Long delta) {
+        if (fallback == null) {
+            return rawIncrement(type, id, delta);
+        }
+
+        try {
+            Long value = fallback.call(() -> rawIncrement(type, id, delta));
+            fallback.remember(type, id, value);
+            return value;
+        } catch (CounterFallbackService.CounterUnavailableException e) {
+            if (e.isSent()) {
+                return fallback.fallbackCounts(type, List.of(id)).get(id);
+            }
+            return fallback.enqueueIncrement(type, id, delta);
+        }
+    }
+
+    // Redis 복구 후 큐에 쌓인 증감을 순서대로 반영 => 다시 실패하면 큐 앞에 되돌리고 다음 실행에서 재시도
+    // 브레이커가 열려 있으면 call이 바로 실패하므로, 열린 시간이 지난 뒤의 첫 실행이 복구 여부를 확인하는 시험 호출이 된다
+    @Scheduled(fixedDelayString = "${counter.replay-interval-ms:1000}")
+    public void replayPending() {
+        if (fallback == null) return;
+
+        List<CounterFallbackService.PendingOp> ops;
+        while (!(ops = fallback.drainPending(REPLAY_CHUNK_SIZE)).isEmpty()) {
+            List<CounterFallbackService.PendingOp> chunk = ops;
+            try {
+                fallback.call(() -> {
+                    applyPending(chunk);
+                    return null;
+                });
+            } catch (CounterFallbackService.CounterUnavailableException e) {
+                if (!e.isSent()) {
+                    fallback.requeue(chunk);
+                }
+                return;
+            }
+        }
+    }
+
+    private void applyPending(List<CounterFallbackService.PendingOp> ops) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (CounterFallbackService.PendingOp op : ops) {
+                CounterLayout.Location location = locate(op.type(), op.id());
+                if (op.set()) {
+                    if (location.field() == null) {
+                        stringConnection.set(location.key(), Long.toString(op.value()));
+                    } else {
+                        stringConnection.hSet(location.key(), location.field(), Long.toString(op.value()));
+                    }
+                } else if (location.field() == null) {
+                    stringConnection.incrBy(location.key(), op.value());
+                } else {
+                    stringConnection.hIncrBy(location.key(), location.field(), op.value());
+                }
+                markDirty(stringConnection, op.type(), op.id());
+            }
+            return null;
+        });
+    }
+
+    // 카운터 재계산의 보정 => 값을 덮어쓰지 않고 차이만큼 증감하므로, 비교한 뒤에 들어온 증감은 그대로 남음 (파이프라인 한 번, 대체 값 없이 실패하면 예외)
+    void adjustCounts(CounterType type, Map<Long, Long> deltas) {
+        if (deltas.isEmpty()) return;
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            deltas.forEach((id, delta) -> {
+                CounterLayout.Location location = locate(type, id);
+                if (location.field() == null) {
+                    stringConnection.incrBy(location.key(), delta);
+                } else {
+                    stringConnection.hIncrBy(location.key(), location.field(), delta);
+                }
+                markDirty(stringConnection, type, id);
+            });
+            return null;
+        });
+    }
+
+    // 증감과 dirty 표시를 파이프라인으로 함께 보냄 => 카운터 변경 한 번에 Redis 왕복은 그대로 한 번
+    private Long rawIncrement(CounterType type, Long id, Long delta) {
+        CounterLayout.Location location = locate(type, id);
+
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            if (location.field() == null) {
+                stringConnection.incrBy(location.key(), delta);
+            } else {
+                stringConnection.hIncrBy(location.key(), location.field(), delta);
+            }
+            markDirty(stringConnection, type, id);
+            return null;
+        });
+
+        return (Long) results.get(0);
+    }
+
+    // dirty set에는 저장 방식과 관계 없이 "타입:id"를 남김 => 방식을 바꿔도 반영 대상이 그대로 유지됨
+    private void markDirty(StringRedisConnection stringConnection, CounterType type, Long id) {
+        if (type.isPersisted() && keyPrefix.isEmpty()) {
+            stringConnection.sAdd(DIRTY_KEY, type.name() + ":" + id);
+        }
+    }
+
+    private List<String> multiGet(List<CounterLayout.Location> locations) {
+        List<String> keys = locations.stream().map(CounterLayout.Location::key).toList();
+        List<String> results = redisTemplate.opsForValue().multiGet(keys);
+
+        return results == null ? new ArrayList<>(Collections.nCopies(keys.size(), null)) : results;
+    }
+
+    // 문자열 키로 저장하는 타입(sparseIds)이 섞여 있으면 그 키들은 같은 파이프라인에서 MGET 한 번으로
+    private List<String> multiHashGet(List<CounterLayout.Location> locations) {
+        // 버킷 키 => 그 버킷에서 읽을 필드 (요청 순서를 유지해서 결과를 다시 펼침)
+        Map<String, List<String>> fieldsByKey = new LinkedHashMap<>();
+        List<String> stringKeys = new ArrayList<>();
+        locations.forEach(location -> {
+            if (location.field() == null) {
+                stringKeys.add(location.key());
+            } else {
+                fieldsByKey.computeIfAbsent(location.key(), key -> new ArrayList<>()).add(location.field());
+            }
+        });
+
+        List<Object> replies = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            fieldsByKey.forEach((key, fields) -> stringConnection.hMGet(key, fields.toArray(String[]::new)));
+            if (!stringKeys.isEmpty()) {
+                stringConnection.mGet(stringKeys.toArray(String[]::new));
+            }
+            return null;
+        });
+
+        Map<String, String> valuesByLocation = new HashMap<>();
+        int index = 0;
+        for (Map.Entry<String, List<String>> entry : fieldsByKey.entrySet()) {
+            @SuppressWarnings("unchecked")
+            List<String> bucketValues = (List<String>) replies.get(index++);
+            List<String> fields = entry.getValue();
+            for (int i = 0; i < fields.size(); i++) {
+                valuesByLocation.put(entry.getKey() + "#" + fields.get(i), bucketValues == null ? null : bucketValues.get(i));
+            }
+        }
+
+        if (!stringKeys.isEmpty()) {
+            @SuppressWarnings("unchecked")
+            List<String> stringValues = (List<String>) replies.get(index);
+            for (int i = 0; i < stringKeys.size(); i++) {
+                valuesByLocation.put(stringKeys.get(i) + "#", stringValues == null ? null : stringValues.get(i));
+            }
+        }
+
+        return locations.stream()
+                .map(location -> valuesByLocation.get(location.key() + "#" + (location.field() == null ? "" : location.field())))
+                .toList();
+    }
+
+    private CounterLayout.Location locate(CounterType type, Long id) {
+        return layoutOf(type).locate(type, id, bucketSize).withPrefix(keyPrefix);
+    }
+
+    private Long parse(String value) {
+        return value == null ? 0L : Long.valueOf(value);
+    }
+
+    // getCounts의 결과 => 값이 없는 카운터는 0
+    public record Counts(Map<CounterType, Map<Long, Long>> values) {
+
+        public Long get(CounterType type, Long id) {
+            return values.getOrDefault(type, Map.of()).getOrDefault(id, 0L);
+        }
+    }
+}
@@ -5,10 +5,14 @@ import com.hong.ForPaw.controller.DTO.GroupRequest;
 import com.hong.ForPaw.controller.DTO.GroupResponse;
 import com.hong.ForPaw.core.errors.CustomException;
 import com.hong.ForPaw.core.errors.ExceptionCode;
+import com.hong.ForPaw.core.region.RegionHierarchy;
+import com.hong.ForPaw.core.utils.Cursor;
 import com.hong.ForPaw.domain.Alarm.Alarm;
 import com.hong.ForPaw.domain.Alarm.AlarmType;
 import com.hong.ForPaw.domain.Chat.ChatRoom;
 import com.hong.ForPaw.domain.Chat.ChatUser;
+import com.hong.ForPaw.domain.CounterType;
+import com.hong.ForPaw.domain.LikeType;
 import com.hong.ForPaw.domain.Group.*;
 import com.hong.ForPaw.domain.Post.Post;
 import com.hong.ForPaw.domain.Post.PostType;
@@ -21,7 +25,6 @@ import com.hong.ForPaw.repository.UserRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.*;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -51,9 +54,11 @@ public class GroupService {
     private final ChatRoomRepository chatRoomRepository;
     private final ChatUserRepository chatUserRepository;
     private final UserRepository userRepository;
-    private final RedisService redisService;
+    private final CounterService counterService;
+    private final LikeService likeService;
     private final EntityManager entityManager;
     private final BrokerService brokerService;
+    private final RegionHierarchy regionHierarchy;
 
     @Transactional
     public GroupResponse.CreateGroupDTO createGroup(GroupRequest.CreateGroupDTO requestDTO, Long userId){
@@ -66,6 +71,8 @@ public class GroupService {
                 .name(requestDTO.name())
                 .region(requestDTO.region())
                 .subRegion(requestDTO.subRegion())
+                .uprCd(regionHierarchy.findUprCd(requestDTO.region()).orElse(null))
+                .orgCd(regionHierarchy.findOrgCd(requestDTO.region(), requestDTO.subRegion()).orElse(null))
                 .description(requestDTO.description())
                 .category(requestDTO.category())
                 .profileURL(requestDTO.profileURL())
@@ -84,7 +91,7 @@ public class GroupService {
         groupUserRepository.save(groupUser);
 
         // 그룹 참여자 수 1로 레디스에 저장
-        redisService.storeDate("groupParticipantNum", group.getId().toString(), Long.toString(1L));
+        counterService.setCount(CounterType.groupParticipantNum, group.getId(), 1L);
 
         // 그룹 채팅방 생성
         ChatRoom chatRoom = ChatRoom.builder()
@@ -140,7 +147,9 @@ public class GroupService {
                 () -> new CustomException(ExceptionCode.GROUP_NOT_FOUND)
         );
 
-        group.updateInfo(requestDTO.name(), requestDTO.region(), requestDTO.subRegion(), requestDTO.description(), requestDTO.category(), requestDTO.profileURL());
+        Integer uprCd = regionHierarchy.findUprCd(requestDTO.region()).orElse(null);
+        Integer orgCd = regionHierarchy.findOrgCd(requestDTO.region(), requestDTO.subRegion()).orElse(null);
+        group.updateInfo(requestDTO.name(), requestDTO.region(), requestDTO.subRegion(), uprCd, orgCd, requestDTO.description(), requestDTO.category(), requestDTO.profileURL());
     }
 
     @Transactional
@@ -173,7 +182,26 @@ public class GroupService {
             throw new CustomException(ExceptionCode.SEARCH_NOT_FOUND);
         }
 
-        return new GroupResponse.FindLocalGroupListDTO(localGroupDTOS);
+        return new GroupResponse.FindLocalGroupListDTO(localGroupDTOS, null);
+    }
+
+    // 커서 기반 조회 (id 순) => 다음 페이지의 커서를 함께 반환 (COUNT 쿼리 없음)
+    // 가입한 그룹은 응답에서 빠지므로, 커서는 걸러내기 전 마지막 행으로 만든다
+    @Transactional
+    public GroupResponse.FindLocalGroupListDTO findLocalGroupListByCursor(Long userId, String region, String cursor, Integer size){
+        Long lastId = Cursor.decodeId(cursor);
+        Pageable pageable = createPageable(0, size, "id");
+        Slice<Group> localGroups = regionHierarchy.findUprCd(region)
+                .map(uprCd -> groupRepository.findByUprCdByCursor(uprCd, lastId, pageable))
+                .orElseGet(() -> groupRepository.findByRegionByCursor(region, lastId, pageable));
+        List<GroupResponse.LocalGroupDTO> localGroupDTOS = toLocalGroupDTOS(userId, localGroups.getContent());
+        String nextCursor = Cursor.next(localGroups, group -> Cursor.of(group.getId()));
+
+        if(localGroupDTOS.isEmpty() && nextCursor == null){
+            throw new CustomException(ExceptionCode.SEARCH_NOT_FOUND);
+        }
+
+        return new GroupResponse.FindLocalGroupListDTO(localGroupDTOS, nextCursor);
     }
 
     // 새 그룹 추가 조회
@@ -186,7 +214,20 @@ public class GroupService {
             throw new CustomException(ExceptionCode.SEARCH_NOT_FOUND);
         }
 
-        return new GroupResponse.FindNewGroupListDTO(newGroupDTOS);
+        return new GroupResponse.FindNewGroupListDTO(newGroupDTOS, null);
+    }
+
+    @Transactional
+    public GroupResponse.FindNewGroupListDTO findNewGroupListByCursor(Long userId, String cursor, Integer size){
+        Slice<Group> newGroups = groupRepository.findAllByCursor(Cursor.decodeId(cursor), createPageable(0, size, "id"));
+        List<GroupResponse.NewGroupDTO> newGroupDTOS = toNewGroupDTOS(userId, newGroups.getContent());
+        String nextCursor = Cursor.next(newGroups, group -> Cursor.of(group.getId()));
+
+        if(newGroupDTOS.isEmpty() && nextCursor == null){
+            throw new CustomException(ExceptionCode.SEARCH_NOT_FOUND);
+        }
+
+        return new GroupResponse.FindNewGroupListDTO(newGroupDTOS, nextCursor);
     }
 
     // 내 그룹 추가 조회
@@ -236,7 +277,21 @@ public class GroupService {
         Pageable pageable = createPageable(page, size, "id");
         List<GroupResponse.NoticeDTO> noticeDTOS = getNoticeDTOS(userId, groupId, pageable);
 
-        return new GroupResponse.FindNoticeListDTO(noticeDTOS);
+        return new GroupResponse.FindNoticeListDTO(noticeDTOS, null);
+    }
+
+    @Transactional
+    public GroupResponse.FindNoticeListDTO findNoticeListByCursor(Long userId, Long groupId, String cursor, Integer size){
+        // 그룹 존재 여부 체크
+        checkGroupExist(groupId);
+
+        // 맴버인지 체크
+        checkIsMember(groupId, userId);
+
+        Slice<Post> notices = postRepository.findByGroupIdByCursor(groupId, Cursor.decodeId(cursor), createPageable(0, size, "id"));
+        List<GroupResponse.NoticeDTO> noticeDTOS = toNoticeDTOS(userId, notices.getContent());
+
+        return new GroupResponse.FindNoticeListDTO(noticeDTOS, Cursor.next(notices, notice -> Cursor.of(notice.getId())));
     }
 
     // 정기모임 추가조회
@@ -251,7 +306,21 @@ public class GroupService {
         Pageable pageable = createPageable(page, size, "id");
         List<GroupResponse.MeetingDTO> meetingsDTOS = getMeetingDTOS(groupId, pageable);
 
-        return new GroupResponse.FindMeetingListDTO(meetingsDTOS);
+        return new GroupResponse.FindMeetingListDTO(meetingsDTOS, null);
+    }
+
+    @Transactional
+    public GroupResponse.FindMeetingListDTO findMeetingListByCursor(Long userId, Long groupId, String cursor, Integer size){
+        // 그룹 존재 여부 체크
+        checkGroupExist(groupId);
+
+        // 맴버인지 체크
+        checkIsMember(groupId, userId);
+
+        Slice<Meeting> meetings = meetingRepository.findByGroupIdByCursor(groupId, Cursor.decodeId(cursor), createPageable(0, size, "id"));
+        List<GroupResponse.MeetingDTO> meetingDTOS = toMeetingDTOS(meetings.getContent());
+
+        return new GroupResponse.FindMeetingListDTO(meetingDTOS, Cursor.next(meetings, meeting -> Cursor.of(meeting.getId())));
     }
 
     @Transactional
@@ -270,7 +339,7 @@ public class GroupService {
                 .map(user -> new GroupResponse.ParticipantDTO(user.getProfileURL()))
                 .toList();
 
-        Long participantNum = redisService.getDataInLong("meetingParticipantNum", meeting.getId().toString());
+        Long participantNum = counterService.getCount(CounterType.meetingParticipantNum, meeting.getId());
 
         return new GroupResponse.MeetingDTO(meeting.getId(), meeting.getName(), meeting.getDate(), meeting.getLocation(), meeting.getCost(), participantNum, meeting.getMaxNum(), meeting.getProfileURL(), meeting.getDescription(), participantDTOS);
     }
@@ -315,7 +384,7 @@ public class GroupService {
         groupUserRepository.deleteByGroupIdAndUserId(groupId, userId);
 
         // 그룹 참가자 수 감소
-        redisService.decrementCnt("groupParticipantNum", groupId.toString(), 1L);
+        counterService.decrement(CounterType.groupParticipantNum, groupId);
 
         // 그룹 채팅방에서 탈퇴
         ChatRoom chatRoom = chatRoomRepository.findByGroupId(groupId);
@@ -339,7 +408,7 @@ public class GroupService {
         groupApplicantOP.get().updateRole(Role.USER);
 
         // 그룹 참가자 수 증가
-        redisService.incrementCnt("groupParticipantNum", groupId.toString(), 1L);
+        counterService.increment(CounterType.groupParticipantNum, groupId);
 
         // 알람 생성
         User applicant = entityManager.getReference(User.class, applicantId);
@@ -440,59 +509,12 @@ public class GroupService {
 
     @Transactional
     public void likeGroup(Long userId, Long groupId){
-        // 존재하지 않는 그룹이면 에러
-        checkGroupExist(groupId);
-
-        Optional<FavoriteGroup> favoriteGroupOP = favoriteGroupRepository.findByUserIdAndGroupId(userId, groupId);
-
-        // 좋아요가 이미 있다면 삭제, 없다면 추가
-        if (favoriteGroupOP.isPresent()) {
-            favoriteGroupRepository.delete(favoriteGroupOP.get());
-            redisService.decrementCnt("groupLikeNum", groupId.toString(), 1L);
-        }
-        else {
-            Group groupRef = entityManager.getReference(Group.class, groupId);
-            User userRef = entityManager.getReference(User.class, userId);
-
-            FavoriteGroup favoriteGroup = FavoriteGroup.builder()
-                    .user(userRef)
-                    .group(groupRef)
-                    .build();
-
-            favoriteGroupRepository.save(favoriteGroup);
-            redisService.incrementCnt("groupLikeNum", groupId.toString(), 1L);
+        // 좋아요가 없으면 추가, 있으면 취소 => 반영되지 않았으면 존재하지 않는 그룹인지 확인
+        if (likeService.toggle(LikeType.GROUP, userId, groupId) == LikeService.Result.NONE) {
+            checkGroupExist(groupId);
         }
     }
 
-    @Scheduled(cron = "0 15 * * * *")
-    public void syncLikes() {
-        // 업데이트는 50개씩 진행
-        int page = 0;
-        int batchSize = 50;
-
-        Pageable pageable = PageRequest.of(page, batchSize);
-        Page<Long> groupIdsPage;
-
-        do {
-            groupIdsPage = processLikesBatch(pageable);
-            pageable = pageable.next();
-        } while (groupIdsPage != null && groupIdsPage.hasNext());
-    }
-
-    @Transactional
-    public Page<Long> processLikesBatch(Pageable pageable) {
-        Page<Long> groupIdsPage = groupRepository.findGroupIds(pageable);
-        List<Long> groupIds = groupIdsPage.getContent();
-
-        for (Long groupId : groupIds) {
-            Long likeNum = redisService.getDataInLong("groupLikeNum", groupId.toString());
-            if (likeNum != null) {
-                postRepository.updateLikeNum(likeNum, groupId);
-            }
-        }
-        return groupIdsPage;
-    }
-
     @Transactional
     public void deleteGroup(Long groupId, Long userId){
         // 존재하지 않는 그룹이면 에러
@@ -502,12 +524,12 @@ public class GroupService {
         checkCreatorAuthority(groupId, userId);
 
         // redis에 저장된 meetingParticipantNum, groupParticipantNum 데이터 삭제
-        List<String> meetingIds = meetingRepository.findMeetingIdsByGroupId(groupId);
+        List<Long> meetingIds = meetingRepository.findMeetingIdsByGroupId(groupId);
         meetingIds.forEach(meetingId ->
-                redisService.removeData("meetingParticipantNum", meetingId.toString())
+                counterService.remove(CounterType.meetingParticipantNum, meetingId)
         );
 
-        redisService.removeData("groupParticipantNum", groupId.toString());
+        counterService.remove(CounterType.groupParticipantNum, groupId);
 
         // 그룹, 미팅 연관 데이터 삭제
         meetingUserRepository.deleteAllByGroupId(groupId);
@@ -591,7 +613,7 @@ public class GroupService {
         meetingRepository.save(meeting);
 
         // 정기 모임 참여자수 1로 저장
-        redisService.storeDate("meetingParticipantNum", meeting.getId().toString(), Long.toString(1L));
+        counterService.setCount(CounterType.meetingParticipantNum, meeting.getId(), 1L);
 
         // 알람 생성
         List<User> users = groupUserRepository.findAllUsersByGroupIdWithoutMe(groupId, userId);
@@ -657,7 +679,7 @@ public class GroupService {
         meetingUserRepository.save(meetingUser);
 
         // 그룹 참가자 수 증가
-        redisService.incrementCnt("meetingParticipantNum", meetingId.toString(), 1L);
+        counterService.increment(CounterType.meetingParticipantNum, meetingId);
     }
 
     @Transactional
@@ -676,7 +698,7 @@ public class GroupService {
         meetingUserRepository.deleteByMeetingIdAndUserId(meetingId, userId);
 
         // 참가자 수 감소
-        redisService.decrementCnt("meetingParticipantNum", meetingId.toString(), 1L);
+        counterService.decrement(CounterType.meetingParticipantNum, meetingId);
     }
 
     @Transactional
@@ -688,7 +710,7 @@ public class GroupService {
         checkAdminAuthority(groupId, userId);
 
         // redis에 저장된 참가자 수 삭제
-        redisService.removeData("meetingParticipantNum", meetingId.toString());
+        counterService.remove(CounterType.meetingParticipantNum, meetingId);
 
         meetingUserRepository.deleteAllByMeetingId(meetingId);
         meetingRepository.deleteById(meetingId);
@@ -702,12 +724,14 @@ public class GroupService {
         Sort sort = Sort.by(Sort.Order.desc("likeNum"));
         Pageable pageableForRecommend = PageRequest.of(0, 30, sort);
 
-        Page<Group> recommendGroups = groupRepository.findByRegion(region, pageableForRecommend);
+        Page<Group> recommendGroups = findGroupsByRegion(region, pageableForRecommend);
+        CounterService.Counts counts = counterService.getCounts(extractGroupIds(recommendGroups.getContent()), CounterType.groupParticipantNum, CounterType.groupLikeNum);
+
         List<GroupResponse.RecommendGroupDTO> allRecommendGroupDTOS = recommendGroups.getContent().stream()
                 .filter(group -> !joinedGroupIds.contains(group.getId())) // 내가 가입한 그룹을 제외
                 .map(group -> {
-                    Long participantNum = redisService.getDataInLong("groupParticipantNum", group.getId().toString());
-                    Long likeNum = redisService.getDataInLong("groupLikeNum", group.getId().toString());
+                    Long participantNum = counts.get(CounterType.groupParticipantNum, group.getId());
+                    Long likeNum = counts.get(CounterType.groupLikeNum, group.getId());
 
                     return new GroupResponse.RecommendGroupDTO(
                         group.getId(),
@@ -732,16 +756,29 @@ public class GroupService {
     }
 
     private List<GroupResponse.LocalGroupDTO> getLocalGroupDTOS(Long userId, String region, Pageable pageable){
+        Page<Group> localGroups = findGroupsByRegion(region, pageable);
+        return toLocalGroupDTOS(userId, localGroups.getContent());
+    }
+
+    // 시도명을 코드로 바꿔서 조회, 목록에 없는 지역명이면 이름으로 비교
+    private Page<Group> findGroupsByRegion(String region, Pageable pageable){
+        return regionHierarchy.findUprCd(region)
+                .map(uprCd -> groupRepository.findByUprCd(uprCd, pageable))
+                .orElseGet(() -> groupRepository.findByRegion(region, pageable));
+    }
+
+    private List<GroupResponse.LocalGroupDTO> toLocalGroupDTOS(Long userId, List<Group> localGroups){
         // 내가 가입한 그룹
         Set<Long> joinedGroupIds = getGroupIds(userId);
 
-        Page<Group> localGroups = groupRepository.findByRegion(region, pageable);
+        // 페이지에 포함된 그룹들의 참여자 수, 좋아요 수를 한 번에 조회
+        CounterService.Counts counts = counterService.getCounts(extractGroupIds(localGroups), CounterType.groupParticipantNum, CounterType.groupLikeNum);
 
-        List<GroupResponse.LocalGroupDTO> localGroupDTOS = localGroups.getContent().stream()
+        List<GroupResponse.LocalGroupDTO> localGroupDTOS = localGroups.stream()
                 .filter(group -> !joinedGroupIds.contains(group.getId())) // 내가 가입한 그룹을 제외
                 .map(group -> {
-                    Long participantNum = redisService.getDataInLong("groupParticipantNum", group.getId().toString());
-                    Long likeNum = redisService.getDataInLong("groupLikeNum", group.getId().toString());
+                    Long participantNum = counts.get(CounterType.groupParticipantNum, group.getId());
+                    Long likeNum = counts.get(CounterType.groupLikeNum, group.getId());
 
                     return new GroupResponse.LocalGroupDTO(
                         group.getId(),
@@ -760,12 +797,15 @@ public class GroupService {
     }
 
     private List<GroupResponse.NewGroupDTO> getNewGroupDTOS(Long userId, Pageable pageable){
+        Page<Group> newGroups = groupRepository.findAll(pageable);
+        return toNewGroupDTOS(userId, newGroups.getContent());
+    }
+
+    private List<GroupResponse.NewGroupDTO> toNewGroupDTOS(Long userId, List<Group> newGroups){
         // 내가 가입한 그룹
         Set<Long> joinedGroupIds = getGroupIds(userId);
 
-        Page<Group> newGroups = groupRepository.findAll(pageable);
-
-        List<GroupResponse.NewGroupDTO> newGroupDTOS = newGroups.getContent().stream()
+        List<GroupResponse.NewGroupDTO> newGroupDTOS = newGroups.stream()
                 .filter(group -> !joinedGroupIds.contains(group.getId())) // 내가 가입한 그룹을 제외
                 .map(group -> new GroupResponse.NewGroupDTO(
                         group.getId(),
@@ -781,11 +821,12 @@ public class GroupService {
 
     private List<GroupResponse.MyGroupDTO> getMyGroupDTOS(Long userId, Pageable pageable){
         List<Group> joinedGroups = groupUserRepository.findAllGroupByUserId(userId, pageable).getContent();
+        CounterService.Counts counts = counterService.getCounts(extractGroupIds(joinedGroups), CounterType.groupParticipantNum, CounterType.groupLikeNum);
 
         List<GroupResponse.MyGroupDTO> myGroupDTOS = joinedGroups.stream()
                 .map(group -> {
-                    Long participantNum = redisService.getDataInLong("groupParticipantNum", group.getId().toString());
-                    Long likeNum = redisService.getDataInLong("groupLikeNum", group.getId().toString());
+                    Long participantNum = counts.get(CounterType.groupParticipantNum, group.getId());
+                    Long likeNum = counts.get(CounterType.groupLikeNum, group.getId());
 
                     return new GroupResponse.MyGroupDTO(
                         group.getId(),
@@ -813,6 +854,12 @@ public class GroupService {
         return groupIds;
     }
 
+    private List<Long> extractGroupIds(List<Group> groups){
+        return groups.stream()
+                .map(Group::getId)
+                .collect(Collectors.toList());
+    }
+
     private Pageable createPageable(int page, int size, String sortProperty) {
         return PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortProperty));
     }
@@ -861,10 +908,14 @@ public class GroupService {
     private List<GroupResponse.NoticeDTO> getNoticeDTOS(Long userId, Long groupId, Pageable pageable){
         // user를 패치조인 해서 조회
         Page<Post> notices = postRepository.findByGroupId(groupId, pageable);
+        return toNoticeDTOS(userId, notices.getContent());
+    }
+
+    private List<GroupResponse.NoticeDTO> toNoticeDTOS(Long userId, List<Post> notices){
         // 해당 유저가 읽은 post의 id 목록
         List<Long> postIds = postRepository.findAllPostIdByUserId(userId);
 
-        List<GroupResponse.NoticeDTO> noticeDTOS = notices.getContent().stream()
+        List<GroupResponse.NoticeDTO> noticeDTOS = notices.stream()
                 .map(notice -> new GroupResponse.NoticeDTO(
                             notice.getId(),
                             notice.getUser().getNickName(),
@@ -878,14 +929,22 @@ public class GroupService {
 
     private List<GroupResponse.MeetingDTO> getMeetingDTOS(Long groupId, Pageable pageable){
         Page<Meeting> meetings = meetingRepository.findByGroupId(groupId, pageable);
+        return toMeetingDTOS(meetings.getContent());
+    }
+
+    private List<GroupResponse.MeetingDTO> toMeetingDTOS(List<Meeting> meetings){
+        List<Long> meetingIds = meetings.stream()
+                .map(Meeting::getId)
+                .collect(Collectors.toList());
+        CounterService.Counts counts = counterService.getCounts(meetingIds, CounterType.meetingParticipantNum);
 
-        List<GroupResponse.MeetingDTO> meetingDTOS = meetings.getContent().stream()
+        List<GroupResponse.MeetingDTO> meetingDTOS = meetings.stream()
                 .map(meeting -> {
                     List<GroupResponse.ParticipantDTO> participantDTOS = meeting.getMeetingUsers().stream()
                             .map(meetingUser -> new GroupResponse.ParticipantDTO(meetingUser.getProfileURL()))
                             .toList();
 
-                    Long participantNum = redisService.getDataInLong("meetingParticipantNum", meeting.getId().toString());
+                    Long participantNum = counts.get(CounterType.meetingParticipantNum, meeting.getId());
 
                     return new GroupResponse.MeetingDTO(
                             meeting.getId(),
@@ -0,0 +1,286 @@
+package com.hong.ForPaw.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hong.ForPaw.controller.DTO.AnimalResponse;
+import com.hong.ForPaw.domain.Animal.AnimalDelta;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 수집 실행의 지표 기록 => Micrometer 미터로 내보내고, 끝난 실행의 요약은 Redis 리스트(ingestion:runs)에 최근 historySize개만 보관 (관리자 조회용)
+// 서버가 여러 대여도 어느 서버에 조회하든 모든 서버의 실행 기록이 보임, 진행 중인 실행은 조회한 서버의 것만 보임
+@Slf4j
+@Service
+public class IngestionMetricsService {
+
+    private static final String HISTORY_KEY = "ingestion:runs";
+
+    private final MeterRegistry meterRegistry;
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper mapper;
+    private final int historySize;
+    // 이 서버에서 진행 중인 실행 (최근 시작한 순)
+    private final Deque<RunRecorder> activeRuns = new ArrayDeque<>();
+
+    public IngestionMetricsService(MeterRegistry meterRegistry,
+                                   StringRedisTemplate redisTemplate,
+                                   ObjectMapper mapper,
+                                   @Value("${ingestion.history-size:20}") int historySize) {
+        this.meterRegistry = meterRegistry;
+        this.redisTemplate = redisTemplate;
+        this.mapper = mapper;
+        this.historySize = historySize;
+    }
+
+    public RunRecorder startRun(String feed, String runId) {
+        RunRecorder run = new RunRecorder(feed, runId);
+
+        synchronized (activeRuns) {
+            activeRuns.addFirst(run);
+        }
+
+        return run;
+    }
+
+    // 최근 실행부터 size개 (이 서버에서 진행 중인 실행 먼저, 이어서 끝난 실행)
+    public List<AnimalResponse.ImportRunDTO> findRecentRuns(int size) {
+        List<AnimalResponse.ImportRunDTO> runs = new ArrayList<>();
+        synchronized (activeRuns) {
+            activeRuns.stream().limit(size).forEach(run -> runs.add(run.toDTO()));
+        }
+
+        if (runs.size() < size) {
+            runs.addAll(findFinishedRuns(size - runs.size()));
+        }
+
+        return runs;
+    }
+
+    private List<AnimalResponse.ImportRunDTO> findFinishedRuns(int size) {
+        List<String> values = redisTemplate.opsForList().range(HISTORY_KEY, 0, size - 1);
+        if (values == null) return List.of();
+
+        List<AnimalResponse.ImportRunDTO> runs = new ArrayList<>();
+        for (String value : values) {
+            try {
+                runs.add(mapper.readValue(value, AnimalResponse.ImportRunDTO.class));
+            } catch (JsonProcessingException e) {
+                // DTO가 바뀌기 전에 저장된 기록 등은 건너뜀
+                log.warn("수집 실행 기록을 읽지 못함: {}", e.toString());
+            }
+        }
+
+        return runs;
+    }
+
+    // 끝난 실행을 Redis에 저장 => 저장에 실패해도 수집에는 영향을 주지 않음
+    private void saveFinishedRun(RunRecorder run) {
+        synchronized (activeRuns) {
+            activeRuns.remove(run);
+        }
+
+        try {
+            redisTemplate.opsForList().leftPush(HISTORY_KEY, mapper.writeValueAsString(run.toDTO()));
+            redisTemplate.opsForList().trim(HISTORY_KEY, 0, historySize - 1);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("수집 실행 기록 저장 실패 (runId={}): {}", run.runId, e.toString());
+        }
+    }
+
+    public class RunRecorder {
+
+        private final String feed;
+        private final String runId;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final long startNanos = System.nanoTime();
+        private final Map<Long, ShelterRecorder> shelters = new ConcurrentHashMap<>();
+        private volatile LocalDateTime finishedAt;
+        private volatile long durationNanos;
+
+        private final Timer fetchTimer;
+        private final DistributionSummary fetchBytes;
+        private final Timer dbWriteTimer;
+        private final Timer runTimer;
+        private final Counter parseErrors;
+        private final Counter failedShelters;
+
+        private RunRecorder(String feed, String runId) {
+            this.feed = feed;
+            this.runId = runId;
+
+            this.fetchTimer = Timer.builder("ingestion.fetch.latency")
+                    .description("공공데이터 API 응답 하나를 끝까지 받는 데 걸린 시간")
+                    .tag("feed", feed)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.fetchBytes = DistributionSummary.builder("ingestion.fetch.bytes")
+                    .baseUnit("bytes")
+                    .tag("feed", feed)
+                    .register(meterRegistry);
+            this.dbWriteTimer = Timer.builder("ingestion.db.write")
+                    .description("청크 하나를 DB에 반영하는 데 걸린 시간")
+                    .tag("feed", feed)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+            this.runTimer = Timer.builder("ingestion.run.duration")
+                    .tag("feed", feed)
+                    .register(meterRegistry);
+            this.parseErrors = Counter.builder("ingestion.parse.errors")
+                    .tag("feed", feed)
+                    .register(meterRegistry);
+            this.failedShelters = Counter.builder("ingestion.shelters.failed")
+                    .tag("feed", feed)
+                    .register(meterRegistry);
+        }
+
+        public ShelterRecorder shelter(Long careRegNo) {
+            return shelters.computeIfAbsent(careRegNo, id -> new ShelterRecorder(this, id));
+        }
+
+        public void finish() {
+            durationNanos = System.nanoTime() - startNanos;
+            finishedAt = LocalDateTime.now();
+            runTimer.record(durationNanos, TimeUnit.NANOSECONDS);
+            saveFinishedRun(this);
+        }
+
+        private void countItems(String result, long count) {
+            if (count > 0) {
+                meterRegistry.counter("ingestion.items", "feed", feed, "result", result).increment(count);
+            }
+        }
+
+        private AnimalResponse.ImportRunDTO toDTO() {
+            List<AnimalResponse.ShelterImportDTO> shelterDTOS = new ArrayList<>();
+            long fetchNum = 0, bytes = 0, itemNum = 0, insertedNum = 0, updatedNum = 0, removedNum = 0, parseErrorNum = 0, dbWriteNanos = 0;
+            int failedShelterNum = 0;
+
+            for (ShelterRecorder shelter : shelters.values()) {
+                shelterDTOS.add(shelter.toDTO());
+
+                fetchNum += shelter.fetchNum.get();
+                bytes += shelter.bytes.get();
+                itemNum += shelter.itemNum.get();
+                insertedNum += shelter.insertedNum.get();
+                updatedNum += shelter.updatedNum.get();
+                removedNum += shelter.removedNum.get();
+                parseErrorNum += shelter.parseErrorNum.get();
+                dbWriteNanos += shelter.dbWriteNanos.get();
+                if (shelter.error.get() != null) failedShelterNum++;
+            }
+
+            Long durationMs = finishedAt == null ? null : TimeUnit.NANOSECONDS.toMillis(durationNanos);
+
+            return new AnimalResponse.ImportRunDTO(
+                    feed,
+                    runId,
+                    startedAt,
+                    finishedAt,
+                    durationMs,
+                    shelters.size(),
+                    failedShelterNum,
+                    fetchNum,
+                    bytes,
+                    itemNum,
+                    insertedNum,
+                    updatedNum,
+                    removedNum,
+                    parseErrorNum,
+                    TimeUnit.NANOSECONDS.toMillis(dbWriteNanos),
+                    shelterDTOS);
+        }
+    }
+
+    // 보호소 하나의 지표 => 요청 스레드와 DB 스레드에서 함께 기록되므로 원자적으로 누적
+    public static class ShelterRecorder {
+
+        private final RunRecorder run;
+        private final Long careRegNo;
+        private final AtomicLong fetchNum = new AtomicLong();
+        private final AtomicLong fetchNanos = new AtomicLong();
+        private final AtomicLong bytes = new AtomicLong();
+        private final AtomicLong itemNum = new AtomicLong();
+        private final AtomicLong insertedNum = new AtomicLong();
+        private final AtomicLong updatedNum = new AtomicLong();
+        private final AtomicLong removedNum = new AtomicLong();
+        private final AtomicLong parseErrorNum = new AtomicLong();
+        private final AtomicLong dbWriteNanos = new AtomicLong();
+        private final AtomicReference<String> error = new AtomicReference<>();
+
+        private ShelterRecorder(RunRecorder run, Long careRegNo) {
+            this.run = run;
+            this.careRegNo = careRegNo;
+        }
+
+        public void recordFetch(long nanos, long byteCount) {
+            fetchNum.incrementAndGet();
+            fetchNanos.addAndGet(nanos);
+            bytes.addAndGet(byteCount);
+
+            run.fetchTimer.record(nanos, TimeUnit.NANOSECONDS);
+            run.fetchBytes.record(byteCount);
+        }
+
+        public void recordDbWrite(long nanos, int itemCount) {
+            itemNum.addAndGet(itemCount);
+            dbWriteNanos.addAndGet(nanos);
+
+            run.dbWriteTimer.record(nanos, TimeUnit.NANOSECONDS);
+            run.countItems("parsed", itemCount);
+        }
+
+        public void recordDelta(AnimalDelta delta) {
+            insertedNum.addAndGet(delta.insertedIds().size());
+            updatedNum.addAndGet(delta.updatedIds().size());
+            removedNum.addAndGet(delta.removedIds().size());
+
+            run.countItems("inserted", delta.insertedIds().size());
+            run.countItems("updated", delta.updatedIds().size());
+            run.countItems("removed", delta.removedIds().size());
+        }
+
+        public void recordFailure(Throwable e) {
+            error.set(e.toString());
+            run.failedShelters.increment();
+
+            // 응답 파싱, 날짜 등 필드 변환에 실패한 경우
+            if (e instanceof UncheckedIOException || e instanceof DateTimeParseException || e instanceof NumberFormatException) {
+                parseErrorNum.incrementAndGet();
+                run.parseErrors.increment();
+            }
+        }
+
+        private AnimalResponse.ShelterImportDTO toDTO() {
+            return new AnimalResponse.ShelterImportDTO(
+                    careRegNo,
+                    fetchNum.get(),
+                    TimeUnit.NANOSECONDS.toMillis(fetchNanos.get()),
+                    bytes.get(),
+                    itemNum.get(),
+                    insertedNum.get(),
+                    updatedNum.get(),
+                    removedNum.get(),
+                    TimeUnit.NANOSECONDS.toMillis(dbWriteNanos.get()),
+                    error.get());
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.LikeType;
+import com.hong.ForPaw.repository.LikeJdbcRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 좋아요 토글 => 추가를 먼저 시도하고(INSERT IGNORE), 추가되지 않았으면 이미 누른 것이니 취소(DELETE)
+// 좋아요가 몰리는 글에서는 대부분 추가이므로 DB 문장 하나로 끝나고, 카운터는 행이 실제로 바뀐 경우에만 증감 => 연타해도 좋아요 수가 어긋나지 않음
+// 둘 다 반영되지 않았으면 대상이 없거나 자신의 것(또는 동시에 취소됨) => 에러 구분은 호출한 쪽에서 (드문 경우만 추가 조회)
+@Service
+@RequiredArgsConstructor
+public class LikeService {
+
+    private final LikeJdbcRepository likeJdbcRepository;
+    private final CounterService counterService;
+
+    public Result toggle(LikeType type, Long userId, Long targetId) {
+        if (likeJdbcRepository.insertIfAbsent(type, userId, targetId)) {
+            counterService.increment(type.getCounterType(), targetId);
+            return Result.LIKED;
+        }
+
+        if (likeJdbcRepository.delete(type, userId, targetId)) {
+            counterService.decrement(type.getCounterType(), targetId);
+            return Result.UNLIKED;
+        }
+
+        return Result.NONE;
+    }
+
+    public enum Result {
+        LIKED, UNLIKED, NONE
+    }
+}
@@ -5,7 +5,10 @@ import com.hong.ForPaw.controller.DTO.PostRequest;
 import com.hong.ForPaw.controller.DTO.PostResponse;
 import com.hong.ForPaw.core.errors.CustomException;
 import com.hong.ForPaw.core.errors.ExceptionCode;
+import com.hong.ForPaw.core.utils.Cursor;
 import com.hong.ForPaw.domain.Alarm.AlarmType;
+import com.hong.ForPaw.domain.CounterType;
+import com.hong.ForPaw.domain.LikeType;
 import com.hong.ForPaw.domain.Post.*;
 import com.hong.ForPaw.domain.User.Role;
 import com.hong.ForPaw.domain.User.User;
@@ -16,8 +19,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,7 +40,8 @@ public class PostService {
     private final PostReadStatusRepository postReadStatusRepository;
     private final CommentRepository commentRepository;
     private final CommentLikeRepository commentLikeRepository;
-    private final RedisService redisService;
+    private final CounterService counterService;
+    private final LikeService likeService;
     private final UserRepository userRepository;
     private final BrokerService brokerService;
     private final EntityManager entityManager;
@@ -101,7 +105,7 @@ public class PostService {
         postRepository.save(post);
 
         // 게시글의 답변 수 레디스에 저장
-        redisService.incrementCnt("answerNum", parentPostId.toString(), 1L);
+        counterService.increment(CounterType.answerNum, parentPostId);
 
         // 알림 생성
         String content = "새로운 답변: " + requestDTO.content();
@@ -146,7 +150,19 @@ public class PostService {
             throw new CustomException(ExceptionCode.SEARCH_NOT_FOUND);
         }
 
-        return new PostResponse.FindAdoptionPostListDTO(adoptPostDTOS);
+        return new PostResponse.FindAdoptionPostListDTO(adoptPostDTOS, null);
+    }
+
+    // 커서 기반 조회 (id 순) => 커서 이후의 글만 조회하고, 다음 페이지의 커서를 함께 반환 (COUNT 쿼리 없음)
+    @Transactional
+    public PostResponse.FindAdoptionPostListDTO findAdoptionPostListByCursor(String cursor, Integer size){
+        Slice<Post> postSlice = postRepository.findByPostTypeWithUserByCursor(PostType.adoption, Cursor.decodeId(cursor), createPageable(0, size, "id"));
+
+        if(postSlice.isEmpty()){
+            throw new CustomException(ExceptionCode.SEARCH_NOT_FOUND);
+        }
+
+        return new PostResponse.FindAdoptionPostListDTO(toPostDTOs(postSlice.getContent()), Cursor.next(postSlice, post -> Cursor.of(post.getId())));
     }
 
     @Transactional
@@ -158,7 +174,18 @@ public class PostService {
             throw new CustomException(ExceptionCode.SEARCH_NOT_FOUND);
         }
 
-        return new PostResponse.FindProtectionPostListDTO(adoptPostDTOS);
+        return new PostResponse.FindProtectionPostListDTO(adoptPostDTOS, null);
+    }
+
+    @Transactional
+    public PostResponse.FindProtectionPostListDTO findProtectionPostListByCursor(String cursor, Integer size){
+        Slice<Post> postSlice = postRepository.findByPostTypeWithUserByCursor(PostType.protection, Cursor.decodeId(cursor), createPageable(0, size, "id"));
+
+        if(postSlice.isEmpty()){
+            throw new CustomException(ExceptionCode.SEARCH_NOT_FOUND);
+        }
+
+        return new PostResponse.FindProtectionPostListDTO(toPostDTOs(postSlice.getContent()), Cursor.next(postSlice, post -> Cursor.of(post.getId())));
     }
 
     @Transactional
@@ -170,7 +197,18 @@ public class PostService {
             throw new CustomException(ExceptionCode.SEARCH_NOT_FOUND);
         }
 
-        return new PostResponse.FindQnaPostListDTO(qnaDTOS);
+        return new PostResponse.FindQnaPostListDTO(qnaDTOS, null);
+    }
+
+    @Transactional
+    public PostResponse.FindQnaPostListDTO findQuestionPostListByCursor(String cursor, Integer size){
+        Slice<Post> postSlice = postRepository.findByPostTypeWithUserByCursor(PostType.question, Cursor.decodeId(cursor), createPageable(0, size, "id"));
+
+        if(postSlice.isEmpty()){
+            throw new CustomException(ExceptionCode.SEARCH_NOT_FOUND);
+        }
+
+        return new PostResponse.FindQnaPostListDTO(toQnaDTOs(postSlice.getContent()), Cursor.next(postSlice, post -> Cursor.of(post.getId())));
     }
 
     @Transactional
@@ -218,10 +256,10 @@ public class PostService {
         });
 
         // 좋아요 수
-        Long likeNum = redisService.getDataInLong("postLikeNum", postId.toString());
+        Long likeNum = counterService.getCount(CounterType.postLikeNum, postId);
 
         // 댓글 수
-        Long commentNum = redisService.getDataInLong("commentNum", postId.toString());
+        Long commentNum = counterService.getCount(CounterType.commentNum, postId);
 
         // 게시글 읽음 처리
         User userRef = entityManager.getReference(User.class, userId);
@@ -314,13 +352,18 @@ public class PostService {
         postRepository.deleteById(postId); // soft-delete
 
         // 레디스에 저장된 댓글 수, 답변 수 삭제
-        redisService.removeData("answerNum", postId.toString());
-        redisService.removeData("commentNum", postId.toString());
+        counterService.remove(CounterType.answerNum, postId);
+        counterService.remove(CounterType.commentNum, postId);
     }
 
     @Transactional
     public void likePost(Long postId, Long userId){
-        // 존재하지 않는 글이면 에러
+        // 좋아요가 없으면 추가, 있으면 취소 (글 존재 여부와 작성자 확인도 같은 문장에서 처리)
+        if (likeService.toggle(LikeType.POST, userId, postId) != LikeService.Result.NONE) {
+            return;
+        }
+
+        // 반영되지 않았으면 이유를 확인 => 존재하지 않은 글이면 에러
         Long postWriterId = postRepository.findUserIdByPostId(postId).orElseThrow(
                 () -> new CustomException(ExceptionCode.POST_NOT_FOUND)
         );
@@ -329,52 +372,6 @@ public class PostService {
         if (postWriterId.equals(userId)) {
             throw new CustomException(ExceptionCode.POST_CANT_LIKE);
         }
-
-        Optional<PostLike> postLikeOP = postLikeRepository.findByUserIdAndPostId(userId, postId);
-
-        // 이미 좋아요를 눌렀다면, 취소하는 액션이니 게시글의 좋아요 수를 감소시키고 하고, postLike 엔티티 삭제
-        if(postLikeOP.isPresent()){
-            postLikeRepository.delete(postLikeOP.get());
-            redisService.decrementCnt("postLikeNum", postId.toString(), 1L);
-        }
-        else { // 좋아요를 누르지 않았다면, 좋아요 수를 증가키고, 엔티티 저장
-            User userRef = entityManager.getReference(User.class, userId);
-            Post postRef = entityManager.getReference(Post.class, postId);
-
-            PostLike postLike = PostLike.builder().user(userRef).post(postRef).build();
-
-            postLikeRepository.save(postLike);
-            redisService.incrementCnt("postLikeNum", postId.toString(), 1L);
-        }
-    }
-
-    @Scheduled(cron = "0 0 * * * *")
-    public void syncLikes() {
-        // 업데이트는 50개씩 진행
-        int page = 0;
-        int batchSize = 50;
-
-        Pageable pageable = PageRequest.of(page, batchSize);
-        Page<Long> postIdsPage;
-
-        do {
-            postIdsPage = processLikesBatch(pageable);
-            pageable = pageable.next();
-        } while (postIdsPage != null && postIdsPage.hasNext());
-    }
-
-    @Transactional
-    public Page<Long> processLikesBatch(Pageable pageable) {
-        Page<Long> postIdsPage = postRepository.findAllPostId(pageable);
-        List<Long> postIds = postIdsPage.getContent();
-
-        for (Long postId : postIds) {
-            Long likeNum = redisService.getDataInLong("postLikeNum", postId.toString());
-            if (likeNum != null) {
-                postRepository.updateLikeNum(likeNum, postId);
-            }
-        }
-        return postIdsPage;
     }
 
     @Transactional
@@ -396,7 +393,7 @@ public class PostService {
         commentRepository.save(comment);
 
         // 게시글의 댓글 수 증가
-        redisService.incrementCnt("commentNum", postId.toString(), 1L);
+        counterService.increment(CounterType.commentNum, postId);
 
         // 알람 생성
         String content = "새로운 댓글: " + requestDTO.content();
@@ -436,7 +433,7 @@ public class PostService {
         commentRepository.save(comment);
 
         // 게시글의 댓글 수 증가
-        redisService.incrementCnt("commentNum", postId.toString(), 1L);
+        counterService.increment(CounterType.commentNum, postId);
 
         // 알람 생성
         String content = "새로운 대댓글: " + requestDTO.content();
@@ -479,19 +476,27 @@ public class PostService {
         // 수정 권한 체크
         checkCommentAuthority(comment.getUser().getId(), user);
 
-        Long childNum = Long.valueOf(comment.getChildren().size());
+        // 이미 삭제된 대댓글은 댓글 수에서 빠져 있으므로 제외
+        Long childNum = comment.getChildren().stream()
+                .filter(child -> child.getRemovedAt() == null)
+                .count();
 
         // 댓글 및 관련 대댓글 삭제 (CascadeType.ALL에 의해 처리됨)
         commentRepository.deleteById(commentId);
         commentLikeRepository.deleteAllByCommentId(commentId);
 
         // 게시글의 댓글 수 감소
-        redisService.decrementCnt("commentNum", postId.toString(), 1L + childNum);
+        counterService.decrement(CounterType.commentNum, postId, 1L + childNum);
     }
 
     @Transactional
     public void likeComment(Long commentId, Long userId){
-        // 존재하지 않는 댓글인지 체크
+        // 좋아요가 없으면 추가, 있으면 취소 (댓글 존재 여부와 작성자 확인도 같은 문장에서 처리)
+        if (likeService.toggle(LikeType.COMMENT, userId, commentId) != LikeService.Result.NONE) {
+            return;
+        }
+
+        // 반영되지 않았으면 이유를 확인 => 존재하지 않는 댓글인지 체크
         Long commentWriterId = commentRepository.findUserIdByCommentId(commentId).orElseThrow(
                 () -> new CustomException(ExceptionCode.COMMENT_NOT_FOUND)
         );
@@ -500,33 +505,30 @@ public class PostService {
         if(commentWriterId.equals(userId)){
             throw new CustomException(ExceptionCode.COMMENT_CANT_LIKE);
         }
+    }
 
-        Optional<CommentLike> commentLikeOP = commentLikeRepository.findByUserIdAndCommentId(userId, commentId);
+    public List<PostResponse.PostDTO> getPostDTOsByType(PostType postType, Pageable pageable){
+        // 유저를 패치조인하여 조회
+        Page<Post> postPage = postRepository.findByPostTypeWithUser(postType, pageable);
 
-        // 이미 좋아요를 눌렀다면, 취소하는 액션이니 게시글의 좋아요 수를 감소시키고 하고, postLike 엔티티 삭제
-        if(commentLikeOP.isPresent()){
-            commentLikeRepository.delete(commentLikeOP.get());
-            redisService.decrementCnt("commentLikeNum", commentId.toString(), 1L);
-        }
-        else{ // 좋아요를 누르지 않았다면, 좋아요 수를 증가키고, 엔티티 저장
-            User userRef = entityManager.getReference(User.class, userId);
-            Comment commentRef = entityManager.getReference(Comment.class, commentId);
+        return toPostDTOs(postPage.getContent());
+    }
 
-            CommentLike commentLike = CommentLike.builder().user(userRef).comment(commentRef).build();
+    public List<PostResponse.QnaDTO> getQnaDTOs(Pageable pageable){
+        // 유저를 패치조인하여 조회
+        Page<Post> postPage = postRepository.findByPostTypeWithUser(PostType.question, pageable);
 
-            commentLikeRepository.save(commentLike);
-            redisService.incrementCnt("commentLikeNum", commentId.toString(), 1L);
-        }
+        return toQnaDTOs(postPage.getContent());
     }
 
-    public List<PostResponse.PostDTO> getPostDTOsByType(PostType postType, Pageable pageable){
-        // 유저를 패치조인하여 조회
-        Page<Post> postPage = postRepository.findByPostTypeWithUser(postType, pageable);
+    private List<PostResponse.PostDTO> toPostDTOs(List<Post> posts){
+        // 페이지에 포함된 게시글들의 댓글 수, 좋아요 수를 한 번에 조회
+        CounterService.Counts counts = counterService.getCounts(extractPostIds(posts), CounterType.commentNum, CounterType.postLikeNum);
 
-        List<PostResponse.PostDTO> postDTOS = postPage.getContent().stream()
+        return posts.stream()
                 .map(post ->  {
-                    Long commentNum = redisService.getDataInLong("commentNum", post.getId().toString());
-                    Long likeNum = redisService.getDataInLong("postLikeNum", post.getId().toString());
+                    Long commentNum = counts.get(CounterType.commentNum, post.getId());
+                    Long likeNum = counts.get(CounterType.postLikeNum, post.getId());
 
                     return new PostResponse.PostDTO(
                         post.getId(),
@@ -539,17 +541,14 @@ public class PostService {
                         post.getPostImages().get(0).getImageURL());
                 })
                 .collect(Collectors.toList());
-
-        return postDTOS;
     }
 
-    public List<PostResponse.QnaDTO> getQnaDTOs(Pageable pageable){
-        // 유저를 패치조인하여 조회
-        Page<Post> postPage = postRepository.findByPostTypeWithUser(PostType.question, pageable);
+    private List<PostResponse.QnaDTO> toQnaDTOs(List<Post> posts){
+        CounterService.Counts counts = counterService.getCounts(extractPostIds(posts), CounterType.answerNum);
 
-        List<PostResponse.QnaDTO> qnaDTOS = postPage.getContent().stream()
+        return posts.stream()
                 .map(post -> {
-                    Long answerNum = redisService.getDataInLong("answerNum", post.getId().toString());
+                    Long answerNum = counts.get(CounterType.answerNum, post.getId());
 
                     return new PostResponse.QnaDTO(
                         post.getId(),
@@ -560,8 +559,12 @@ public class PostService {
                         answerNum);
                 })
                 .collect(Collectors.toList());
+    }
 
-        return qnaDTOS;
+    private List<Long> extractPostIds(List<Post> posts) {
+        return posts.stream()
+                .map(Post::getId)
+                .collect(Collectors.toList());
     }
 
     private Pageable createPageable(int page, int size, String sortProperty) {
@@ -22,14 +22,6 @@ public class RedisService {
         redisTemplate.opsForValue().set(buildKey(type, id), value);
     }
 
-    public void incrementCnt(String type, String id, Long cnt){
-        redisTemplate.opsForValue().increment(buildKey(type, id), cnt);
-    }
-
-    public void decrementCnt(String type, String id, Long cnt){
-        redisTemplate.opsForValue().decrement(buildKey(type, id), cnt);
-    }
-
     // 데이터 존재 여부
     public boolean isDateExist(String type, String id) {
         return Boolean.TRUE.equals(redisTemplate.hasKey(buildKey(type, id)));
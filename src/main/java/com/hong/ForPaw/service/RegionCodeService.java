@@ -1,39 +1,28 @@
 package com.hong.ForPaw.service;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.hong.ForPaw.controller.DTO.RegionsDTO;
-import com.hong.ForPaw.domain.RegionCode;
+import com.hong.ForPaw.core.region.RegionHierarchy;
 import com.hong.ForPaw.domain.User.Role;
-import com.hong.ForPaw.repository.RegionCodeRepository;
+import com.hong.ForPaw.repository.RegionCodeJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
-import java.io.InputStream;
-
 @Service
 @RequiredArgsConstructor
 public class RegionCodeService {
 
-    private final RegionCodeRepository regionCodeRepository;
-    private final ObjectMapper mapper;
-
-    public void loadRegionCodeData(Role role) throws IOException {
-        InputStream inputStream = TypeReference.class.getResourceAsStream("/sigungu.json");
-        RegionsDTO json = mapper.readValue(inputStream, RegionsDTO.class);
+    private final RegionCodeJdbcRepository regionCodeJdbcRepository;
+    private final RegionHierarchy regionHierarchy;
 
-        json.regions().forEach(region ->
-                        region.subRegions().forEach(subRegion -> {
-                            RegionCode regionCode = RegionCode.builder()
-                                    .uprCd(region.orgCd())
-                                    .uprName(region.orgdownNm())
-                                    .orgCd(subRegion.orgCd())
-                                    .orgName(subRegion.orgdownNm())
-                                    .build();
+    // 지역 코드 반영 => 시군구 코드 기준 UPSERT라 여러 번 호출해도 안전함
+    // 반영 후 지역 코드가 비어있는 사용자/그룹을 이름으로 채운다
+    public void loadRegionCodeData(Role role) {
+        regionCodeJdbcRepository.upsertAll(regionHierarchy.sigungus());
+        backfillRegionCodes();
+    }
 
-                            regionCodeRepository.save(regionCode);
-                        })
-        );
+    // 서버 시작 시에도 실행 => 코드 없이 저장된 행(이전 버전에서 만든 사용자/그룹)이 관리자 호출을 기다리지 않고 채워짐
+    // 이미 채워진 행은 건드리지 않으므로 비어있는 행이 없으면 아무것도 바뀌지 않음
+    public void backfillRegionCodes() {
+        regionCodeJdbcRepository.backfillCodes(regionHierarchy.sidos(), regionHierarchy.sigungus());
     }
 }
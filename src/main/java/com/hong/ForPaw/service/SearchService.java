@@ -1,6 +1,8 @@
 package com.hong.ForPaw.service;
 
 import com.hong.ForPaw.controller.DTO.SearchResponse;
+import com.hong.ForPaw.core.utils.Cursor;
+import com.hong.ForPaw.domain.CounterType;
 import com.hong.ForPaw.domain.Group.Group;
 import com.hong.ForPaw.domain.Post.Post;
 import com.hong.ForPaw.domain.Shelter;
@@ -11,6 +13,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,7 +29,7 @@ public class SearchService {
     private final ShelterRepository shelterRepository;
     private final PostRepository postRepository;
     private final GroupRepository groupRepository;
-    private final RedisService redisService;
+    private final CounterService counterService;
 
     @Transactional
     public SearchResponse.SearchAllDTO searchAll(String keyword){
@@ -50,7 +53,16 @@ public class SearchService {
         Pageable pageable = createPageable(page, size, "id");
         List<SearchResponse.ShelterDTO> shelterDTOS = getShelterDTOsByKeyword(keyword, pageable);
 
-        return new SearchResponse.SearchShelterListDTO(shelterDTOS);
+        return new SearchResponse.SearchShelterListDTO(shelterDTOS, null);
+    }
+
+    // 커서 기반 조회 (id 순) => 커서 이후의 결과만 조회하고, 다음 페이지의 커서를 함께 반환 (COUNT 쿼리 없음)
+    @Transactional
+    public SearchResponse.SearchShelterListDTO searchShelterListByCursor(String keyword, String cursor, Integer size){
+        Slice<Shelter> shelterSlice = shelterRepository.findByNameContainingByCursor(keyword, Cursor.decodeId(cursor), createPageable(0, size, "id"));
+        List<SearchResponse.ShelterDTO> shelterDTOS = toShelterDTOs(shelterSlice.getContent());
+
+        return new SearchResponse.SearchShelterListDTO(shelterDTOS, Cursor.next(shelterSlice, shelter -> Cursor.of(shelter.getId())));
     }
 
     @Transactional
@@ -58,7 +70,15 @@ public class SearchService {
         Pageable pageable =createPageable(page, size, "id");
         List<SearchResponse.PostDTO> postDTOS = getPostDTOsByKeyword(keyword, pageable);
 
-        return new SearchResponse.SearchPostListDTO(postDTOS);
+        return new SearchResponse.SearchPostListDTO(postDTOS, null);
+    }
+
+    @Transactional
+    public SearchResponse.SearchPostListDTO searchPostListByCursor(String keyword, String cursor, Integer size){
+        Slice<Post> postSlice = postRepository.findByTitleContainingByCursor(keyword, Cursor.decodeId(cursor), createPageable(0, size, "id"));
+        List<SearchResponse.PostDTO> postDTOS = toPostDTOs(postSlice.getContent());
+
+        return new SearchResponse.SearchPostListDTO(postDTOS, Cursor.next(postSlice, post -> Cursor.of(post.getId())));
     }
 
     @Transactional
@@ -66,13 +86,24 @@ public class SearchService {
         Pageable pageable =createPageable(page, size, "id");
         List<SearchResponse.GroupDTO> groupDTOS = getGroupDTOsByKeyword(keyword, pageable);
 
-        return new SearchResponse.SearchGroupListDTO(groupDTOS);
+        return new SearchResponse.SearchGroupListDTO(groupDTOS, null);
+    }
+
+    @Transactional
+    public SearchResponse.SearchGroupListDTO searchGroupListByCursor(String keyword, String cursor, Integer size){
+        Slice<Group> groupSlice = groupRepository.findByNameContainingByCursor(keyword, Cursor.decodeId(cursor), createPageable(0, size, "id"));
+        List<SearchResponse.GroupDTO> groupDTOS = toGroupDTOs(groupSlice.getContent());
+
+        return new SearchResponse.SearchGroupListDTO(groupDTOS, Cursor.next(groupSlice, group -> Cursor.of(group.getId())));
     }
 
     private List<SearchResponse.ShelterDTO> getShelterDTOsByKeyword(String keyword, Pageable pageable){
         Page<Shelter> shelterPage = shelterRepository.findByNameContaining(keyword, pageable);
+        return toShelterDTOs(shelterPage.getContent());
+    }
 
-        List<SearchResponse.ShelterDTO> shelterDTOS = shelterPage.getContent().stream()
+    private List<SearchResponse.ShelterDTO> toShelterDTOs(List<Shelter> shelters){
+        List<SearchResponse.ShelterDTO> shelterDTOS = shelters.stream()
                 .filter(shelter -> shelter.getAnimalCnt() > 0)
                 .map(shelter -> new SearchResponse.ShelterDTO(shelter.getId(), shelter.getName()))
                 .collect(Collectors.toList());
@@ -83,15 +114,24 @@ public class SearchService {
     private List<SearchResponse.PostDTO> getPostDTOsByKeyword(String keyword, Pageable pageable){
         // PostImages는 배치로 가져온다
         Page<Post> postPage = postRepository.findByTitleContaining(keyword, pageable);
+        return toPostDTOs(postPage.getContent());
+    }
 
-        List<SearchResponse.PostDTO> postDTOS = postPage.getContent().stream()
+    private List<SearchResponse.PostDTO> toPostDTOs(List<Post> posts){
+        // 페이지에 포함된 게시글들의 댓글 수, 좋아요 수를 한 번에 조회
+        List<Long> postIds = posts.stream()
+                .map(Post::getId)
+                .collect(Collectors.toList());
+        CounterService.Counts counts = counterService.getCounts(postIds, CounterType.commentNum, CounterType.postLikeNum);
+
+        List<SearchResponse.PostDTO> postDTOS = posts.stream()
                 .map(post -> {
                     List<SearchResponse.PostImageDTO> postImageDTOS = post.getPostImages().stream()
                             .map(postImage -> new SearchResponse.PostImageDTO(postImage.getId(), postImage.getImageURL()))
                             .collect(Collectors.toList());
 
-                    Long commentNum = redisService.getDataInLong("commentNum", post.getId().toString());
-                    Long likeNum = redisService.getDataInLong("postLikeNum", post.getId().toString());
+                    Long commentNum = counts.get(CounterType.commentNum, post.getId());
+                    Long likeNum = counts.get(CounterType.postLikeNum, post.getId());
 
                     return new SearchResponse.PostDTO(
                             post.getId(),
@@ -109,11 +149,19 @@ public class SearchService {
 
     private List<SearchResponse.GroupDTO> getGroupDTOsByKeyword(String keyword, Pageable pageable){
         Page<Group> groupPage = groupRepository.findByNameContaining(keyword, pageable);
+        return toGroupDTOs(groupPage.getContent());
+    }
+
+    private List<SearchResponse.GroupDTO> toGroupDTOs(List<Group> groups){
+        List<Long> groupIds = groups.stream()
+                .map(Group::getId)
+                .collect(Collectors.toList());
+        CounterService.Counts counts = counterService.getCounts(groupIds, CounterType.groupParticipantNum, CounterType.groupLikeNum);
 
-        List<SearchResponse.GroupDTO> groupDTOS = groupPage.getContent().stream()
+        List<SearchResponse.GroupDTO> groupDTOS = groups.stream()
                 .map(group -> {
-                    Long participantNum = redisService.getDataInLong("participantNum", group.getId().toString());
-                    Long likeNum = redisService.getDataInLong("groupLikeNum", group.getId().toString());
+                    Long participantNum = counts.get(CounterType.groupParticipantNum, group.getId());
+                    Long likeNum = counts.get(CounterType.groupLikeNum, group.getId());
 
                     return new SearchResponse.GroupDTO(
                         group.getId(),
@@ -0,0 +1,111 @@
+package com.hong.ForPaw.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hong.ForPaw.controller.DTO.CentroidsDTO;
+import com.hong.ForPaw.core.errors.CustomException;
+import com.hong.ForPaw.core.errors.ExceptionCode;
+import com.hong.ForPaw.core.geo.GeoPoint;
+import com.hong.ForPaw.core.geo.SpatialGrid;
+import com.hong.ForPaw.core.region.RegionHierarchy;
+import com.hong.ForPaw.domain.ShelterLocation;
+import com.hong.ForPaw.domain.User.User;
+import com.hong.ForPaw.repository.ShelterRepository;
+import com.hong.ForPaw.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 거리순 조회 => 시군구 중심 좌표(sigungu_centroid.json)로 사용자와 보호소의 위치를 정하고,
+// 동물이 있는 보호소를 격자 색인에 올려둔 뒤 메모리에서 가까운 순으로 찾는다 (DB 정렬 없음)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ShelterLocationService {
+
+    // 격자 한 칸의 크기 (약 20km)
+    private static final double CELL_DEGREE = 0.2;
+
+    private final ShelterRepository shelterRepository;
+    private final UserRepository userRepository;
+    private final RegionHierarchy regionHierarchy;
+    private final ObjectMapper mapper;
+
+    // 시군구 코드 => 중심 좌표, 시도 코드 => 좌표 (시도는 소속 시군구 중심점의 평균)
+    private final Map<Integer, GeoPoint> centroids = new HashMap<>();
+    private final Map<Integer, GeoPoint> sidoCentroids = new HashMap<>();
+
+    private volatile SpatialGrid<NearShelter> shelterGrid = new SpatialGrid<>(List.of(), NearShelter::point, CELL_DEGREE);
+
+    @PostConstruct
+    public void loadCentroids() throws IOException {
+        try (InputStream inputStream = getClass().getResourceAsStream("/sigungu_centroid.json")) {
+            mapper.readValue(inputStream, CentroidsDTO.class).centroids()
+                    .forEach(centroid -> centroids.put(centroid.orgCd(), new GeoPoint(centroid.lat(), centroid.lng())));
+        }
+
+        Map<Integer, double[]> sums = new HashMap<>();
+        for (RegionHierarchy.Sigungu sigungu : regionHierarchy.sigungus()) {
+            GeoPoint point = centroids.get(sigungu.orgCd());
+            if (point == null) continue;
+
+            double[] sum = sums.computeIfAbsent(sigungu.uprCd(), uprCd -> new double[3]);
+            sum[0] += point.lat();
+            sum[1] += point.lng();
+            sum[2]++;
+        }
+
+        sums.forEach((uprCd, sum) -> sidoCentroids.put(uprCd, new GeoPoint(sum[0] / sum[2], sum[1] / sum[2])));
+    }
+
+    // 보호소의 동물 수는 수집 때마다 바뀌므로 주기적으로 색인을 새로 만들어서 교체
+    @Scheduled(initialDelay = 0, fixedDelayString = "${shelter.location.refresh-ms:600000}")
+    public void refreshShelterGrid() {
+        List<NearShelter> shelters = new ArrayList<>();
+        for (ShelterLocation location : shelterRepository.findLocations()) {
+            GeoPoint point = centroids.get(location.orgCd());
+            if (point == null) continue;
+
+            shelters.add(new NearShelter(location.shelterId(), location.name(), location.animalCnt(), point));
+        }
+
+        shelterGrid = new SpatialGrid<>(shelters, NearShelter::point, CELL_DEGREE);
+    }
+
+    // 사용자의 지역(시도, 시군구)의 중심 좌표, 시군구를 모르면 시도의 중심
+    public GeoPoint locateUser(Long userId) {
+        User user = userRepository.findById(userId).orElseThrow(
+                () -> new CustomException(ExceptionCode.USER_NOT_FOUND)
+        );
+
+        // 지역 코드가 아직 채워지지 않은 사용자는 이름으로 코드를 찾음
+        Integer orgCd = user.getOrgCd() != null ? user.getOrgCd() : regionHierarchy.findOrgCd(user.getRegion(), user.getSubRegion()).orElse(null);
+        Integer uprCd = user.getUprCd() != null ? user.getUprCd() : regionHierarchy.findUprCd(user.getRegion()).orElse(null);
+
+        GeoPoint point = orgCd == null ? null : centroids.get(orgCd);
+        if (point == null && uprCd != null) {
+            point = sidoCentroids.get(uprCd);
+        }
+
+        if (point == null) {
+            throw new CustomException(ExceptionCode.REGION_NOT_FOUND);
+        }
+
+        return point;
+    }
+
+    // origin에서 가까운 순으로 동물이 있는 보호소 최대 limit개
+    public List<NearShelter> findNearestShelters(GeoPoint origin, int limit) {
+        return shelterGrid.nearest(origin, limit);
+    }
+
+    public record NearShelter(Long shelterId, String name, Long animalCnt, GeoPoint point) {}
+}
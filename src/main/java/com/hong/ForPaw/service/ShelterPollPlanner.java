@@ -0,0 +1,99 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.Animal.AnimalDelta;
+import com.hong.ForPaw.domain.Shelter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+// 보호소별 수집 주기 결정 => 변경이 잦은 보호소는 자주, 조용한 보호소는 드물게 불러온다
+// 우선순위는 "지난 수집 이후 쌓였을 것으로 예상되는 변경 수" (변경률 x 경과 시간)
+@Component
+public class ShelterPollPlanner {
+
+    // 변경 이력이 없는 보호소도 경과 시간에 따라 우선순위가 오르도록 더해주는 값
+    private static final double BASE_CHANGE_RATE = 0.05;
+    // 새로 관측한 변경률의 반영 비율 (지수 이동 평균)
+    private static final double SMOOTHING = 0.3;
+
+    private final int requestBudgetPerPoll;
+    private final Duration minInterval;
+    private final Duration maxInterval;
+
+    public ShelterPollPlanner(@Value("${ingestion.poll.daily-request-budget:1000}") int dailyRequestBudget,
+                              @Value("${ingestion.poll.min-interval-hours:1}") long minIntervalHours,
+                              @Value("${ingestion.poll.max-interval-hours:24}") long maxIntervalHours) {
+        this.requestBudgetPerPoll = Math.max(dailyRequestBudget / 24, 1);
+        this.minInterval = Duration.ofHours(minIntervalHours);
+        this.maxInterval = Duration.ofHours(maxIntervalHours);
+    }
+
+    public List<Shelter> plan(List<Shelter> shelters, LocalDateTime now) {
+        return plan(shelters, now, 1.0);
+    }
+
+    // 이번 주기에 불러올 보호소 선택 => 예상 요청 수의 합이 예산을 넘지 않도록 우선순위 순으로 담는다
+    // 한 번도 불러오지 않았거나 maxInterval이 지난 보호소가 먼저 선택됨
+    // 보호소 일부(partition)만 계획하는 경우, 전체 예산 중 budgetShare만큼만 사용
+    public List<Shelter> plan(List<Shelter> shelters, LocalDateTime now, double budgetShare) {
+        List<Shelter> candidates = shelters.stream()
+                .filter(shelter -> shelter.getLastPolledAt() == null || !shelter.getLastPolledAt().plus(minInterval).isAfter(now))
+                .sorted(Comparator.comparing((Shelter shelter) -> isOverdue(shelter, now)).reversed()
+                        .thenComparing(Comparator.comparingDouble((Shelter shelter) -> priority(shelter, now)).reversed()))
+                .toList();
+
+        List<Shelter> selected = new ArrayList<>();
+        int budget = Math.max((int) Math.round(requestBudgetPerPoll * budgetShare), 1);
+
+        for (Shelter shelter : candidates) {
+            int cost = estimateRequests(shelter);
+            if (cost > budget) continue;
+
+            selected.add(shelter);
+            budget -= cost;
+        }
+
+        return selected;
+    }
+
+    // 이번 수집 결과로 변경률 갱신 => 시간당 변경 수를 지수 이동 평균으로 누적
+    public double nextChangeRate(Shelter shelter, AnimalDelta delta, LocalDateTime polledAt) {
+        int changes = delta.insertedIds().size() + delta.updatedIds().size() + delta.removedIds().size();
+
+        // 첫 수집은 기존 데이터가 모두 신규로 잡히므로 변경률 계산에서 제외
+        if (shelter.getLastPolledAt() == null) {
+            return shelter.getChangeRate() == null ? 0.0 : shelter.getChangeRate();
+        }
+
+        double hours = Math.max(Duration.between(shelter.getLastPolledAt(), polledAt).toMinutes() / 60.0, 1.0 / 60);
+        double observedRate = changes / hours;
+
+        return shelter.getChangeRate() == null
+                ? observedRate
+                : SMOOTHING * observedRate + (1 - SMOOTHING) * shelter.getChangeRate();
+    }
+
+    private boolean isOverdue(Shelter shelter, LocalDateTime now) {
+        return shelter.getLastPolledAt() == null || !shelter.getLastPolledAt().plus(maxInterval).isAfter(now);
+    }
+
+    private double priority(Shelter shelter, LocalDateTime now) {
+        if (shelter.getLastPolledAt() == null) return Double.MAX_VALUE;
+
+        double hours = Duration.between(shelter.getLastPolledAt(), now).toMinutes() / 60.0;
+        double changeRate = shelter.getChangeRate() == null ? 0.0 : shelter.getChangeRate();
+
+        return (changeRate + BASE_CHANGE_RATE) * hours;
+    }
+
+    // 보호소 하나를 불러오는 데 필요한 요청 수 (페이지 수)
+    private int estimateRequests(Shelter shelter) {
+        long animalCnt = shelter.getAnimalCnt() == null ? 0L : shelter.getAnimalCnt();
+        return (int) Math.max((animalCnt + AnimalIngestService.NUM_OF_ROWS - 1) / AnimalIngestService.NUM_OF_ROWS, 1);
+    }
+}
@@ -1,10 +1,17 @@
 package com.hong.ForPaw.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.hong.ForPaw.controller.DTO.ShelterResponse;
 import com.hong.ForPaw.core.errors.CustomException;
 import com.hong.ForPaw.core.errors.ExceptionCode;
+import com.hong.ForPaw.core.geo.GeoPoint;
+import com.hong.ForPaw.core.openapi.FeedArchive;
+import com.hong.ForPaw.core.openapi.FeedRun;
+import com.hong.ForPaw.core.openapi.OpenAPIClient;
+import com.hong.ForPaw.core.openapi.OpenAPIFeedParser;
+import com.hong.ForPaw.core.partition.PartitionCoordinator;
+import com.hong.ForPaw.core.utils.Cursor;
 import com.hong.ForPaw.domain.Animal.Animal;
+import com.hong.ForPaw.domain.CounterType;
 import com.hong.ForPaw.domain.RegionCode;
 import com.hong.ForPaw.controller.DTO.ShelterDTO;
 import com.hong.ForPaw.domain.Shelter;
@@ -13,42 +20,63 @@ import com.hong.ForPaw.repository.*;
 import com.hong.ForPaw.repository.Animal.AnimalRepository;
 import com.hong.ForPaw.repository.Animal.FavoriteAnimalRepository;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.*;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
-import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.IsoFields;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ShelterService {
 
     private final ShelterRepository shelterRepository;
+    private final ShelterJdbcRepository shelterJdbcRepository;
     private final RegionCodeRepository regionCodeRepository;
     private final AnimalRepository animalRepository;
     private final FavoriteAnimalRepository favoriteAnimalRepository;
-    private final RedisService redisService;
-    private final ObjectMapper mapper;
+    private final CounterService counterService;
+    private final AnimalPageCacheService animalPageCacheService;
+    private final ShelterLocationService shelterLocationService;
+    private final OpenAPIFeedParser feedParser;
     private final RestTemplate restTemplate;
-    private final WebClient webClient;
+    private final OpenAPIClient openAPIClient;
+    private final FeedArchive feedArchive;
+
+    private final PartitionCoordinator partitionCoordinator;
+    private final Scheduler jdbcScheduler;
+
+    private static final String SHELTER_FEED = "shelter";
+    private static final String SHELTER_JOB = "shelter";
+    private static final int SYNC_CHUNK_SIZE = 500;
+    private static final String NOTICE_SDT_SORT = "noticeSdt";
 
     @Value("${openAPI.service-key2}")
     private String serviceKey;
@@ -56,35 +84,84 @@ public class ShelterService {
     @Value("${openAPI.careURL}")
     private String baseUrl;
 
-    @Transactional
-    @Scheduled(cron = "0 0 6 * * MON") // 매주 월요일 새벽 6시에 실행
+    // 모든 지역의 보호소 데이터를 불러옴
     public void loadShelterData() {
-        List<RegionCode> regionCodeList = regionCodeRepository.findAll();
+        loadShelterData("all", regionCodeRepository.findAll())
+                .subscribe();
+    }
 
-        Flux.fromIterable(regionCodeList)
-                .delayElements(Duration.ofMillis(50))
-                .flatMap(regionCode -> {
-                    Integer uprCd = regionCode.getUprCd();
-                    Integer orgCd = regionCode.getOrgCd();
+    // 매주 월요일 새벽 6시부터 한 주 동안 한 번 실행
+    // 서버가 여러 대인 경우 시도(uprCd) 단위로 나눠서, 이번 주에 아직 처리되지 않은 시도를 가져가서 처리
+    @Scheduled(initialDelayString = "${ingestion.partition.sweep-interval-ms:60000}", fixedDelayString = "${ingestion.partition.sweep-interval-ms:60000}")
+    public void pollShelterData() {
+        LocalDateTime weekStart = LocalDateTime.now().minusHours(6);
+        String tickId = weekStart.get(IsoFields.WEEK_BASED_YEAR) + "W" + weekStart.get(IsoFields.WEEK_OF_WEEK_BASED_YEAR);
 
-                    URI uri = buildURI(baseUrl, serviceKey, uprCd, orgCd);
+        partitionCoordinator.sweep(SHELTER_JOB, tickId, Duration.ofDays(7), regionCodeRepository.findDistinctUprCd(),
+                uprCd -> loadShelterData("p" + uprCd, regionCodeRepository.findByUprCd(uprCd)));
+    }
+
+    // 지역별 응답이 오는 대로 SYNC_CHUNK_SIZE개씩 모아서 반영 => 전체 보호소를 메모리에 모으거나 하나의 트랜잭션으로 묶지 않음
+    // 이름과 지역이 그대로인 보호소는 DB에 쓰지 않음
+    private Mono<Void> loadShelterData(String partition, List<RegionCode> regionCodeList) {
+        return Mono.using(() -> feedArchive.startRun(SHELTER_FEED, partition), run -> onJdbc(shelterJdbcRepository::findSyncStates)
+                .flatMap(storedStates -> Flux.fromIterable(regionCodeList)
+                        .flatMap(regionCode -> fetchShelters(run, regionCode), openAPIClient.getMaxInFlight())
+                        .distinct(Shelter::getId)
+                        .filter(shelter -> isChanged(shelter, storedStates.get(shelter.getId())))
+                        .buffer(SYNC_CHUNK_SIZE)
+                        .concatMap(shelters -> onJdbc(() -> {
+                            shelterJdbcRepository.upsertAll(shelters);
+                            return shelters.size();
+                        }))
+                        .then()), FeedRun::close);
+    }
+
+    // 지역 하나의 보호소 목록 (재시도 시 중복되지 않도록 응답 단위로 모아서 내보냄)
+    private Flux<Shelter> fetchShelters(FeedRun run, RegionCode regionCode) {
+        Integer uprCd = regionCode.getUprCd();
+        Integer orgCd = regionCode.getOrgCd();
+
+        URI uri = buildURI(baseUrl, serviceKey, uprCd, orgCd);
+
+        return openAPIClient.fetch(run, uprCd + "/" + orgCd, uri, body -> processShelterData(body, regionCode).collectList())
+                .flatMapMany(Flux::fromIterable)
+                .onErrorResume(e -> {
+                    log.warn("지역 보호소 데이터 불러오기 실패 (uprCd={}, orgCd={}): {}", uprCd, orgCd, e.toString());
+                    return Flux.empty();
+                });
+    }
+
+    private boolean isChanged(Shelter shelter, ShelterJdbcRepository.SyncState storedState) {
+        return storedState == null
+                || !Objects.equals(storedState.name(), shelter.getName())
+                || !Objects.equals(storedState.regionCodeId(), shelter.getRegionCode().getId());
+    }
 
-                    return webClient.get()
-                            .uri(uri)
-                            .retrieve()
-                            .bodyToMono(String.class)
-                            .flatMapMany(response -> processShelterData(response, regionCode));
-                })
-                .collectList()
-                .subscribe(shelterRepository::saveAll);
+    // 블로킹 DB 작업은 jdbcScheduler에서 실행
+    private <T> Mono<T> onJdbc(Callable<T> task) {
+        return Mono.fromCallable(task).subscribeOn(jdbcScheduler);
     }
+
     @Transactional
     public ShelterResponse.FindShelterListDTO findShelterList(Pageable pageable){
 
         Page<Shelter> shelterPage = shelterRepository.findByAnimalCntGreaterThan(0L, pageable);
 
         List<ShelterResponse.ShelterDTO> shelterDTOS = shelterPage.getContent().stream()
-                .map(shelter -> new ShelterResponse.ShelterDTO(shelter.getId(), shelter.getName()))
+                .map(shelter -> new ShelterResponse.ShelterDTO(shelter.getId(), shelter.getName(), null))
+                .collect(Collectors.toList());
+
+        return new ShelterResponse.FindShelterListDTO(shelterDTOS);
+    }
+
+    // 사용자의 지역에서 가까운 순 => 메모리의 격자 색인에서 (page + 1) * size개를 찾고 해당 페이지만 잘라냄
+    public ShelterResponse.FindShelterListDTO findShelterListByDistance(Long userId, Integer page, Integer size){
+        GeoPoint origin = shelterLocationService.locateUser(userId);
+
+        List<ShelterResponse.ShelterDTO> shelterDTOS = shelterLocationService.findNearestShelters(origin, (page + 1) * size).stream()
+                .skip((long) page * size)
+                .map(shelter -> new ShelterResponse.ShelterDTO(shelter.shelterId(), shelter.name(), roundKm(origin.distanceKm(shelter.point()))))
                 .collect(Collectors.toList());
 
         return new ShelterResponse.FindShelterListDTO(shelterDTOS);
@@ -92,37 +169,45 @@ public class ShelterService {
 
     @Transactional
     public ShelterResponse.FindShelterByIdDTO findShelterById(Long shelterId, Long userId, Integer page, Integer size, String sort){
-        // 보호소가 존재하지 않으면 에러
-        Shelter shelter = shelterRepository.findById(shelterId).orElseThrow(
-                () -> new CustomException(ExceptionCode.SHELTER_NOT_FOUND)
-        );
+        ShelterResponse.FindShelterByIdDTO sharedPage = animalPageCacheService.get("shelter:" + shelterId + ":page:" + page + ":" + size + ":" + sort, () -> {
+            // 보호소가 존재하지 않으면 에러
+            Shelter shelter = shelterRepository.findById(shelterId).orElseThrow(
+                    () -> new CustomException(ExceptionCode.SHELTER_NOT_FOUND)
+            );
 
-        Pageable pageable = createPageable(page, size, sort);
-        Page<Animal> animalPage = animalRepository.findByShelterId(shelterId, pageable);
+            Pageable pageable = createPageable(page, size, sort);
+            Page<Animal> animalPage = animalRepository.findByShelterId(shelterId, pageable);
 
-        // 사용자가 '좋아요' 표시한 Animal의 ID 목록
-        List<Long> likedAnimalIds = favoriteAnimalRepository.findLikedAnimalIdsByUserId(userId);
+            return new ShelterResponse.FindShelterByIdDTO(shelter.getCareAddr(), shelter.getCareTel(), toSharedAnimalDTOS(animalPage.getContent()), null);
+        });
 
-        List<ShelterResponse.AnimalDTO> animalDTOS = animalPage.getContent().stream()
-                .map(animal -> {
-                    Long inquiryNum = redisService.getDataInLong("inquiryNum", animal.getId().toString());
-                    Long likeNum = redisService.getDataInLong("postLikeNum", animal.getId().toString());
+        return withUserOverlay(sharedPage, userId);
+    }
 
-                    return new ShelterResponse.AnimalDTO(
-                        animal.getId(),
-                        animal.getName(),
-                        animal.getAge(),
-                        animal.getGender(),
-                        animal.getSpecialMark(),
-                        animal.getRegion(),
-                        inquiryNum,
-                        likeNum,
-                        likedAnimalIds.contains(animal.getId()),
-                        animal.getProfileURL());
-                })
-                .collect(Collectors.toList());
+    // 커서 기반 조회 => 커서 이후의 동물만 조회하고, 다음 페이지의 커서를 함께 반환 (COUNT 쿼리 없음)
+    @Transactional
+    public ShelterResponse.FindShelterByIdDTO findShelterByIdByCursor(Long shelterId, Long userId, String cursor, Integer size, String sort){
+        // 공고 시작일 순이면 (noticeSdt, id), 그 외에는 id 순으로 이어서 조회
+        boolean byNoticeSdt = sort.startsWith(NOTICE_SDT_SORT);
+        Cursor lastCursor = Cursor.decode(cursor, byNoticeSdt ? NOTICE_SDT_SORT : Cursor.ID_SORT);
+        Long lastId = lastCursor == null ? null : lastCursor.id();
+
+        String cacheKey = "shelter:" + shelterId + ":cursor:" + (byNoticeSdt ? NOTICE_SDT_SORT : Cursor.ID_SORT) + ":" + size + ":" + cursor;
+        ShelterResponse.FindShelterByIdDTO sharedPage = animalPageCacheService.get(cacheKey, () -> {
+            // 보호소가 존재하지 않으면 에러
+            Shelter shelter = shelterRepository.findById(shelterId).orElseThrow(
+                    () -> new CustomException(ExceptionCode.SHELTER_NOT_FOUND)
+            );
 
-        return new ShelterResponse.FindShelterByIdDTO(shelter.getCareAddr(), shelter.getCareTel(), animalDTOS);
+            Slice<Animal> animalSlice = byNoticeSdt
+                    ? animalRepository.findByShelterIdByNoticeSdtCursor(shelterId, lastCursor == null ? null : lastCursor.valueAsDate(), lastId, PageRequest.of(0, size, Sort.by(Sort.Direction.DESC, NOTICE_SDT_SORT, "id")))
+                    : animalRepository.findByShelterIdByCursor(shelterId, lastId, createPageable(0, size, "id"));
+
+            String nextCursor = Cursor.next(animalSlice, animal -> byNoticeSdt ? Cursor.of(NOTICE_SDT_SORT, animal.getNoticeSdt(), animal.getId()) : Cursor.of(animal.getId()));
+            return new ShelterResponse.FindShelterByIdDTO(shelter.getCareAddr(), shelter.getCareTel(), toSharedAnimalDTOS(animalSlice.getContent()), nextCursor);
+        });
+
+        return withUserOverlay(sharedPage, userId);
     }
 
     // 데이터 정합성 문제로 인해 사용 '보류' => 조회 단계에서 animalCnt가 1이상인 것만 조회하도록 수정
@@ -136,18 +221,9 @@ public class ShelterService {
         shelterRepository.deleteZeroShelter();
     }
 
-    private Flux<Shelter> processShelterData(String response, RegionCode regionCode){
-        try {
-            ShelterDTO json = mapper.readValue(response, ShelterDTO.class);
-            List<ShelterDTO.itemDTO> itemDTOS = Optional.ofNullable(json.response().body().items())
-                    .map(ShelterDTO.ItemsDTO::item)
-                    .orElse(Collections.emptyList());
-
-            return Flux.fromIterable(itemDTOS)
-                    .map(itemDTO -> createShelter(regionCode, itemDTO.careRegNo(), itemDTO.careNm()));
-        } catch (Exception e) {
-            return Flux.empty();
-        }
+    private Flux<Shelter> processShelterData(Flux<DataBuffer> body, RegionCode regionCode){
+        return feedParser.parseItems(body, ShelterDTO.itemDTO.class, totalCount -> {})
+                .map(itemDTO -> createShelter(regionCode, itemDTO.careRegNo(), itemDTO.careNm()));
     }
 
     private Shelter createShelter(RegionCode regionCode, Long careRegNo, String careNm){
@@ -167,7 +243,57 @@ public class ShelterService {
         }
     }
 
+    // 캐시에 보관할 사용자와 무관한 부분 (카운터와 좋아요 여부는 비워둠)
+    private List<ShelterResponse.AnimalDTO> toSharedAnimalDTOS(List<Animal> animals) {
+        return animals.stream()
+                .map(animal -> new ShelterResponse.AnimalDTO(
+                        animal.getId(),
+                        animal.getName(),
+                        animal.getAge(),
+                        animal.getGender(),
+                        animal.getSpecialMark(),
+                        animal.getRegion(),
+                        null,
+                        null,
+                        null,
+                        animal.getProfileURL()))
+                .toList();
+    }
+
+    // 캐시된 페이지에 사용자의 좋아요 여부와 최신 카운터를 덧씌움
+    private ShelterResponse.FindShelterByIdDTO withUserOverlay(ShelterResponse.FindShelterByIdDTO sharedPage, Long userId) {
+        List<Long> animalIds = sharedPage.animals().stream()
+                .map(ShelterResponse.AnimalDTO::id)
+                .collect(Collectors.toList());
+
+        // 현재 페이지의 동물 중 사용자가 '좋아요' 표시한 Animal의 ID (페이지가 비어 있으면 조회하지 않음)
+        Set<Long> likedAnimalIds = animalIds.isEmpty() ? Set.of() : favoriteAnimalRepository.findLikedAnimalIds(userId, animalIds);
+
+        // 페이지에 포함된 동물들의 문의 수, 좋아요 수를 한 번에 조회
+        CounterService.Counts counts = counterService.getCounts(animalIds, CounterType.inquiryNum, CounterType.animalLikeNum);
+
+        List<ShelterResponse.AnimalDTO> animalDTOS = sharedPage.animals().stream()
+                .map(animalDTO -> new ShelterResponse.AnimalDTO(
+                        animalDTO.id(),
+                        animalDTO.name(),
+                        animalDTO.age(),
+                        animalDTO.gender(),
+                        animalDTO.specialMark(),
+                        animalDTO.region(),
+                        counts.get(CounterType.inquiryNum, animalDTO.id()),
+                        counts.get(CounterType.animalLikeNum, animalDTO.id()),
+                        likedAnimalIds.contains(animalDTO.id()),
+                        animalDTO.profileURL()))
+                .collect(Collectors.toList());
+
+        return new ShelterResponse.FindShelterByIdDTO(sharedPage.careAddr(), sharedPage.careTel(), animalDTOS, sharedPage.nextCursor());
+    }
+
     private Pageable createPageable(int page, int size, String sortProperty) {
         return PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortProperty));
     }
+
+    private Double roundKm(double km) {
+        return Math.round(km * 10) / 10.0;
+    }
 }
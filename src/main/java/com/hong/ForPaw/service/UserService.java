@@ -6,6 +6,8 @@ import com.hong.ForPaw.controller.DTO.UserRequest;
 import com.hong.ForPaw.controller.DTO.UserResponse;
 import com.hong.ForPaw.core.errors.CustomException;
 import com.hong.ForPaw.core.errors.ExceptionCode;
+import com.hong.ForPaw.core.region.RegionHierarchy;
+import com.hong.ForPaw.domain.CounterType;
 import com.hong.ForPaw.domain.User.Role;
 import com.hong.ForPaw.domain.User.User;
 import com.hong.ForPaw.repository.Alarm.AlarmRepository;
@@ -56,9 +58,11 @@ public class UserService {
     private final PostReadStatusRepository postReadStatusRepository;
     private final ChatUserRepository chatUserRepository;
     private final RedisService redisService;
+    private final CounterService counterService;
     private final JavaMailSender mailSender;
     private final WebClient webClient;
     private final BrokerService brokerService;
+    private final RegionHierarchy regionHierarchy;
 
     @Value("${spring.mail.username}")
     private String fromEmail;
@@ -169,6 +173,8 @@ public class UserService {
                 .profileURL(requestDTO.profileURL())
                 .region(requestDTO.region())
                 .subRegion(requestDTO.subRegion())
+                .uprCd(regionHierarchy.findUprCd(requestDTO.region()).orElse(null))
+                .orgCd(regionHierarchy.findOrgCd(requestDTO.region(), requestDTO.subRegion()).orElse(null))
                 .build();
 
         userRepository.save(user);
@@ -195,6 +201,8 @@ public class UserService {
                 .profileURL(requestDTO.profileURL())
                 .region(requestDTO.region())
                 .subRegion(requestDTO.subRegion())
+                .uprCd(regionHierarchy.findUprCd(requestDTO.region()).orElse(null))
+                .orgCd(regionHierarchy.findOrgCd(requestDTO.region(), requestDTO.subRegion()).orElse(null))
                 .build();
 
         userRepository.save(user);
@@ -302,7 +310,9 @@ public class UserService {
         if(userRepository.existsByNickWithRemoved(user.getNickName()))
             throw new CustomException(ExceptionCode.USER_NICKNAME_EXIST);
 
-        user.updateProfile(requestDTO.nickName(),requestDTO.region(), requestDTO.subRegion(), requestDTO.profileURL());
+        Integer uprCd = regionHierarchy.findUprCd(requestDTO.region()).orElse(null);
+        Integer orgCd = regionHierarchy.findOrgCd(requestDTO.region(), requestDTO.subRegion()).orElse(null);
+        user.updateProfile(requestDTO.nickName(),requestDTO.region(), requestDTO.subRegion(), uprCd, orgCd, requestDTO.profileURL());
     }
 
     @Transactional
@@ -368,14 +378,14 @@ public class UserService {
         chatUserRepository.deleteAllByUserId(userId);
         groupUserRepository.findAllByUserIdWithGroup(userId).forEach(
                 groupUser -> {
-                    redisService.decrementCnt("groupParticipantNum", groupUser.getGroup().getId().toString(), 1L);
+                    counterService.decrement(CounterType.groupParticipantNum, groupUser.getGroup().getId());
                     groupUserRepository.delete(groupUser);
                 }
         );
 
         meetingUserRepository.findAllByUserIdWithMeeting(userId).forEach(
                 meetingUser -> {
-                    redisService.decrementCnt("meetingParticipantNum", meetingUser.getMeeting().getId().toString(), 1L);
+                    counterService.decrement(CounterType.meetingParticipantNum, meetingUser.getMeeting().getId());
                     meetingUserRepository.delete(meetingUser);
                 }
         );
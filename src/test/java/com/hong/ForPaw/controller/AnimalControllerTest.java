@@ -47,6 +47,136 @@ class AnimalControllerTest {
         result.andExpect(jsonPath("$.success").value("true"));
     }
 
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 보호동물_목록_커서_조회_성공() throws Exception {
+
+        // given
+        // when => page 없이 요청하면 커서 방식 (첫 페이지)
+        ResultActions result = mvc.perform(
+                get("/api/animals")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("size", "10")
+                        .param("sort", "noticeSdt")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("true"));
+    }
+
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 보호동물_목록_커서_조회_실패() throws Exception {
+
+        // given
+        String cursor = "wrong-cursor";
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/animals")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("cursor", cursor)
+                        .param("size", "10")
+                        .param("sort", "noticeSdt")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("false"));
+    }
+
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 보호동물_거리순_조회_성공() throws Exception {
+
+        // given
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/animals")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("size", "10")
+                        .param("sort", "distance")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("true"));
+    }
+
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 추천_동물_조회_성공() throws Exception {
+
+        // given
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/animals/recommend")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("size", "10")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("true"));
+    }
+
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 보호동물_필터_조회_성공() throws Exception {
+
+        // given
+        String species = "DOG";
+        String state = "PROTECTED";
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/animals/filter")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("species", species)
+                        .param("state", state)
+                        .param("uprCd", "6110000")
+                        .param("size", "10")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("true"));
+    }
+
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 지역별_동물_수_조회_성공() throws Exception {
+
+        // given
+        String uprCd = "6270000";
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/animals/facets")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("uprCd", uprCd)
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("true"));
+    }
+
     @Test
     @WithUserDetails(value = "yg04076@naver.com")
     public void 보호동물_조회_성공() throws Exception {
@@ -274,4 +404,25 @@ class AnimalControllerTest {
 
         result.andExpect(jsonPath("$.success").value("true"));
     }
+
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 수집_실행_기록_조회_실패() throws Exception {
+
+        // given
+        // 관리자가 아닌 사용자
+
+        // when
+        ResultActions result = mvc.perform(
+                get("/api/animals/import/runs")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("size", "10")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : "+responseBody);
+
+        result.andExpect(jsonPath("$.success").value("false"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.hong.ForPaw.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithUserDetails;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+
+@AutoConfigureMockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@ActiveProfiles("local")
+class CounterControllerTest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 카운터_저장방식_변경_실패() throws Exception {
+
+        // given
+        // 관리자가 아닌 사용자
+
+        // when
+        ResultActions result = mvc.perform(
+                post("/api/counters/migrate")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : "+responseBody);
+
+        result.andExpect(jsonPath("$.success").value("false"));
+    }
+
+    @Test
+    @WithUserDetails(value = "yg04076@naver.com")
+    public void 카운터_벤치마크_실패() throws Exception {
+
+        // given
+        // 관리자가 아닌 사용자
+
+        // when
+        ResultActions result = mvc.perform(
+                post("/api/counters/benchmark")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+                        .param("num", "1000")
+        );
+
+        // then
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : "+responseBody);
+
+        result.andExpect(jsonPath("$.success").value("false"));
+    }
+}
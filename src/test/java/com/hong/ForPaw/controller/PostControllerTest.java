@@ -255,6 +255,28 @@ class PostControllerTest {
         result.andExpect(jsonPath("$.success").value("true"));
     }
 
+    @Test
+    @WithUserDetails(value = "yg040762@naver.com")
+    public void 게시글_좋아요_취소_성공() throws Exception {
+        // given
+        Long postId = 1L;
+        mvc.perform(
+                post("/api/posts/"+postId+"/like")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+        );
+
+        // when
+        ResultActions result = mvc.perform(
+                post("/api/posts/"+postId+"/like")
+                        .contentType(MediaType.APPLICATION_JSON_VALUE)
+        );
+
+        String responseBody = result.andReturn().getResponse().getContentAsString();
+        System.out.println("테스트 : " + responseBody);
+
+        result.andExpect(jsonPath("$.success").value("true"));
+    }
+
     @Test
     @WithUserDetails(value = "yg04076@naver.com")
     public void 게시글_좋아요_실패_자신의_글에_좋아요() throws Exception {
@@ -0,0 +1,106 @@
+package com.hong.ForPaw.core.counter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    @Test
+    public void 연속_실패하면_열리고_시험_호출이_성공하면_닫힘() throws Exception {
+
+        // given
+        CircuitBreaker breaker = new CircuitBreaker(3, 50);
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            breaker.tryAcquire();
+            breaker.recordFailure();
+        }
+        boolean acquiredWhileOpen = breaker.tryAcquire();
+
+        Thread.sleep(60);
+        boolean probe = breaker.tryAcquire();
+        boolean secondProbe = breaker.tryAcquire();
+        breaker.recordSuccess();
+
+        // then
+        assertThat(acquiredWhileOpen).isFalse();
+        assertThat(probe).isTrue();
+        assertThat(secondProbe).isFalse();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    public void 시험_호출이_실패하면_다시_열림() throws Exception {
+
+        // given
+        CircuitBreaker breaker = new CircuitBreaker(1, 50);
+        breaker.tryAcquire();
+        breaker.recordFailure();
+
+        // when
+        Thread.sleep(60);
+        breaker.tryAcquire();
+        breaker.recordFailure();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void 시험_호출이_결과_없이_끝나면_다음_호출이_다시_시험함() throws Exception {
+
+        // given
+        CircuitBreaker breaker = new CircuitBreaker(1, 50);
+        breaker.tryAcquire();
+        breaker.recordFailure();
+        Thread.sleep(60);
+
+        // when
+        boolean probe = breaker.tryAcquire();
+        breaker.release();
+        boolean nextProbe = breaker.tryAcquire();
+
+        // then
+        assertThat(probe).isTrue();
+        assertThat(nextProbe).isTrue();
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+    }
+
+    @Test
+    public void 다른_스레드의_시험_호출은_되돌리지_않음() throws Exception {
+
+        // given
+        CircuitBreaker breaker = new CircuitBreaker(1, 50);
+        breaker.tryAcquire();
+        breaker.recordFailure();
+        Thread.sleep(60);
+        breaker.tryAcquire();
+
+        // when
+        Thread other = new Thread(breaker::release);
+        other.start();
+        other.join();
+
+        // then
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    public void 닫혀_있을_때_성공하면_연속_실패_수가_초기화됨() {
+
+        // given
+        CircuitBreaker breaker = new CircuitBreaker(2, 50);
+
+        // when
+        breaker.recordFailure();
+        breaker.recordSuccess();
+        breaker.recordFailure();
+
+        // then
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+}
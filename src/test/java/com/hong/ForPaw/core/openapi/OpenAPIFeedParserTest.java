@@ -0,0 +1,105 @@
+package com.hong.ForPaw.core.openapi;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpenAPIFeedParserTest {
+
+    private final OpenAPIFeedParser parser = new OpenAPIFeedParser(new ObjectMapper());
+
+    @Test
+    public void item_배열을_하나씩_읽고_totalCount를_전달함() {
+
+        // given
+        String body = response("{\"item\":[" + item(1L, "보호중") + "," + item(2L, "종료(입양)") + "]}", 2);
+        AtomicInteger totalCount = new AtomicInteger(-1);
+
+        // when
+        List<Item> items = parse(body.getBytes(StandardCharsets.UTF_8), totalCount);
+
+        // then
+        assertThat(items).containsExactly(new Item("1", "보호중"), new Item("2", "종료(입양)"));
+        assertThat(totalCount).hasValue(2);
+    }
+
+    @Test
+    public void item이_하나뿐이면_배열_없이_와도_읽음() {
+
+        // given
+        String body = response("{\"item\":" + item(1L, "보호중") + "}", 1);
+
+        // when
+        List<Item> items = parse(body.getBytes(StandardCharsets.UTF_8), new AtomicInteger());
+
+        // then
+        assertThat(items).containsExactly(new Item("1", "보호중"));
+    }
+
+    @Test
+    public void 결과가_없어_items가_빈_문자열이면_빈_목록() {
+
+        // given
+        // 결과가 없으면 items가 객체가 아니라 빈 문자열로 옴
+        String body = response("\"\"", 0);
+        AtomicInteger totalCount = new AtomicInteger(-1);
+
+        // when
+        List<Item> items = parse(body.getBytes(StandardCharsets.UTF_8), totalCount);
+
+        // then
+        assertThat(items).isEmpty();
+        assertThat(totalCount).hasValue(0);
+    }
+
+    @Test
+    public void 토큰과_한글_중간에서_잘린_청크도_같은_결과() {
+
+        // given
+        byte[] body = response("{\"item\":[" + item(411111202400001L, "보호중") + "," + item(411111202400002L, "종료(입양)") + "]}", 2)
+                .getBytes(StandardCharsets.UTF_8);
+        List<Item> expected = List.of(new Item("411111202400001", "보호중"), new Item("411111202400002", "종료(입양)"));
+
+        // when & then
+        // 모든 위치에서 두 청크로 나눠봄 => 필드 이름, 숫자, UTF-8 멀티바이트 문자 중간에서 잘리는 경우를 모두 포함
+        for (int split = 1; split < body.length; split++) {
+            AtomicInteger totalCount = new AtomicInteger(-1);
+            List<Item> items = parse(Arrays.copyOfRange(body, 0, split), Arrays.copyOfRange(body, split, body.length), totalCount);
+
+            assertThat(items).as("split at %d", split).isEqualTo(expected);
+            assertThat(totalCount).as("split at %d", split).hasValue(2);
+        }
+    }
+
+    private List<Item> parse(byte[] body, AtomicInteger totalCount) {
+        return parser.parseItems(Flux.just(wrap(body)), Item.class, totalCount::set).collectList().block();
+    }
+
+    private List<Item> parse(byte[] first, byte[] second, AtomicInteger totalCount) {
+        return parser.parseItems(Flux.just(wrap(first), wrap(second)), Item.class, totalCount::set).collectList().block();
+    }
+
+    private DataBuffer wrap(byte[] bytes) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+    }
+
+    private String response(String items, int totalCount) {
+        return "{\"response\":{\"header\":{\"resultCode\":\"00\"},\"body\":{\"items\":" + items + ","
+                + "\"numOfRows\":1000,\"pageNo\":1,\"totalCount\":" + totalCount + "}}}";
+    }
+
+    private String item(Long desertionNo, String processState) {
+        return "{\"desertionNo\":\"" + desertionNo + "\",\"processState\":\"" + processState + "\"}";
+    }
+
+    record Item(String desertionNo, String processState) {}
+}
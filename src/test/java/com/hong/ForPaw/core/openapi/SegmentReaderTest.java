@@ -0,0 +1,78 @@
+package com.hong.ForPaw.core.openapi;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SegmentReaderTest {
+
+    private static final byte[] BODY = "{\"response\":{\"body\":{\"items\":{\"item\":[]}}}}".getBytes(StandardCharsets.UTF_8);
+
+    @TempDir
+    Path runDir;
+
+    @Test
+    public void 기록한_응답을_그대로_읽음() throws Exception {
+
+        // given
+        write("page-1", BODY, checksum(BODY));
+
+        // when
+        byte[] read = read("page-1");
+
+        // then
+        assertThat(read).isEqualTo(BODY);
+    }
+
+    @Test
+    public void CRC32가_다르면_오류() throws Exception {
+
+        // given
+        // 압축은 정상적으로 풀리지만 기록된 원본과 다른 레코드
+        write("page-1", BODY, checksum(BODY) ^ 1);
+
+        // when & then
+        // block()은 checked 예외를 감싸서 던짐
+        assertThatThrownBy(() -> read("page-1"))
+                .hasCauseInstanceOf(IOException.class)
+                .hasRootCauseInstanceOf(DataFormatException.class);
+    }
+
+    private void write(String key, byte[] body, long checksum) throws IOException {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(body);
+        deflater.finish();
+
+        byte[] compressed = new byte[body.length + 64];
+        int length = deflater.deflate(compressed);
+        deflater.end();
+
+        try (SegmentWriter writer = new SegmentWriter(runDir)) {
+            writer.append(key, compressed, length, checksum);
+        }
+    }
+
+    private byte[] read(String key) throws IOException {
+        DataBuffer joined = DataBufferUtils.join(new SegmentReader(runDir).read(key)).block();
+        byte[] bytes = new byte[joined.readableByteCount()];
+        joined.read(bytes);
+        return bytes;
+    }
+
+    private long checksum(byte[] bytes) {
+        CRC32 crc32 = new CRC32();
+        crc32.update(bytes);
+        return crc32.getValue();
+    }
+}
@@ -0,0 +1,60 @@
+package com.hong.ForPaw.core.openapi;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketTest {
+
+    @Test
+    public void 쌓인_토큰만큼은_기다리지_않음() {
+
+        // given
+        TokenBucket tokenBucket = new TokenBucket(10, 3);
+
+        // when & then
+        assertThat(tokenBucket.reserve()).isZero();
+        assertThat(tokenBucket.reserve()).isZero();
+        assertThat(tokenBucket.reserve()).isZero();
+    }
+
+    @Test
+    public void 토큰이_부족하면_다음_토큰_시점을_차례로_예약함() {
+
+        // given
+        // 초당 10개 => 토큰 하나에 100ms
+        TokenBucket tokenBucket = new TokenBucket(10, 1);
+        tokenBucket.reserve();
+
+        // when
+        long firstWait = tokenBucket.reserve();
+        long secondWait = tokenBucket.reserve();
+
+        // then
+        assertThat(TimeUnit.NANOSECONDS.toMillis(firstWait)).isBetween(90L, 100L);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(secondWait)).isBetween(190L, 200L);
+    }
+
+    @Test
+    public void 시간이_지나면_토큰이_다시_채워짐() throws Exception {
+
+        // given
+        TokenBucket tokenBucket = new TokenBucket(10, 1);
+        tokenBucket.reserve();
+
+        // when
+        Thread.sleep(120);
+
+        // then
+        assertThat(tokenBucket.reserve()).isZero();
+    }
+
+    @Test
+    public void 속도나_용량이_잘못되면_예외() {
+        assertThatThrownBy(() -> new TokenBucket(0, 1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new TokenBucket(10, 0.5)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,205 @@
+package com.hong.ForPaw.core.partition;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 한 JVM 안에 서버(ApplicationContext) 여러 개를 띄우고, Redis 대신 메모리 lease 저장소를 공유시켜서 테스트
+class PartitionCoordinatorTest {
+
+    private final InMemoryLeaseStore leaseStore = new InMemoryLeaseStore();
+    private final List<AnnotationConfigApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void closeNodes() {
+        nodes.forEach(AnnotationConfigApplicationContext::close);
+    }
+
+    @Test
+    public void 여러_서버가_partition을_나눠서_한번씩_처리() throws Exception {
+
+        // given
+        List<PartitionCoordinator> coordinators = List.of(startNode("node-1"), startNode("node-2"), startNode("node-3"));
+        List<Integer> partitions = IntStream.rangeClosed(1, 12).boxed().toList();
+        Map<Integer, List<String>> processed = new ConcurrentHashMap<>();
+
+        // when
+        long deadline = System.currentTimeMillis() + 5000;
+        while (processed.size() < partitions.size() && System.currentTimeMillis() < deadline) {
+            for (PartitionCoordinator coordinator : coordinators) {
+                coordinator.sweep("animal", "tick-1", Duration.ofMinutes(1), partitions, partition -> Mono.delay(Duration.ofMillis(20))
+                        .doOnNext(tick -> processed.computeIfAbsent(partition, key -> new CopyOnWriteArrayList<>()).add(coordinator.getNodeId()))
+                        .then());
+            }
+            Thread.sleep(10);
+        }
+
+        // 완료된 partition은 같은 tick에서 다시 가져가지 않음
+        Thread.sleep(100);
+        List<Integer> reclaimed = coordinators.get(0).sweep("animal", "tick-1", Duration.ofMinutes(1), partitions, partition -> Mono.empty());
+
+        // then
+        assertThat(processed.keySet()).containsExactlyInAnyOrderElementsOf(partitions);
+        assertThat(processed.values()).allSatisfy(nodeIds -> assertThat(nodeIds).hasSize(1));
+        assertThat(processed.values().stream().flatMap(List::stream).distinct().count()).isGreaterThan(1);
+        assertThat(reclaimed).isEmpty();
+    }
+
+    @Test
+    public void 서버가_종료되면_다른_서버가_partition을_이어받음() {
+
+        // given
+        PartitionCoordinator node1 = startNode("node-1");
+        PartitionCoordinator node2 = startNode("node-2");
+        List<Integer> partitions = List.of(1, 2);
+
+        List<Integer> claimedByNode1 = node1.sweep("animal", "tick-1", Duration.ofMinutes(1), partitions, partition -> Mono.never());
+        List<Integer> claimedBeforeShutdown = node2.sweep("animal", "tick-1", Duration.ofMinutes(1), partitions, partition -> Mono.empty());
+
+        // when
+        nodes.get(0).close();
+        List<Integer> claimedAfterShutdown = node2.sweep("animal", "tick-1", Duration.ofMinutes(1), partitions, partition -> Mono.empty());
+
+        // then
+        assertThat(claimedByNode1).containsExactlyInAnyOrder(1, 2);
+        assertThat(claimedBeforeShutdown).isEmpty();
+        assertThat(claimedAfterShutdown).containsExactlyInAnyOrder(1, 2);
+    }
+
+    @Test
+    public void lease가_만료되면_다른_서버가_partition을_이어받음() throws Exception {
+
+        // given
+        // lease를 연장하지 못하고 죽은 서버
+        leaseStore.tryAcquire("animal:tick-1:1", "crashed-node", Duration.ofMillis(100));
+        PartitionCoordinator node = startNode("node-1");
+
+        // when
+        List<Integer> claimedBeforeExpiry = node.sweep("animal", "tick-1", Duration.ofMinutes(1), List.of(1), partition -> Mono.empty());
+        Thread.sleep(200);
+        List<Integer> claimedAfterExpiry = node.sweep("animal", "tick-1", Duration.ofMinutes(1), List.of(1), partition -> Mono.empty());
+
+        // then
+        assertThat(claimedBeforeExpiry).isEmpty();
+        assertThat(claimedAfterExpiry).containsExactly(1);
+    }
+
+    @Test
+    public void lease를_잃으면_처리_중인_작업을_중단함() throws Exception {
+
+        // given
+        PartitionCoordinator node = startNode("node-1");
+        AtomicBoolean cancelled = new AtomicBoolean();
+        node.sweep("animal", "tick-1", Duration.ofMinutes(1), List.of(1), partition -> Mono.<Void>never().doOnCancel(() -> cancelled.set(true)));
+
+        // when
+        // 연장이 늦어지는 사이 다른 서버가 lease를 가져간 경우
+        leaseStore.handOver("animal:tick-1:1", "node-2", Duration.ofMinutes(1));
+        Thread.sleep(250);
+
+        // then
+        assertThat(cancelled).isTrue();
+    }
+
+    @Test
+    public void lease_연장_오류가_계속되면_만료_전에_작업을_중단함() throws Exception {
+
+        // given
+        PartitionCoordinator node = startNode("node-1");
+        AtomicBoolean cancelled = new AtomicBoolean();
+        node.sweep("animal", "tick-1", Duration.ofMinutes(1), List.of(1), partition -> Mono.<Void>never().doOnCancel(() -> cancelled.set(true)));
+
+        // when
+        leaseStore.failRenew.set(true);
+        Thread.sleep(150);
+        boolean cancelledAfterFirstError = cancelled.get();
+        Thread.sleep(300);
+
+        // then
+        // 한 번의 오류로는 중단하지 않고 다음 주기에 다시 연장을 시도함
+        assertThat(cancelledAfterFirstError).isFalse();
+        assertThat(cancelled).isTrue();
+    }
+
+    private PartitionCoordinator startNode(String nodeId) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(PartitionLeaseStore.class, () -> leaseStore);
+        context.registerBean(PartitionCoordinator.class, () -> new PartitionCoordinator(leaseStore, nodeId, 300, 2));
+        context.refresh();
+
+        nodes.add(context);
+        return context.getBean(PartitionCoordinator.class);
+    }
+
+    // Redis 대신 사용하는 lease 저장소 (모든 서버가 같은 인스턴스를 공유)
+    static class InMemoryLeaseStore implements PartitionLeaseStore {
+
+        private final Map<String, Lease> leases = new HashMap<>();
+        private final AtomicBoolean failRenew = new AtomicBoolean();
+
+        @Override
+        public synchronized boolean tryAcquire(String key, String owner, Duration ttl) {
+            if (find(key) != null) return false;
+
+            leases.put(key, new Lease(owner, expiresAt(ttl)));
+            return true;
+        }
+
+        @Override
+        public synchronized boolean renew(String key, String owner, Duration ttl) {
+            if (failRenew.get()) throw new IllegalStateException("Redis 연결 실패");
+            if (!isOwner(key, owner)) return false;
+
+            leases.put(key, new Lease(owner, expiresAt(ttl)));
+            return true;
+        }
+
+        @Override
+        public synchronized void release(String key, String owner) {
+            if (isOwner(key, owner)) {
+                leases.remove(key);
+            }
+        }
+
+        @Override
+        public synchronized void markDone(String key, String owner, Duration ttl) {
+            if (isOwner(key, owner)) {
+                leases.put(key, new Lease("done", expiresAt(ttl)));
+            }
+        }
+
+        // 다른 서버가 lease를 가져간 상황을 만듦
+        synchronized void handOver(String key, String owner, Duration ttl) {
+            leases.put(key, new Lease(owner, expiresAt(ttl)));
+        }
+
+        private Lease find(String key) {
+            Lease lease = leases.get(key);
+            return lease == null || lease.expiresAt() <= System.currentTimeMillis() ? null : lease;
+        }
+
+        private boolean isOwner(String key, String owner) {
+            Lease lease = find(key);
+            return lease != null && lease.owner().equals(owner);
+        }
+
+        private long expiresAt(Duration ttl) {
+            return System.currentTimeMillis() + ttl.toMillis();
+        }
+
+        private record Lease(String owner, long expiresAt) {}
+    }
+}
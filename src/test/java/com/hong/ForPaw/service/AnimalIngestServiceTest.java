@@ -0,0 +1,138 @@
+package com.hong.ForPaw.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hong.ForPaw.core.openapi.FeedArchive;
+import com.hong.ForPaw.core.openapi.FeedRun;
+import com.hong.ForPaw.core.openapi.OpenAPIClient;
+import com.hong.ForPaw.core.openapi.OpenAPIFeedParser;
+import com.hong.ForPaw.domain.RegionCode;
+import com.hong.ForPaw.domain.Shelter;
+import com.hong.ForPaw.repository.Animal.AnimalJdbcRepository;
+import com.hong.ForPaw.repository.ShelterJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 외부 API와 DB는 mock으로 두고, 보호소 하나를 여러 페이지로 불러오다가 중간에 실패하는 경우를 확인
+class AnimalIngestServiceTest {
+
+    private static final Long SHELTER_ID = 311322200900001L;
+    private static final Long STORED_ID = 411111202400001L;
+    private static final Long NEW_ID = 411111202400002L;
+    private static final Long MISSING_ID = 411111202400003L;
+
+    private final AnimalJdbcRepository animalJdbcRepository = mock(AnimalJdbcRepository.class);
+    private final ShelterJdbcRepository shelterJdbcRepository = mock(ShelterJdbcRepository.class);
+    private final OpenAPIClient openAPIClient = mock(OpenAPIClient.class);
+    private final FeedArchive feedArchive = mock(FeedArchive.class);
+    private final AnimalAlarmService animalAlarmService = mock(AnimalAlarmService.class);
+    private final AnimalPageCacheService animalPageCacheService = mock(AnimalPageCacheService.class);
+    private final AnimalDetailCacheService animalDetailCacheService = mock(AnimalDetailCacheService.class);
+    private final AnimalRecommendService animalRecommendService = mock(AnimalRecommendService.class);
+    private final AnimalFacetService animalFacetService = mock(AnimalFacetService.class);
+
+    private AnimalIngestService animalIngestService;
+
+    @BeforeEach
+    void setUp() {
+        animalIngestService = new AnimalIngestService(
+                new AnimalSyncService(animalJdbcRepository),
+                shelterJdbcRepository,
+                new OpenAPIFeedParser(new ObjectMapper()),
+                openAPIClient,
+                feedArchive,
+                new IngestionMetricsService(new SimpleMeterRegistry(), mock(StringRedisTemplate.class, RETURNS_DEEP_STUBS), new ObjectMapper().findAndRegisterModules(), 20),
+                new ShelterPollPlanner(1000, 1, 24),
+                animalAlarmService,
+                animalPageCacheService,
+                animalDetailCacheService,
+                animalRecommendService,
+                animalFacetService,
+                Schedulers.immediate());
+
+        ReflectionTestUtils.setField(animalIngestService, "serviceKey", "test-key");
+        ReflectionTestUtils.setField(animalIngestService, "baseUrl", "http://localhost/abandonmentPublic");
+        ReflectionTestUtils.setField(animalIngestService, "animalNames", new String[]{"보리", "콩이"});
+
+        when(feedArchive.startRun(anyString(), anyString())).thenReturn(mock(FeedRun.class));
+        when(openAPIClient.getMaxInFlight()).thenReturn(1);
+        when(animalFacetService.beginRun(any())).thenReturn(true);
+    }
+
+    @Test
+    public void 뒤_페이지가_실패해도_반영된_청크의_후속_처리는_실행됨() {
+
+        // given
+        // DB에는 보호중인 동물 둘 => 1페이지에서 하나는 입양 완료로 바뀌고 하나는 새로 들어오며, 나머지 하나는 2페이지에 있음
+        when(animalJdbcRepository.findSyncStatesByShelterId(anyLong())).thenReturn(Map.of(
+                STORED_ID, new AnimalJdbcRepository.SyncState(0L, "보호중", "보리", null),
+                MISSING_ID, new AnimalJdbcRepository.SyncState(0L, "보호중", "콩이", null)));
+
+        String firstPage = page(1500, item(STORED_ID, "종료(입양)"), item(NEW_ID, "보호중"));
+        when(openAPIClient.fetch(any(), anyString(), any(), any())).thenAnswer(invocation -> {
+            String key = invocation.getArgument(1);
+            if (key.endsWith("/2")) {
+                return Mono.error(new IllegalStateException("2페이지 요청 실패"));
+            }
+
+            Function<Flux<DataBuffer>, Mono<?>> handler = invocation.getArgument(3);
+            return handler.apply(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(firstPage.getBytes(StandardCharsets.UTF_8))));
+        });
+
+        Shelter shelter = Shelter.builder()
+                .id(SHELTER_ID)
+                .regionCode(RegionCode.builder().uprCd(6410000).orgCd(4170000).uprName("경기도").orgName("수원시").build())
+                .name("수원시 보호소")
+                .build();
+
+        // when
+        animalIngestService.ingest("p1", List.of(shelter)).block();
+
+        // then
+        // 1페이지는 DB에 반영되었고, 그 변경분의 알람, 상세 캐시 제거, 집계, 목록 캐시 버전 갱신이 모두 실행됨
+        verify(animalJdbcRepository).upsertAll(argThat(animals -> animals.size() == 2));
+        verify(animalAlarmService).notifyStateChanges(argThat(changes -> changes.size() == 1 && changes.get(0).animalId().equals(STORED_ID)));
+        verify(animalDetailCacheService).evict(argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(STORED_ID, NEW_ID))));
+        verify(animalFacetService).apply(argThat(facetDeltas -> !facetDeltas.isEmpty()));
+        verify(animalPageCacheService).bumpVersion();
+        verify(animalFacetService).endRun(any());
+
+        // 피드를 끝까지 읽지 못했으므로 사라진 동물 처리와 수집 상태 갱신은 하지 않음 (다음 수집에서 다시 시도)
+        verify(animalJdbcRepository, never()).softDeleteAll(any());
+        verify(shelterJdbcRepository).updatePollStates(List.of());
+    }
+
+    private String page(int totalCount, String... items) {
+        return "{\"response\":{\"header\":{\"resultCode\":\"00\"},\"body\":{\"items\":{\"item\":[" + String.join(",", items) + "]},"
+                + "\"numOfRows\":1000,\"pageNo\":1,\"totalCount\":" + totalCount + "}}}";
+    }
+
+    private String item(Long desertionNo, String processState) {
+        return "{\"desertionNo\":\"" + desertionNo + "\",\"happenDt\":\"20240101\",\"happenPlace\":\"수원시\",\"kindCd\":\"[개] 믹스견\","
+                + "\"colorCd\":\"흰색\",\"age\":\"2021(년생)\",\"weight\":\"5(Kg)\",\"noticeSdt\":\"20240101\",\"noticeEdt\":\"20240111\","
+                + "\"popfile\":\"http://localhost/1.jpg\",\"processState\":\"" + processState + "\",\"sexCd\":\"M\",\"neuterYn\":\"N\","
+                + "\"specialMark\":\"온순함\",\"careTel\":\"031-000-0000\",\"careAddr\":\"경기도 수원시\"}";
+    }
+}
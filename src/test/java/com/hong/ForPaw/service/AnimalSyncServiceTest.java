@@ -0,0 +1,119 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.Animal.Animal;
+import com.hong.ForPaw.domain.Animal.AnimalDelta;
+import com.hong.ForPaw.domain.Animal.AnimalFacet;
+import com.hong.ForPaw.domain.Animal.AnimalState;
+import com.hong.ForPaw.domain.Animal.Species;
+import com.hong.ForPaw.repository.Animal.AnimalJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AnimalSyncServiceTest {
+
+    private static final int UPR_CD = 6410000;
+    private static final Long SHELTER_ID = 311322200900001L;
+    private static final Long ADOPTED_ID = 411111202400001L;
+    private static final Long UNCHANGED_ID = 411111202400002L;
+    private static final Long MISSING_ID = 411111202400003L;
+    private static final Long NEW_ID = 411111202400004L;
+
+    private static final AnimalFacet PROTECTED_DOG = AnimalFacet.of(UPR_CD, Species.DOG, "M", AnimalState.PROTECTED);
+    private static final AnimalFacet ADOPTED_DOG = AnimalFacet.of(UPR_CD, Species.DOG, "M", AnimalState.ADOPTED);
+    private static final AnimalFacet PROTECTED_CAT = AnimalFacet.of(UPR_CD, Species.CAT, "F", AnimalState.PROTECTED);
+
+    private final AnimalJdbcRepository animalJdbcRepository = mock(AnimalJdbcRepository.class);
+    private final AnimalSyncService animalSyncService = new AnimalSyncService(animalJdbcRepository);
+
+    @BeforeEach
+    void setUp() {
+        // DB에는 보호중인 동물 셋
+        when(animalJdbcRepository.findSyncStatesByShelterId(anyLong())).thenReturn(Map.of(
+                ADOPTED_ID, new AnimalJdbcRepository.SyncState(1L, "보호중", "보리", PROTECTED_DOG),
+                UNCHANGED_ID, new AnimalJdbcRepository.SyncState(2L, "보호중", "콩이", PROTECTED_DOG),
+                MISSING_ID, new AnimalJdbcRepository.SyncState(3L, "보호중", "나비", PROTECTED_CAT)));
+    }
+
+    @Test
+    public void 청크마다_반영한_변경분을_돌려주고_전체_변경분을_누적함() {
+
+        // given
+        AnimalSyncService.Session session = animalSyncService.begin(SHELTER_ID);
+
+        // when
+        // 1청크: 입양 완료로 바뀐 동물과 새로 들어온 동물, 2청크: 그대로인 동물과 1청크에 나왔던 동물(중복)
+        AnimalDelta first = session.apply(List.of(
+                animal(ADOPTED_ID, 10L, "종료(입양)", Species.DOG, "M", AnimalState.ADOPTED),
+                animal(NEW_ID, 4L, "보호중", Species.CAT, "F", AnimalState.PROTECTED)));
+        AnimalDelta second = session.apply(List.of(
+                animal(UNCHANGED_ID, 2L, "보호중", Species.DOG, "M", AnimalState.PROTECTED),
+                animal(NEW_ID, 4L, "보호중", Species.CAT, "F", AnimalState.PROTECTED)));
+        AnimalDelta removal = session.finish();
+        AnimalDelta summary = session.summary();
+
+        // then
+        assertThat(first.insertedIds()).containsExactly(NEW_ID);
+        assertThat(first.updatedIds()).containsExactly(ADOPTED_ID);
+        assertThat(first.stateChanges()).containsExactly(new AnimalDelta.StateChange(ADOPTED_ID, "보리", "보호중", "종료(입양)"));
+        assertThat(first.facetDeltas()).isEqualTo(Map.of(PROTECTED_DOG, -1L, ADOPTED_DOG, 1L, PROTECTED_CAT, 1L));
+
+        assertThat(second.isEmpty()).isTrue();
+        assertThat(second.facetDeltas()).isEmpty();
+
+        // 피드에 나오지 않은 동물은 삭제 처리
+        assertThat(removal.removedIds()).containsExactly(MISSING_ID);
+        assertThat(removal.stateChanges()).containsExactly(new AnimalDelta.StateChange(MISSING_ID, "나비", "보호중", null));
+        assertThat(removal.facetDeltas()).isEqualTo(Map.of(PROTECTED_CAT, -1L));
+        verify(animalJdbcRepository).softDeleteAll(List.of(MISSING_ID));
+
+        // 고양이는 하나 들어오고 하나 사라져서 합계에서 빠짐
+        assertThat(summary.insertedIds()).containsExactly(NEW_ID);
+        assertThat(summary.updatedIds()).containsExactly(ADOPTED_ID);
+        assertThat(summary.removedIds()).containsExactly(MISSING_ID);
+        assertThat(summary.facetDeltas()).isEqualTo(Map.of(PROTECTED_DOG, -1L, ADOPTED_DOG, 1L));
+        assertThat(summary.liveCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void 반영에_실패한_청크는_누적하지_않음() {
+
+        // given
+        AnimalSyncService.Session session = animalSyncService.begin(SHELTER_ID);
+        doThrow(new QueryTimeoutException("timeout")).when(animalJdbcRepository).upsertAll(anyList());
+
+        // when
+        assertThatThrownBy(() -> session.apply(List.of(animal(NEW_ID, 4L, "보호중", Species.CAT, "F", AnimalState.PROTECTED))))
+                .isInstanceOf(QueryTimeoutException.class);
+
+        // then
+        AnimalDelta summary = session.summary();
+        assertThat(summary.isEmpty()).isTrue();
+        assertThat(summary.facetDeltas()).isEmpty();
+        assertThat(summary.liveCount()).isZero();
+    }
+
+    private Animal animal(Long id, Long fingerprint, String processState, Species species, String gender, AnimalState state) {
+        return Animal.builder()
+                .id(id)
+                .processState(processState)
+                .species(species)
+                .gender(gender)
+                .state(state)
+                .uprCd(UPR_CD)
+                .fingerprint(fingerprint)
+                .build();
+    }
+}
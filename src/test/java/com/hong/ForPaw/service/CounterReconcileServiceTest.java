@@ -0,0 +1,84 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.CounterType;
+import com.hong.ForPaw.repository.CounterJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CounterReconcileServiceTest {
+
+    private static final CounterType TYPE = CounterType.postLikeNum;
+
+    private final CounterService counterService = mock(CounterService.class);
+    private final CounterJdbcRepository counterJdbcRepository = mock(CounterJdbcRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CounterReconcileService counterReconcileService =
+            new CounterReconcileService(mock(StringRedisTemplate.class), counterService, counterJdbcRepository, meterRegistry);
+
+    @Test
+    public void 다시_확인해도_다른_카운터만_차이만큼_보정함() {
+
+        // given
+        // DB: 1번 5개, 2번 3개, 3번 0개 / Redis: 1번 5, 2번 1, 3번 2
+        when(counterJdbcRepository.findTrueCountsAfter(TYPE, 0, 500)).thenReturn(counts(1L, 5L, 2L, 3L, 3L, 0L));
+        when(counterJdbcRepository.findTrueCountsAfter(TYPE, 3, 500)).thenReturn(Map.of());
+        when(counterJdbcRepository.findTrueCounts(eq(TYPE), any())).thenReturn(counts(2L, 3L, 3L, 0L));
+
+        // 다시 읽는 사이 3번은 좋아요 취소가 반영되어 맞아짐
+        when(counterService.readCounts(any(), eq(TYPE))).thenReturn(
+                redis(1L, 5L, 2L, 1L, 3L, 2L),
+                redis(2L, 1L, 3L, 0L));
+
+        // when
+        CounterReconcileService.Drift drift = counterReconcileService.reconcile(TYPE);
+
+        // then
+        verify(counterService).adjustCounts(TYPE, Map.of(2L, 2L));
+        assertThat(drift).isEqualTo(new CounterReconcileService.Drift(3, 1, 2));
+        assertThat(meterRegistry.counter("counter.drift.keys", "type", TYPE.name()).count()).isEqualTo(1.0);
+        assertThat(meterRegistry.counter("counter.drift", "type", TYPE.name()).count()).isEqualTo(2.0);
+    }
+
+    @Test
+    public void 모두_맞으면_다시_세지_않음() {
+
+        // given
+        when(counterJdbcRepository.findTrueCountsAfter(TYPE, 0, 500)).thenReturn(counts(1L, 5L, 2L, 3L));
+        when(counterJdbcRepository.findTrueCountsAfter(TYPE, 2, 500)).thenReturn(Map.of());
+        when(counterService.readCounts(any(), eq(TYPE))).thenReturn(redis(1L, 5L, 2L, 3L));
+
+        // when
+        CounterReconcileService.Drift drift = counterReconcileService.reconcile(TYPE);
+
+        // then
+        verify(counterJdbcRepository, never()).findTrueCounts(any(), any());
+        verify(counterService, never()).adjustCounts(any(), anyMap());
+        assertThat(drift).isEqualTo(new CounterReconcileService.Drift(2, 0, 0));
+    }
+
+    // id, 값 순서로
+    private Map<Long, Long> counts(Long... idAndCounts) {
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        for (int i = 0; i < idAndCounts.length; i += 2) {
+            counts.put(idAndCounts[i], idAndCounts[i + 1]);
+        }
+        return counts;
+    }
+
+    private CounterService.Counts redis(Long... idAndCounts) {
+        return new CounterService.Counts(Map.of(TYPE, counts(idAndCounts)));
+    }
+}
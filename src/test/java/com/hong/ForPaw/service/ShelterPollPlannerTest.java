@@ -0,0 +1,119 @@
+package com.hong.ForPaw.service;
+
+import com.hong.ForPaw.domain.Animal.AnimalDelta;
+import com.hong.ForPaw.domain.Shelter;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class ShelterPollPlannerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 12, 0);
+
+    // 하루 240회 => 한 주기에 10회, 최소 1시간, 최대 24시간 간격
+    private final ShelterPollPlanner planner = new ShelterPollPlanner(240, 1, 24);
+
+    @Test
+    public void 처음이거나_오래된_보호소를_먼저_고르고_변경이_잦은_순으로_고름() {
+
+        // given
+        Shelter neverPolled = shelter(1L, null, null, 500L);
+        Shelter overdue = shelter(2L, NOW.minusHours(30), 0.0, 500L);
+        Shelter busy = shelter(3L, NOW.minusHours(3), 5.0, 500L);
+        Shelter quiet = shelter(4L, NOW.minusHours(3), 0.1, 500L);
+        Shelter recentlyPolled = shelter(5L, NOW.minusMinutes(30), 100.0, 500L);
+
+        // when
+        List<Shelter> planned = planner.plan(List.of(quiet, recentlyPolled, busy, overdue, neverPolled), NOW);
+
+        // then
+        // 최소 간격이 지나지 않은 보호소는 변경이 잦아도 제외
+        assertThat(planned).extracting(Shelter::getId).containsExactly(1L, 2L, 3L, 4L);
+    }
+
+    @Test
+    public void 예상_요청_수가_예산을_넘지_않게_고름() {
+
+        // given
+        // 동물 수 / 1000 (올림)이 요청 수 => 3 + 8 + 20 + 2
+        Shelter first = shelter(1L, NOW.minusHours(5), 3.0, 2500L);
+        Shelter second = shelter(2L, NOW.minusHours(5), 2.0, 8000L);
+        Shelter tooLarge = shelter(3L, NOW.minusHours(5), 1.0, 20000L);
+        Shelter last = shelter(4L, NOW.minusHours(5), 0.5, 1500L);
+
+        // when
+        List<Shelter> planned = planner.plan(List.of(first, second, tooLarge, last), NOW);
+        List<Shelter> partitionPlanned = planner.plan(List.of(first, second, tooLarge, last), NOW, 0.2);
+
+        // then
+        // 남은 예산에 들어가지 않는 보호소는 건너뛰고 다음 보호소를 담음
+        assertThat(planned).extracting(Shelter::getId).containsExactly(1L, 4L);
+        // 보호소 일부만 계획하면 예산도 그만큼만 (10 * 0.2 = 2)
+        assertThat(partitionPlanned).extracting(Shelter::getId).containsExactly(4L);
+    }
+
+    @Test
+    public void 변경률은_시간당_변경_수의_지수_이동_평균() {
+
+        // given
+        Shelter shelter = shelter(1L, NOW.minusHours(2), 1.0, 100L);
+        AnimalDelta delta = delta(4, 2, 2);
+
+        // when
+        double changeRate = planner.nextChangeRate(shelter, delta, NOW);
+
+        // then
+        // 관측값 8개 / 2시간 = 4 => 0.3 * 4 + 0.7 * 1
+        assertThat(changeRate).isCloseTo(1.9, within(1e-9));
+    }
+
+    @Test
+    public void 변경률이_없으면_관측값을_그대로_사용() {
+
+        // given
+        Shelter shelter = shelter(1L, NOW.minusHours(4), null, 100L);
+
+        // when
+        double changeRate = planner.nextChangeRate(shelter, delta(2, 0, 0), NOW);
+
+        // then
+        assertThat(changeRate).isCloseTo(0.5, within(1e-9));
+    }
+
+    @Test
+    public void 첫_수집은_변경률_계산에서_제외() {
+
+        // given
+        // 첫 수집은 기존 동물이 모두 신규로 잡힘
+        Shelter shelter = shelter(1L, null, null, 100L);
+
+        // when
+        double changeRate = planner.nextChangeRate(shelter, delta(100, 0, 0), NOW);
+
+        // then
+        assertThat(changeRate).isZero();
+    }
+
+    private Shelter shelter(Long id, LocalDateTime lastPolledAt, Double changeRate, Long animalCnt) {
+        Shelter shelter = Shelter.builder().id(id).name("보호소 " + id).build();
+        shelter.updateShelterInfo(null, null, animalCnt);
+        ReflectionTestUtils.setField(shelter, "lastPolledAt", lastPolledAt);
+        ReflectionTestUtils.setField(shelter, "changeRate", changeRate);
+        return shelter;
+    }
+
+    private AnimalDelta delta(int insertedNum, int updatedNum, int removedNum) {
+        return new AnimalDelta(ids(insertedNum), ids(updatedNum), ids(removedNum), List.of(), Map.of(), 0);
+    }
+
+    private List<Long> ids(int num) {
+        return LongStream.rangeClosed(1, num).boxed().toList();
+    }
+}